@@ -0,0 +1,151 @@
+package org.ghotibeaun.json.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import org.ghotibeaun.json.util.JSONGenerator;
+
+/**
+ * Documents shared by the benchmarks.  The small and medium documents are the test fixtures <code>observation-fhir.json</code>
+ * (about 1.5 KB) and <code>us-reps.json</code> (about 750 KB), loaded from the test classpath.  The large document is
+ * generated by wrapping copies of <code>us-reps.json</code> in an array (about 15 MB).
+ *
+ * <p>The remaining documents are generated shapes: <code>array</code> is a 100,000 element array of mixed numbers,
+ * booleans and small objects, <code>deep</code> nests objects and arrays 256 levels deep, and <code>strings</code> is
+ * an array of objects whose values are long strings with escaped and non-ASCII characters.</p>
+ *
+ * <p><code>generated</code> is a synthetic document from {@linkplain JSONGenerator}, 64 MB by default.  It isn't in
+ * any benchmark's default parameters; select it and set its size in MB with, for example,
+ * <code>-p corpus=generated -jvmArgsAppend -Dbenchmark.generated.mb=1024</code>.</p>
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+final class BenchmarkCorpus {
+    static final String SMALL = "small";
+    static final String MEDIUM = "medium";
+    static final String LARGE = "large";
+    static final String ARRAY = "array";
+    static final String DEEP = "deep";
+    static final String STRINGS = "strings";
+    static final String GENERATED = "generated";
+
+    private static final int LARGE_COPIES = 20;
+    private static final int ARRAY_LENGTH = 100000;
+    private static final int DEEP_LEVELS = 256;
+    private static final int STRING_COUNT = 20000;
+    private static final int GENERATED_MB = 64;
+
+    private BenchmarkCorpus() {
+        //private to prevent instantiation
+    }
+
+    /**
+     * Load a document from the corpus
+     * @param name the document: <code>small</code>, <code>medium</code>, <code>large</code>, <code>array</code>,
+     * <code>deep</code>, <code>strings</code> or <code>generated</code>
+     * @return the document's UTF-8 bytes
+     */
+    static byte[] load(String name) {
+        switch (name) {
+            case SMALL:
+                return resource("observation-fhir.json");
+            case MEDIUM:
+                return resource("us-reps.json");
+            case LARGE:
+                return repeat(resource("us-reps.json"), LARGE_COPIES);
+            case ARRAY:
+                return array(ARRAY_LENGTH);
+            case DEEP:
+                return deep(DEEP_LEVELS);
+            case STRINGS:
+                return strings(STRING_COUNT);
+            case GENERATED:
+                return new JSONGenerator().toBytes(Integer.getInteger("benchmark.generated.mb", GENERATED_MB) << 20);
+            default:
+                throw new IllegalArgumentException("Unknown corpus document: " + name);
+        }
+    }
+
+    /**
+     * Create an array containing copies of a document
+     * @param document the document
+     * @param copies the number of copies
+     * @return the array's bytes
+     */
+    static byte[] repeat(byte[] document, int copies) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(document.length * copies + copies + 1);
+        out.write('[');
+        for (int i = 0; i < copies; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.write(document, 0, document.length);
+        }
+        out.write(']');
+        return out.toByteArray();
+    }
+
+    private static byte[] array(int length) {
+        final StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < length; i++) {
+            json.append(i == 0 ? "" : ",");
+            switch (i % 4) {
+                case 0:
+                    json.append(i);
+                    break;
+                case 1:
+                    json.append(i * 1.25);
+                    break;
+                case 2:
+                    json.append(i % 3 == 0);
+                    break;
+                default:
+                    json.append("{\"id\":").append(i).append(",\"value\":").append(i * 1000000007L).append('}');
+            }
+        }
+        return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] deep(int levels) {
+        final StringBuilder json = new StringBuilder();
+        for (int level = 0; level < levels; level++) {
+            json.append("{\"level\":").append(level).append(",\"values\":[").append(level).append(',').append(level + 0.5)
+            .append("],\"child\":");
+        }
+        json.append("null");
+        for (int level = 0; level < levels; level++) {
+            json.append('}');
+        }
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] strings(int count) {
+        final StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            json.append(i == 0 ? "" : ",")
+            .append("{\"name\":\"Item ").append(i).append(" - a caf\u00e9 \u2603 description\",")
+            .append("\"text\":\"Line one of item ").append(i).append(" says \\\"hello\\\" to the world.\\nLine two has a tab\\t")
+            .append("and a path C:\\\\data\\\\").append(i).append(" with trailing text that makes the value longer\"}");
+        }
+        return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Load a test resource
+     * @param name the resource name
+     * @return the resource bytes
+     */
+    static byte[] resource(String name) {
+        try (InputStream in = BenchmarkCorpus.class.getResourceAsStream("/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("Test resource not found: " + name);
+            }
+            return in.readAllBytes();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.ghotibeaun.json.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Counts the bytes processed by a benchmark, so that JMH reports a bytes/second rate alongside operations/second.
+ * A benchmark method takes the counter as a parameter and adds the size of the document it read or wrote.
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class ByteCounter {
+    public long bytes;
+
+    public void add(long count) {
+        bytes += count;
+    }
+}
@@ -0,0 +1,68 @@
+package org.ghotibeaun.json.benchmark;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.ghotibeaun.json.JSONArray;
+import org.ghotibeaun.json.JSONNode;
+import org.ghotibeaun.json.JSONObject;
+import org.ghotibeaun.json.converters.Converters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Steady-state cost of converting each {@linkplain ConverterModel} between JSON and its class, once the class has been
+ * converted many times.  {@linkplain ConverterColdStartBenchmark} measures the first conversion of a class.
+ * <code>convertToList</code> converts an array of {@value #LIST_SIZE} copies of the model's JSON.
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConverterBenchmark {
+    static final int LIST_SIZE = 100;
+
+    @Param
+    private ConverterModel model;
+
+    private JSONObject json;
+    private JSONArray array;
+    private Object instance;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        json = model.newJSONObject();
+        array = model.newJSONArray(LIST_SIZE);
+        instance = model.newInstance();
+    }
+
+    @Benchmark
+    public Object convertToClass() {
+        return Converters.convertToClass(model.getModelClass(), json);
+    }
+
+    @Benchmark
+    public JSONNode convertToJSON() {
+        return Converters.convertToJSON(instance);
+    }
+
+    @Benchmark
+    public List<Object> convertToList() {
+        return Converters.convertToList(array, Optional.empty(), Optional.of(model.getModelClass()));
+    }
+}
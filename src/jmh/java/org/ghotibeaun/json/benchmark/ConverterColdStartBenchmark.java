@@ -0,0 +1,73 @@
+package org.ghotibeaun.json.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.ghotibeaun.json.JSONNode;
+import org.ghotibeaun.json.JSONObject;
+import org.ghotibeaun.json.converters.Converters;
+import org.ghotibeaun.json.factory.NodeFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of the first conversion of each {@linkplain ConverterModel} class in a fresh JVM.  Each measurement is a single
+ * conversion in its own fork.  The converters are first used with an unrelated class during setup, so the measurement
+ * covers scanning and converting the model class rather than loading the library.
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+@State(Scope.Benchmark)
+public class ConverterColdStartBenchmark {
+
+    @Param
+    private ConverterModel model;
+
+    private JSONObject json;
+    private Object instance;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        json = model.newJSONObject();
+        instance = model.newInstance();
+
+        final JSONObject warmUp = NodeFactory.parse("{\"text\":\"warm up\",\"number\":1}").asJSONObject();
+        Converters.convertToJSON(Converters.convertToClass(WarmUpPojo.class, warmUp));
+    }
+
+    @Benchmark
+    public Object convertToClass() {
+        return Converters.convertToClass(model.getModelClass(), json);
+    }
+
+    @Benchmark
+    public JSONNode convertToJSON() {
+        return Converters.convertToJSON(instance);
+    }
+
+    /**
+     * Loads the converters before the model class is converted
+     */
+    public static class WarmUpPojo {
+        private String text;
+        private long number;
+
+        public WarmUpPojo() {
+
+        }
+    }
+}
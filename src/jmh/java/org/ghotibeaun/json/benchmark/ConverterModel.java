@@ -0,0 +1,173 @@
+package org.ghotibeaun.json.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.ghotibeaun.json.JSONArray;
+import org.ghotibeaun.json.JSONObject;
+import org.ghotibeaun.json.converter.classes.BaseballTeam;
+import org.ghotibeaun.json.converter.classes.ITeam;
+import org.ghotibeaun.json.converter.classes.MarshallingTest2;
+import org.ghotibeaun.json.converter.classes.Person;
+import org.ghotibeaun.json.factory.NodeFactory;
+
+/**
+ * The classes converted by the converter benchmarks.  Each model creates its instances and JSON without using the
+ * converters, so a benchmark can measure the first conversion of the class.
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+public enum ConverterModel {
+    /**
+     * {@linkplain BaseballTeam}: two String properties set through setters
+     */
+    TEAM(BaseballTeam.class) {
+        @Override
+        Object newInstance() {
+            return team("Colorado Rockies", "NL");
+        }
+
+        @Override
+        String json() {
+            return "{\"team\":\"Colorado Rockies\",\"league\":\"NL\"}";
+        }
+    },
+
+    /**
+     * {@linkplain Person}: two String properties set through setters
+     */
+    PERSON(Person.class) {
+        @Override
+        Object newInstance() {
+            return person("Jim", "Earley");
+        }
+
+        @Override
+        String json() {
+            return "{\"firstName\":\"Jim\",\"lastName\":\"Earley\"}";
+        }
+    },
+
+    /**
+     * {@linkplain MarshallingTest2}: mixed properties, a nested Person and an annotated list of BaseballTeams
+     * (<code>marshallingTest2.json</code>)
+     */
+    NESTED(MarshallingTest2.class) {
+        @Override
+        Object newInstance() {
+            final MarshallingTest2 instance = new MarshallingTest2();
+            instance.setStringValue("This is a String value");
+            instance.setBooleanValue(true);
+            instance.setNumberValue(12345678909L);
+            instance.setDoubleValue(3.1415927);
+            instance.setPrimitiveArray(Arrays.asList("a", "b", "c", "d", "e", "f"));
+            instance.setSimpleObject(person("Jim", "Earley"));
+            final List<ITeam> teams = Arrays.asList(team("Colorado Rockies", "NL"), team("Boston Red Sox", "AL"), team("New York Yankees", "NL"));
+            instance.setTeams(teams);
+            return instance;
+        }
+
+        @Override
+        String json() {
+            return new String(BenchmarkCorpus.resource("marshallingTest2.json"), StandardCharsets.UTF_8);
+        }
+    },
+
+    /**
+     * {@linkplain WidePojo}: 32 fields of mixed types
+     */
+    WIDE(WidePojo.class) {
+        @Override
+        Object newInstance() {
+            return WidePojo.sample();
+        }
+
+        @Override
+        String json() {
+            return WidePojo.json();
+        }
+    },
+
+    /**
+     * {@linkplain DeepPojo}: {@value #DEPTH} nested objects
+     */
+    DEEP(DeepPojo.class) {
+        @Override
+        Object newInstance() {
+            return DeepPojo.sample(DEPTH);
+        }
+
+        @Override
+        String json() {
+            return DeepPojo.json(DEPTH);
+        }
+    };
+
+    /**
+     * The number of nested {@linkplain DeepPojo} objects
+     */
+    static final int DEPTH = 16;
+
+    private final Class<?> modelClass;
+
+    ConverterModel(Class<?> modelClass) {
+        this.modelClass = modelClass;
+    }
+
+    /**
+     * Return the class that is converted
+     * @return the class
+     */
+    Class<?> getModelClass() {
+        return modelClass;
+    }
+
+    /**
+     * Create an instance of the class
+     * @return the instance
+     */
+    abstract Object newInstance();
+
+    /**
+     * Return the JSON for an instance of the class
+     * @return the JSON text
+     */
+    abstract String json();
+
+    /**
+     * Parse the JSON for an instance
+     * @return the JSON object
+     */
+    JSONObject newJSONObject() {
+        return NodeFactory.parse(json()).asJSONObject();
+    }
+
+    /**
+     * Parse an array containing copies of the JSON for an instance
+     * @param size the number of copies
+     * @return the JSON array
+     */
+    JSONArray newJSONArray(int size) {
+        final String json = json();
+        final StringBuilder array = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            array.append(i == 0 ? "" : ",").append(json);
+        }
+        return NodeFactory.parse(array.append(']').toString()).asJSONArray();
+    }
+
+    private static BaseballTeam team(String name, String league) {
+        final BaseballTeam team = new BaseballTeam();
+        team.setTeam(name);
+        team.setLeague(league);
+        return team;
+    }
+
+    private static Person person(String firstName, String lastName) {
+        final Person person = new Person();
+        person.setFirstName(firstName);
+        person.setLastName(lastName);
+        return person;
+    }
+}
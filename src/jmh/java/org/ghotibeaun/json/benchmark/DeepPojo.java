@@ -0,0 +1,50 @@
+package org.ghotibeaun.json.benchmark;
+
+/**
+ * A class that nests an instance of itself, for measuring the cost of converting nested objects
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+public class DeepPojo {
+    private String name;
+    private long value;
+    private DeepPojo child;
+
+    public DeepPojo() {
+
+    }
+
+    /**
+     * Create a chain of nested instances with the same values as {@link #json(int)}
+     * @param depth the number of instances
+     * @return the outermost instance
+     */
+    static DeepPojo sample(int depth) {
+        DeepPojo pojo = null;
+        for (int level = depth - 1; level >= 0; level--) {
+            final DeepPojo parent = new DeepPojo();
+            parent.name = "level " + level;
+            parent.value = level;
+            parent.child = pojo;
+            pojo = parent;
+        }
+        return pojo;
+    }
+
+    /**
+     * Return the JSON for a {@link #sample(int)} chain, built without the converters
+     * @param depth the number of nested objects
+     * @return the JSON text
+     */
+    static String json(int depth) {
+        final StringBuilder json = new StringBuilder();
+        for (int level = 0; level < depth; level++) {
+            json.append("{\"name\":\"level ").append(level).append("\",\"value\":").append(level).append(",\"child\":");
+        }
+        json.append("null");
+        for (int level = 0; level < depth; level++) {
+            json.append('}');
+        }
+        return json.toString();
+    }
+}
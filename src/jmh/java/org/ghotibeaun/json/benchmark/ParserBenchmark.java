@@ -0,0 +1,87 @@
+package org.ghotibeaun.json.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.ghotibeaun.json.JSONFactory;
+import org.ghotibeaun.json.JSONNode;
+import org.ghotibeaun.json.factory.FactorySettings;
+import org.ghotibeaun.json.factory.Setting;
+import org.ghotibeaun.json.parser.JSONParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parses the {@linkplain BenchmarkCorpus} documents with each parser engine.  The event processors are selected with
+ * {@link Setting#EVENT_PROCESSOR_CLASS} and parse a byte stream into a document with the default handler.  The
+ * <code>tokenizer</code> engine is the legacy {@link JSONParser#parse(String)} path, which parses the decoded String.
+ *
+ * <p>Run with <code>-prof gc</code> (the default for the <code>benchmarks</code> profile) to report the allocation rate
+ * and the bytes allocated per document.</p>
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParserBenchmark {
+    private static final String TOKENIZER = "tokenizer";
+
+    private static final Map<String, String> PROCESSORS = Map.of(
+            "buffered", "org.ghotibeaun.json.parser.jep.processor.JSONBufferedEventProcessor",
+            "byte", "org.ghotibeaun.json.parser.jep.processor.JSONByteEventProcessor",
+            "table", "org.ghotibeaun.json.parser.jep.processor.JSONTableEventProcessor",
+            "direct", "org.ghotibeaun.json.parser.jep.processor.JSONDirectEventProcessor",
+            "indexed", "org.ghotibeaun.json.parser.jep.processor.JSONIndexedEventProcessor");
+
+    @Param({"buffered", "byte", "table", "direct", "indexed", TOKENIZER})
+    private String engine;
+
+    @Param({BenchmarkCorpus.SMALL, BenchmarkCorpus.MEDIUM, BenchmarkCorpus.LARGE})
+    private String corpus;
+
+    private byte[] data;
+    private String text;
+    private JSONParser parser;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        data = BenchmarkCorpus.load(corpus);
+        text = new String(data, StandardCharsets.UTF_8);
+
+        if (!TOKENIZER.equals(engine)) {
+            FactorySettings.applySetting(Setting.EVENT_PROCESSOR_CLASS, PROCESSORS.get(engine));
+        }
+        parser = JSONFactory.newFactory().newParser();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        FactorySettings.applySetting(Setting.EVENT_PROCESSOR_CLASS, FactorySettings.getDefaultSetting(Setting.EVENT_PROCESSOR_CLASS));
+    }
+
+    @Benchmark
+    public JSONNode parse(ByteCounter counter) {
+        counter.add(data.length);
+        if (TOKENIZER.equals(engine)) {
+            return parser.parse(text);
+        }
+        return parser.parse(new ByteArrayInputStream(data));
+    }
+}
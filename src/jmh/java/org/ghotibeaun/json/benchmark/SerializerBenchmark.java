@@ -0,0 +1,98 @@
+package org.ghotibeaun.json.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import org.ghotibeaun.json.JSONFactory;
+import org.ghotibeaun.json.JSONNode;
+import org.ghotibeaun.json.serializer.JSONSerializer;
+import org.ghotibeaun.json.serializer.SerializationFactory;
+import org.ghotibeaun.json.serializer.XMLSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serializes {@linkplain BenchmarkCorpus} documents as compact and pretty-printed JSON with
+ * {@link JSONSerializer#write(Writer, JSONNode, boolean)}, {@link JSONNode#toJSONString()} and
+ * {@link JSONNode#prettyPrint()}, and as XML with {@link XMLSerializer#toXmlString(JSONNode)}.  Writers discard their
+ * output, so only the serialization is measured.
+ *
+ * <p>The <code>bytes</code> counter reports the characters produced per second.  With <code>-prof gc</code>, the bytes
+ * allocated for each output byte are <code>gc.alloc.rate.norm</code> divided by the output size, or equivalently
+ * <code>gc.alloc.rate</code> divided by the <code>bytes</code> rate.</p>
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializerBenchmark {
+
+    @Param({BenchmarkCorpus.MEDIUM, BenchmarkCorpus.ARRAY, BenchmarkCorpus.DEEP, BenchmarkCorpus.STRINGS})
+    private String corpus;
+
+    private JSONNode document;
+    private JSONSerializer serializer;
+    private XMLSerializer xmlSerializer;
+    private Writer writer;
+
+    private int compactLength;
+    private int prettyLength;
+    private int xmlLength;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        document = JSONFactory.newFactory().newParser().parse(new ByteArrayInputStream(BenchmarkCorpus.load(corpus)));
+        serializer = SerializationFactory.getSerializer();
+        xmlSerializer = SerializationFactory.getXmlSerializer();
+        writer = Writer.nullWriter();
+
+        compactLength = document.toJSONString().length();
+        prettyLength = document.prettyPrint().length();
+        xmlLength = xmlSerializer.toXmlString(document).length();
+    }
+
+    @Benchmark
+    public void writeCompact(ByteCounter counter) {
+        serializer.write(writer, document, false);
+        counter.add(compactLength);
+    }
+
+    @Benchmark
+    public void writePretty(ByteCounter counter) {
+        serializer.write(writer, document, true);
+        counter.add(prettyLength);
+    }
+
+    @Benchmark
+    public String toJSONString(ByteCounter counter) {
+        counter.add(compactLength);
+        return document.toJSONString();
+    }
+
+    @Benchmark
+    public String prettyPrint(ByteCounter counter) {
+        counter.add(prettyLength);
+        return document.prettyPrint();
+    }
+
+    @Benchmark
+    public String toXmlString(ByteCounter counter) {
+        counter.add(xmlLength);
+        return xmlSerializer.toXmlString(document);
+    }
+}
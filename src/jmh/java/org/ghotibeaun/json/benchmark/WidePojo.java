@@ -0,0 +1,51 @@
+package org.ghotibeaun.json.benchmark;
+
+/**
+ * A flat class with 32 fields of mixed types, for measuring the per-property cost of the converters.  The converters
+ * map every declared field, so the class has no constants.
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+public class WidePojo {
+    private String s0, s1, s2, s3, s4, s5, s6, s7;
+    private long l0, l1, l2, l3, l4, l5, l6, l7;
+    private double d0, d1, d2, d3, d4, d5, d6, d7;
+    private boolean b0, b1, b2, b3, b4, b5, b6, b7;
+
+    public WidePojo() {
+
+    }
+
+    /**
+     * Create an instance with the same values as {@link #json()}
+     * @return the instance
+     */
+    static WidePojo sample() {
+        final WidePojo pojo = new WidePojo();
+        pojo.s0 = "value 0"; pojo.s1 = "value 1"; pojo.s2 = "value 2"; pojo.s3 = "value 3";
+        pojo.s4 = "value 4"; pojo.s5 = "value 5"; pojo.s6 = "value 6"; pojo.s7 = "value 7";
+        pojo.l0 = 0L; pojo.l1 = 1000000001L; pojo.l2 = 2000000002L; pojo.l3 = 3000000003L;
+        pojo.l4 = 4000000004L; pojo.l5 = 5000000005L; pojo.l6 = 6000000006L; pojo.l7 = 7000000007L;
+        pojo.d0 = 0.5; pojo.d1 = 1.5; pojo.d2 = 2.5; pojo.d3 = 3.5;
+        pojo.d4 = 4.5; pojo.d5 = 5.5; pojo.d6 = 6.5; pojo.d7 = 7.5;
+        pojo.b0 = true; pojo.b1 = false; pojo.b2 = true; pojo.b3 = false;
+        pojo.b4 = true; pojo.b5 = false; pojo.b6 = true; pojo.b7 = false;
+        return pojo;
+    }
+
+    /**
+     * Return the JSON for the {@link #sample()} instance, built without the converters
+     * @return the JSON text
+     */
+    static String json() {
+        final StringBuilder json = new StringBuilder("{");
+        for (int i = 0; i < 8; i++) {
+            json.append(i == 0 ? "" : ",")
+            .append("\"s").append(i).append("\":\"value ").append(i).append('"')
+            .append(",\"l").append(i).append("\":").append(i * 1000000001L)
+            .append(",\"d").append(i).append("\":").append(i + 0.5)
+            .append(",\"b").append(i).append("\":").append(i % 2 == 0);
+        }
+        return json.append('}').toString();
+    }
+}
@@ -105,6 +105,21 @@ public interface JSONArray extends JSONListNode {
      */
     int getInt(int index) throws JSONInvalidValueTypeException;
 
+    /**
+     * Return a double value
+     * @param index the JSONArray index position
+     * @return a double value
+     * @throws JSONInvalidValueTypeException thrown if value cannot be returned as double
+     */
+    double getDouble(int index) throws JSONInvalidValueTypeException;
+
+    /**
+     * Return the array's values as a double array
+     * @return a new double array
+     * @throws JSONInvalidValueTypeException thrown if any value cannot be returned as double
+     */
+    double[] toDoubleArray() throws JSONInvalidValueTypeException;
+
     /**
      * Return a boolean value
      * @param index the JSONArray index position
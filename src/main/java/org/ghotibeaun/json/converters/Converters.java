@@ -29,6 +29,7 @@ import org.ghotibeaun.json.JSONValue;
 import org.ghotibeaun.json.converters.options.ConverterOption;
 import org.ghotibeaun.json.converters.valueconverter.ValueConverter;
 import org.ghotibeaun.json.exception.JSONConversionException;
+import org.ghotibeaun.json.jfr.ConversionEvent;
 
 /**
  * Utility entry point to access converter methods statically.
@@ -48,7 +49,12 @@ public final class Converters {
      * @see JSONConverter#convertToClass(Class, JSONObject)
      */
     public static <T> T convertToClass(Class<T> targetClass, JSONObject jsonObject, ConverterOption<?>... options) throws JSONConversionException {
-        return AbstractJSONConverter.getJSONConverter(options).convertToClass(targetClass, jsonObject);
+        final ConversionEvent event = new ConversionEvent();
+        event.begin();
+        final JSONConverter converter = AbstractJSONConverter.getJSONConverter(options);
+        final T result = converter.convertToClass(targetClass, jsonObject);
+        commit(event, "convertToClass", converter, targetClass, jsonObject);
+        return result;
     }
 
     /**
@@ -63,11 +69,21 @@ public final class Converters {
      */
     @Deprecated
     public static <T> List<T> convertToList(Class<T> targetClass, JSONArray jsonArray, Optional<ValueConverter<?>> valueConverter, ConverterOption<?>...options) throws JSONConversionException {
-        return AbstractJSONConverter.getJSONConverter(options).convertToList(targetClass, jsonArray, valueConverter);
+        final ConversionEvent event = new ConversionEvent();
+        event.begin();
+        final JSONConverter converter = AbstractJSONConverter.getJSONConverter(options);
+        final List<T> result = converter.convertToList(targetClass, jsonArray, valueConverter);
+        commit(event, "convertToList", converter, targetClass, jsonArray);
+        return result;
     }
 
     public static <T> List<T> convertToList(JSONArray array, Optional<ValueConverter<?>> valueConverter, Optional<Class<?>> targetClass, ConverterOption<?>...options) throws JSONConversionException {
-        return AbstractJSONConverter.getJSONConverter(options).convertToList(array, valueConverter, targetClass);
+        final ConversionEvent event = new ConversionEvent();
+        event.begin();
+        final JSONConverter converter = AbstractJSONConverter.getJSONConverter(options);
+        final List<T> result = converter.convertToList(array, valueConverter, targetClass);
+        commit(event, "convertToList", converter, targetClass.orElse(null), array);
+        return result;
     }
 
     public static <T> T convertValue(JSONValue<?> value, Optional<ValueConverter<?>> valueConverter, Optional<Class<?>> targetClass, ConverterOption<?>...options) throws JSONConversionException {
@@ -87,7 +103,12 @@ public final class Converters {
      * @see ClassConverter#convertToJSON(Object)
      */
     public static <T> JSONNode convertToJSON(T source, ConverterOption<?>...options) throws JSONConversionException {
-        return AbstractClassConverter.getClassConverter(options).convertToJSON(source);
+        final ConversionEvent event = new ConversionEvent();
+        event.begin();
+        final ClassConverter converter = AbstractClassConverter.getClassConverter(options);
+        final JSONNode result = converter.convertToJSON(source);
+        commit(event, "convertToJSON", converter, source != null ? source.getClass() : null, result);
+        return result;
     }
 
     /**
@@ -190,6 +211,21 @@ public final class Converters {
         return AbstractClassConverter.getClassConverter(options).convertValue(value, valueConverter, targetClass);
     }
 
+    /**
+     * Commit a {@linkplain ConversionEvent} if a Flight Recorder recording has enabled it.  The JSON is only
+     * traversed to count its nodes once the event is known to be committed.
+     */
+    private static void commit(ConversionEvent event, String operation, Object converter, Class<?> targetClass, JSONNode json) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.setOperation(operation);
+            event.setConverter(converter.getClass());
+            event.setTargetClass(targetClass);
+            event.setNodeCount(json);
+            event.commit();
+        }
+    }
+
     private Converters() {
         //private to prevent instantiation;
     }
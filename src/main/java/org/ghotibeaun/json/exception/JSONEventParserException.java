@@ -56,6 +56,8 @@ public class JSONEventParserException extends JSONParserException {
 
     public JSONEventParserException(long line, long linePos, String message, Throwable t) {
         super(message + " [at line: " + line + "; col: " + linePos +"]", t);
+        this.line = line;
+        this.linePos = linePos;
     }
 
     public long getLineNumber() {
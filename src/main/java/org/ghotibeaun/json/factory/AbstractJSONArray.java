@@ -40,6 +40,10 @@ abstract class AbstractJSONArray extends AbstractListNode implements JSONArray,
         super();
     }
 
+    AbstractJSONArray(List<JSONValue<?>> jsonList) {
+        super(jsonList);
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public String getString(int index) throws JSONInvalidValueTypeException {
@@ -80,6 +84,20 @@ abstract class AbstractJSONArray extends AbstractListNode implements JSONArray,
         return getNumber(index).intValue();
     }
 
+    @Override
+    public double getDouble(int index) throws JSONInvalidValueTypeException {
+        return getNumber(index).doubleValue();
+    }
+
+    @Override
+    public double[] toDoubleArray() throws JSONInvalidValueTypeException {
+        final double[] values = new double[size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = getDouble(i);
+        }
+        return values;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public boolean getBoolean(int index) throws JSONInvalidValueTypeException {
@@ -134,6 +152,11 @@ abstract class AbstractJSONArray extends AbstractListNode implements JSONArray,
 
     @Override
     public void add(Boolean bool) {
+        if (bool == null) {
+            add(NodeFactory.newJSONNullValue());
+            return;
+        }
+
         final JSONValue<Boolean> value = NodeFactory.newBooleanValue(bool);
         add(value);
     }
@@ -20,6 +20,7 @@ package org.ghotibeaun.json.factory;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.ghotibeaun.json.JSONArray;
 import org.ghotibeaun.json.JSONNode;
@@ -40,6 +41,10 @@ abstract class AbstractJSONObject extends AbstractMapNode implements JSONObject
         super();
     }
 
+    AbstractJSONObject(Map<String, JSONValue<?>> jsonMap) {
+        super(jsonMap);
+    }
+
     @Override
     public void put(String key, Number n) {
         if (n == null) {
@@ -35,10 +35,19 @@ abstract class AbstractListNode extends AbstractJSONNode implements JSONListNode
      *
      */
     private static final long serialVersionUID = -8439023075355492351L;
-    private final List<JSONValue<?>> jsonList = new ArrayList<>();
+    private final List<JSONValue<?>> jsonList;
 
     public AbstractListNode() {
+        this(new ArrayList<>());
+    }
+
+    /**
+     * Constructor
+     * @param jsonList the list that holds the elements
+     */
+    AbstractListNode(List<JSONValue<?>> jsonList) {
         super();
+        this.jsonList = jsonList;
     }
 
     @Override
@@ -40,10 +40,18 @@ abstract class AbstractMapNode extends AbstractJSONNode implements JSONMapNode {
      *
      */
     private static final long serialVersionUID = -5979494985961207537L;
-    private final Map<String, JSONValue<?>> jsonMap = new LinkedHashMap<>();
+    private final Map<String, JSONValue<?>> jsonMap;
 
     public AbstractMapNode() {
-        // no-op
+        this(new LinkedHashMap<>());
+    }
+
+    /**
+     * Constructor
+     * @param jsonMap the map that holds the members.  It must preserve insertion order.
+     */
+    AbstractMapNode(Map<String, JSONValue<?>> jsonMap) {
+        this.jsonMap = jsonMap;
     }
 
     @Override
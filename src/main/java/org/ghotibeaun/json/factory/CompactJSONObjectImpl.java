@@ -0,0 +1,43 @@
+/*
+ *
+ * # Released under MIT License
+ *
+ * Copyright (c) 2016-2021 Jim Earley.
+ *
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS 
+ * IN THE SOFTWARE.
+ */
+package org.ghotibeaun.json.factory;
+
+/**
+ * {@linkplain JSONObjectImpl} that holds its members in a {@linkplain CompactMap}, so objects with up to
+ * {@value CompactMap#THRESHOLD} members are stored as parallel key and value arrays rather than as hash table entries.
+ * Larger objects move to a hash table as they grow.  This reduces the heap used by documents made of many small objects,
+ * and can be enabled with:
+ *
+ * <pre>
+ * FactorySettings.applySetting(Setting.OBJECT_CLASS, "org.ghotibeaun.json.factory.CompactJSONObjectImpl");
+ * </pre>
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+class CompactJSONObjectImpl extends JSONObjectImpl {
+
+    /**
+     *
+     */
+    private static final long serialVersionUID = -2877263518402377455L;
+
+    public CompactJSONObjectImpl() {
+        super(new CompactMap<>());
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ *
+ * # Released under MIT License
+ *
+ * Copyright (c) 2016-2021 Jim Earley.
+ *
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS 
+ * IN THE SOFTWARE.
+ */
+package org.ghotibeaun.json.factory;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Insertion-ordered map for small objects.  Up to {@link #THRESHOLD} entries are held in parallel key and value
+ * arrays and found with a linear scan, which for a handful of keys is as fast as hashing and avoids the node, table
+ * and linked-list overhead of a {@linkplain LinkedHashMap} (roughly 100 bytes per entry).  When an entry is added past
+ * the threshold the entries move to a {@linkplain LinkedHashMap}, which is used from then on.  Clearing the map returns
+ * it to the compact form.
+ *
+ * <p>Entry, key and value views read through to the map, and their iterators support <code>remove</code>.
+ * Unlike {@linkplain LinkedHashMap}, the compact form's iterators are not fail-fast.</p>
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+final class CompactMap<K, V> extends AbstractMap<K, V> implements Serializable {
+
+    /**
+     *
+     */
+    private static final long serialVersionUID = 4263349857432958717L;
+
+    /**
+     * The number of entries held in the compact form
+     */
+    static final int THRESHOLD = 8;
+    private static final int INITIAL_CAPACITY = 4;
+
+    private Object[] keys;
+    private Object[] values;
+    private int size;
+    private Map<K, V> promoted;
+    private transient Set<Entry<K, V>> entrySet;
+
+    CompactMap() {
+        // arrays are allocated by the first put
+    }
+
+    /**
+     * Return whether the entries have moved to a hash table
+     * @return <code>true</code> if the map has grown past the threshold
+     */
+    boolean isPromoted() {
+        return promoted != null;
+    }
+
+    @Override
+    public int size() {
+        return promoted != null ? promoted.size() : size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return promoted != null ? promoted.containsKey(key) : indexOf(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        if (promoted != null) {
+            return promoted.containsValue(value);
+        }
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(values[i], value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        if (promoted != null) {
+            return promoted.get(key);
+        }
+        final int index = indexOf(key);
+        return index >= 0 ? (V) values[index] : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        if (promoted != null) {
+            return promoted.put(key, value);
+        }
+
+        final int index = indexOf(key);
+        if (index >= 0) {
+            final V previous = (V) values[index];
+            values[index] = value;
+            return previous;
+        }
+
+        if (size == THRESHOLD) {
+            promote();
+            return promoted.put(key, value);
+        }
+
+        if (keys == null) {
+            keys = new Object[INITIAL_CAPACITY];
+            values = new Object[INITIAL_CAPACITY];
+        } else if (size == keys.length) {
+            keys = Arrays.copyOf(keys, Math.min(size << 1, THRESHOLD));
+            values = Arrays.copyOf(values, keys.length);
+        }
+        keys[size] = key;
+        values[size] = value;
+        size++;
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        if (promoted != null) {
+            return promoted.remove(key);
+        }
+        final int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        final V previous = (V) values[index];
+        removeAt(index);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        promoted = null;
+        keys = null;
+        values = null;
+        size = 0;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private int indexOf(Object key) {
+        for (int i = 0; i < size; i++) {
+            final Object candidate = keys[i];
+            // keys decoded by the parser are usually the same instance, so check identity before equals
+            if (candidate == key || candidate != null && candidate.equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void removeAt(int index) {
+        final int moved = size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(keys, index + 1, keys, index, moved);
+            System.arraycopy(values, index + 1, values, index, moved);
+        }
+        size--;
+        keys[size] = null;
+        values[size] = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void promote() {
+        final Map<K, V> map = new LinkedHashMap<>(THRESHOLD << 2);
+        for (int i = 0; i < size; i++) {
+            map.put((K) keys[i], (V) values[i]);
+        }
+        promoted = map;
+        keys = null;
+        values = null;
+        size = 0;
+    }
+
+    /**
+     * Entry view that iterates over whichever form the map is in when the iterator is created
+     */
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return promoted != null ? promoted.entrySet().iterator() : new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return CompactMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            CompactMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+        private int next;
+        private int last = -1;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return new ArrayEntry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            removeAt(last);
+            next = last;
+            last = -1;
+        }
+    }
+
+    /**
+     * Entry that reads and writes the arrays at its index
+     */
+    private final class ArrayEntry implements Entry<K, V> {
+        private final int index;
+
+        ArrayEntry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public K getKey() {
+            return (K) keys[index];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V getValue() {
+            return (V) values[index];
+        }
+
+        @Override
+        public V setValue(V value) {
+            final V previous = getValue();
+            values[index] = value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Entry)) {
+                return false;
+            }
+            final Entry<?, ?> other = (Entry<?, ?>) obj;
+            return Objects.equals(getKey(), other.getKey()) && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
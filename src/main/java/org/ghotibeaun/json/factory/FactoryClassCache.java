@@ -0,0 +1,100 @@
+/*
+ *
+ * # Released under MIT License
+ *
+ * Copyright (c) 2016-2021 Jim Earley.
+ *
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS 
+ * IN THE SOFTWARE.
+ */
+package org.ghotibeaun.json.factory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.function.Supplier;
+
+import org.ghotibeaun.json.exception.JSONConversionException;
+
+/**
+ * Caches a constructor for each factory class, so that {@linkplain FactorySettings#createFactoryClass(Setting)} doesn't
+ * look up and invoke the constructor reflectively every time.  The public no-argument constructor of a class is resolved
+ * the first time it's needed and kept as a {@linkplain MethodHandle}, which the JIT can compile down to a plain allocation.
+ * Entries are held in a {@linkplain ClassValue}, so they are created once and safely published to every thread.  Each
+ * entry holds its class's constructor, which keeps the class and its class loader reachable for as long as this cache
+ * is loaded, so factory classes from a class loader that is later discarded (e.g., a redeployed web application) are
+ * not unloaded.
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+final class FactoryClassCache {
+    private static final MethodType OBJECT_CONSTRUCTOR = MethodType.methodType(Object.class);
+
+    private static final ClassValue<Supplier<Object>> CONSTRUCTORS = new ClassValue<Supplier<Object>>() {
+        @Override
+        protected Supplier<Object> computeValue(Class<?> type) {
+            return newSupplier(type);
+        }
+    };
+
+    private FactoryClassCache() {
+
+    }
+
+    /**
+     * Return the cached supplier for a class
+     * @param type the class
+     * @return a supplier that creates a new instance of the class each time it's called
+     */
+    static Supplier<Object> get(Class<?> type) {
+        return CONSTRUCTORS.get(type);
+    }
+
+    /**
+     * Create a new instance of a class
+     * @param type the class
+     * @return the new instance
+     * @throws JSONConversionException if the class doesn't have a public no-argument constructor, or the constructor fails
+     */
+    static Object newInstance(Class<?> type) throws JSONConversionException {
+        return get(type).get();
+    }
+
+    private static Supplier<Object> newSupplier(Class<?> type) {
+        final MethodHandle constructor;
+        try {
+            // implementation classes are usually package-private with a public constructor
+            final Constructor<?> defaultConstructor = type.getConstructor();
+            defaultConstructor.setAccessible(true);
+            constructor = MethodHandles.lookup().unreflectConstructor(defaultConstructor).asType(OBJECT_CONSTRUCTOR);
+        } catch (final NoSuchMethodException e) {
+            return () -> {
+                throw new JSONConversionException("No default constructor found for class: " + type.getName());
+            };
+        } catch (IllegalAccessException | SecurityException e) {
+            return () -> {
+                throw new JSONConversionException("Error creating instance: " + type.getName(), e);
+            };
+        }
+
+        return () -> {
+            try {
+                return constructor.invokeExact();
+            } catch (final RuntimeException | Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new JSONConversionException("Error creating instance: " + type.getName(), e);
+            }
+        };
+    }
+}
@@ -22,9 +22,9 @@ import java.io.IOException;
 import java.util.EnumMap;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.ghotibeaun.json.JSONFactory;
-import org.ghotibeaun.json.converters.utils.ClassUtils;
 import org.ghotibeaun.json.exception.JSONFactoryException;
 import org.ghotibeaun.json.exception.JSONRuntimeException;
 import org.ghotibeaun.json.factory.setting.ClassSetting;
@@ -55,14 +55,13 @@ public class FactorySettings extends Properties {
      */
     private static final long serialVersionUID = 1L;
 
-    private static FactorySettings instance = null;
     //private Properties defaults;
-    private boolean useDefaultSettings;
-    //private final FactoryClassCache defaultCache;
-    //private final FactoryClassCache customCache;
+    private volatile boolean useDefaultSettings;
 
     private final EnumMap<Setting, FactorySetting<?>> settingMap = new EnumMap<>(Setting.class);
 
+    private final AtomicInteger version = new AtomicInteger();
+
     private FactorySettings() {
 
         try {
@@ -93,25 +92,46 @@ public class FactorySettings extends Properties {
         }
     }
 
-    private static FactorySettings getInstance() {
-        if (instance == null) {
-            instance = new FactorySettings();
-        }
+    /**
+     * Holds the settings, which are loaded the first time they're used.  Class initialization guarantees
+     * they are loaded once and visible to every thread without locking.
+     */
+    private static class Holder {
+        private static final FactorySettings INSTANCE = new FactorySettings();
+    }
 
-        return instance;
+    private static FactorySettings getInstance() {
+        return Holder.INSTANCE;
     }
 
+    /**
+     * Create a new instance of the class configured for a setting.  The class's constructor is resolved once and
+     * cached, so this is no more expensive than calling the constructor directly.
+     * @param <T> the type of the instance
+     * @param setting the setting
+     * @return the new instance
+     * @throws JSONFactoryException if the setting isn't a class setting
+     */
     @SuppressWarnings("unchecked")
     public static <T> T createFactoryClass(Setting setting) throws JSONFactoryException {
-        final Optional<Class<?>> clazz = getFactoryClass(setting);
+        final Class<?> clazz = setting != null && setting.isClassValue() ? resolveClass(setting) : null;
 
-        if (clazz.isPresent()) {
-            return (T)ClassUtils.createInstance(clazz.get());
+        if (clazz != null) {
+            return (T)FactoryClassCache.newInstance(clazz);
         } else {
-            throw new JSONFactoryException("Setting [" + setting.getPropertyName() + "] is not a cached class");
+            throw new JSONFactoryException("Setting [" + (setting != null ? setting.getPropertyName() : null) + "] is not a cached class");
         }
     }
 
+    /**
+     * Returns a number that changes whenever a setting is applied or the use of the default settings is changed, so that
+     * state derived from the settings can be checked for changes without looking each setting up again
+     * @return the settings version
+     */
+    public static int getVersion() {
+        return getInstance().version.get();
+    }
+
 
     public static Optional<Class<?>> getFactoryClass(String key) {
         final Setting classSetting = Setting.fromPropertyName(key);
@@ -123,14 +143,19 @@ public class FactorySettings extends Properties {
         if (setting == null) {
             return Optional.of(null);
         } else if (setting.isClassValue()) {
-            final ClassSetting classSetting = (ClassSetting)getInstance().settingMap.get(setting);
-
-            return Optional.of(getUseDefaultSettings() ? classSetting.getDefaultValue() :  classSetting.getValue());
+            return Optional.of(resolveClass(setting));
         } else {
             return Optional.ofNullable(null);
         }
     }
 
+    private static Class<?> resolveClass(Setting setting) {
+        final FactorySettings settings = getInstance();
+        final ClassSetting classSetting = (ClassSetting)settings.settingMap.get(setting);
+
+        return settings.useDefaultSettings ? classSetting.getDefaultValue() : classSetting.getValue();
+    }
+
     /**
      * Applies a setting.  By default, this will configure change use from the default settings to your custom settings when you
      * call {@link #getSetting(String)}. If you wish to use the default again, you can override with {@link #getSetting(String, boolean)}, and
@@ -164,11 +189,13 @@ public class FactorySettings extends Properties {
             }
         }
 
+        getInstance().version.incrementAndGet();
     }
 
     public static void applySetting(Setting setting, Class<?> clazz) {
         final ClassSetting classSetting = (ClassSetting)getInstance().settingMap.get(setting);
         classSetting.setValue(clazz);
+        getInstance().version.incrementAndGet();
     }
 
     public static Class<?> getClassSetting(Setting setting) {
@@ -285,6 +312,7 @@ public class FactorySettings extends Properties {
      */
     public static void setUseDefaultSettings(boolean use) {
         getInstance().useDefaultSettings = use;
+        getInstance().version.incrementAndGet();
     }
 
     /**
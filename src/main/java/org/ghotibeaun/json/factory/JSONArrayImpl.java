@@ -18,6 +18,8 @@
  */
 package org.ghotibeaun.json.factory;
 
+import java.util.List;
+
 import org.ghotibeaun.json.JSONValue;
 
 class JSONArrayImpl extends AbstractJSONArray implements Iterable<JSONValue<?>> {
@@ -31,6 +33,14 @@ class JSONArrayImpl extends AbstractJSONArray implements Iterable<JSONValue<?>>
         super();
     }
 
+    /**
+     * Constructor for subclasses that hold their elements in a different list
+     * @param jsonList the list that holds the elements
+     */
+    JSONArrayImpl(List<JSONValue<?>> jsonList) {
+        super(jsonList);
+    }
+
     @Override
     public String toJSONString() {
         final StringBuilder builder = new StringBuilder();
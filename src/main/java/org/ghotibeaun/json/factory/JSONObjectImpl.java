@@ -18,6 +18,7 @@
  */
 package org.ghotibeaun.json.factory;
 
+import java.util.Map;
 import java.util.Map.Entry;
 
 import org.ghotibeaun.json.JSONValue;
@@ -38,6 +39,14 @@ class JSONObjectImpl extends AbstractJSONObject {
         super();
     }
 
+    /**
+     * Constructor for subclasses that hold their members in a different map
+     * @param jsonMap the map that holds the members.  It must preserve insertion order.
+     */
+    JSONObjectImpl(Map<String, JSONValue<?>> jsonMap) {
+        super(jsonMap);
+    }
+
     @Override
     public String toJSONString() {
         final StringBuilder builder = new StringBuilder();
@@ -47,7 +56,7 @@ class JSONObjectImpl extends AbstractJSONObject {
         for (final Entry<String, JSONValue<?>> entry : elements()) {
             final String key = entry.getKey();
             final String value = entry.getValue().toString();
-            builder.append("\"" + key + "\"").append(":").append(value);
+            builder.append(JSONStringValueImpl.quote(key)).append(":").append(value);
             if (pos < size - 1) {
                 builder.append(",");
             }
@@ -86,7 +95,7 @@ class JSONObjectImpl extends AbstractJSONObject {
             final String key = entry.getKey();
             final String value = entry.getValue().prettyPrint(indent + 1);
             builder.append(startStopIndent.toString());
-            builder.append(indentString).append("\"" + key + "\"").append(": ").append(value);
+            builder.append(indentString).append(JSONStringValueImpl.quote(key)).append(": ").append(value);
             if (pos < size - 1) {
                 builder.append(",");
             }
@@ -52,10 +52,52 @@ class JSONStringValueImpl extends AbstractJSONValue<String> {
 
     @Override
     public String toString() {
-        return "\"" + getValue()
-        .replaceAll("\"", "\\\\\"")
-        + "\"";
+        return quote(getValue());
+    }
+
+    /**
+     * Quote a string value or key.  Quotes and backslashes are escaped, as are control characters, which can't
+     * appear unescaped in a JSON string.
+     * @param value the string
+     * @return the quoted string
+     */
+    static String quote(String value) {
+        final StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\b':
+                    builder.append("\\b");
+                    break;
+                case '\f':
+                    builder.append("\\f");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if (c < ' ') {
+                        builder.append(String.format("\\u%04x", (int)c));
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
 
+        return builder.append('"').toString();
     }
 
     @Override
@@ -0,0 +1,327 @@
+/*
+ *
+ * # Released under MIT License
+ *
+ * Copyright (c) 2016-2021 Jim Earley.
+ *
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS 
+ * IN THE SOFTWARE.
+ */
+package org.ghotibeaun.json.factory;
+
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.ghotibeaun.json.JSONNode;
+import org.ghotibeaun.json.JSONValue;
+import org.ghotibeaun.json.exception.JSONEventParserException;
+import org.ghotibeaun.json.parser.jep.KeyCache;
+import org.ghotibeaun.json.parser.jep.NumberDecoder;
+import org.ghotibeaun.json.parser.jep.StringDecoder;
+
+/**
+ * Backing store for a lazily parsed document.  Parsing only scans the input once to build a positional index of
+ * its objects and arrays: for each container, in document order, the offset of its opening and closing bracket and
+ * the index of the first container that follows it.  Strings, numbers and literals aren't indexed or decoded.
+ *
+ * <p>Each container is returned as a {@linkplain LazyJSONObjectImpl} or {@linkplain LazyJSONArrayImpl} that holds
+ * nothing but its position in the index.  The first time one of its members is accessed, its direct children are
+ * decoded from the input and cached; nested containers become lazy containers in turn, so untouched parts of the
+ * document are never decoded.  The input array is retained until the document is released.</p>
+ *
+ * <p>The index pass checks that brackets are balanced and strings are closed.  Other syntax errors are reported
+ * when the container holding them is first accessed.  A container's children are decoded into a temporary list or
+ * map and only published to the container once they have all been decoded, so a container whose members fail to
+ * decode stays empty and reports the same error each time it is accessed.  Integers are decoded as <code>Long</code> (or
+ * <code>BigInteger</code> when they don't fit), and other numbers as <code>Double</code>.</p>
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+final class LazyDocument {
+    private static final int INITIAL_CONTAINERS = 64;
+    private static final int INITIAL_DEPTH = 32;
+
+    private final byte[] data;
+    private final Charset charset = StandardCharsets.UTF_8;
+    private final KeyCache keyCache = new KeyCache();
+
+    private int[] starts = new int[INITIAL_CONTAINERS];
+    private int[] ends = new int[INITIAL_CONTAINERS];
+    private int[] nexts = new int[INITIAL_CONTAINERS];
+    private int count = 0;
+
+    // position of the child being decoded
+    private int position;
+    private int child;
+
+    private LazyDocument(byte[] data) {
+        this.data = data;
+    }
+
+    /**
+     * Index a UTF-8 encoded document and return its root container
+     * @param data the document
+     * @return a lazy {@linkplain org.ghotibeaun.json.JSONObject} or {@linkplain org.ghotibeaun.json.JSONArray}
+     * @throws JSONEventParserException if the root isn't an object or array, or the document isn't well balanced
+     */
+    static JSONNode parse(byte[] data) throws JSONEventParserException {
+        final LazyDocument document = new LazyDocument(data);
+        document.index();
+        return data[document.starts[0]] == '{' ? new LazyJSONObjectImpl(document, 0) : new LazyJSONArrayImpl(document, 0);
+    }
+
+    private void index() {
+        int[] stack = new int[INITIAL_DEPTH];
+        int depth = 0;
+        boolean rootClosed = false;
+
+        for (int i = 0; i < data.length; i++) {
+            final byte byt = data[i];
+
+            if (isWhitespace(byt)) {
+                continue;
+            }
+
+            if (rootClosed) {
+                throw error(i, "Unexpected content after the end of the document");
+            }
+
+            switch (byt) {
+                case '"':
+                    if (depth == 0) {
+                        throw error(i, "The document root must be an object or array");
+                    }
+                    i = skipString(i);
+                    break;
+                case '{':
+                case '[':
+                    if (count == starts.length) {
+                        starts = Arrays.copyOf(starts, count << 1);
+                        ends = Arrays.copyOf(ends, count << 1);
+                        nexts = Arrays.copyOf(nexts, count << 1);
+                    }
+                    if (depth == stack.length) {
+                        stack = Arrays.copyOf(stack, depth << 1);
+                    }
+                    starts[count] = i;
+                    stack[depth++] = count++;
+                    break;
+                case '}':
+                case ']':
+                    // closing brackets are two greater than their opening brackets
+                    if (depth == 0 || data[starts[stack[depth - 1]]] != byt - 2) {
+                        throw error(i, "Unexpected " + (char)byt);
+                    }
+                    final int container = stack[--depth];
+                    ends[container] = i;
+                    nexts[container] = count;
+                    rootClosed = depth == 0;
+                    break;
+                default:
+                    if (depth == 0) {
+                        throw error(i, "The document root must be an object or array");
+                    }
+            }
+        }
+
+        if (!rootClosed) {
+            throw error(data.length, count == 0 ? "Empty document" : "Unexpected end of input: document is not closed");
+        }
+    }
+
+    /**
+     * Decode the members of an object
+     * @param container the object's index
+     * @return the members, in document order
+     */
+    synchronized Map<String, JSONValue<?>> decodeMembers(int container) {
+        final Map<String, JSONValue<?>> members = new LinkedHashMap<>();
+        final int end = ends[container];
+        position = skipWhitespace(starts[container] + 1);
+        child = container + 1;
+
+        while (position < end) {
+            if (data[position] != '"') {
+                throw error(position, "Expected a key");
+            }
+            final int close = skipString(position);
+            final String key;
+            try {
+                key = keyCache.get(data, position + 1, close - position - 1, charset);
+            } catch (final IllegalArgumentException e) {
+                throw error(position, e.getMessage());
+            }
+
+            position = skipWhitespace(close + 1);
+            if (data[position] != ':') {
+                throw error(position, "Expected ':'");
+            }
+            position = skipWhitespace(position + 1);
+
+            members.put(key, nextValue(end));
+            nextMember(end);
+        }
+
+        return members;
+    }
+
+    /**
+     * Decode the elements of an array
+     * @param container the array's index
+     * @return the elements
+     */
+    synchronized List<JSONValue<?>> decodeElements(int container) {
+        final List<JSONValue<?>> elements = new ArrayList<>();
+        final int end = ends[container];
+        position = skipWhitespace(starts[container] + 1);
+        child = container + 1;
+
+        while (position < end) {
+            elements.add(nextValue(end));
+            nextMember(end);
+        }
+
+        return elements;
+    }
+
+    private JSONValue<?> nextValue(int end) {
+        final int start = position;
+
+        switch (data[start]) {
+            case '"':
+                final int close = skipString(start);
+                position = close + 1;
+                try {
+                    return NodeFactory.newStringValue(StringDecoder.decode(data, start + 1, close - start - 1, charset));
+                } catch (final IllegalArgumentException e) {
+                    throw error(start, e.getMessage());
+                }
+            case '{':
+                position = ends[child] + 1;
+                final LazyJSONObjectImpl object = new LazyJSONObjectImpl(this, child);
+                child = nexts[child];
+                return NodeFactory.newJSONObjectValue(object);
+            case '[':
+                position = ends[child] + 1;
+                final LazyJSONArrayImpl array = new LazyJSONArrayImpl(this, child);
+                child = nexts[child];
+                return NodeFactory.newJSONArrayValue(array);
+            default:
+                int i = start;
+                while (i < end && !isWhitespace(data[i]) && data[i] != ',') {
+                    i++;
+                }
+                position = i;
+                return scalar(start, i - start);
+        }
+    }
+
+    private void nextMember(int end) {
+        position = skipWhitespace(position);
+        if (position == end) {
+            return;
+        }
+
+        if (data[position] != ',') {
+            throw error(position, "Expected ',' or " + (char)data[end]);
+        }
+
+        position = skipWhitespace(position + 1);
+        if (position == end) {
+            throw error(position, "Unexpected " + (char)data[end]);
+        }
+    }
+
+    private JSONValue<?> scalar(int offset, int length) {
+        if (matches(offset, length, "true")) {
+            return NodeFactory.newBooleanValue(true);
+        } else if (matches(offset, length, "false")) {
+            return NodeFactory.newBooleanValue(false);
+        } else if (matches(offset, length, "null")) {
+            return NodeFactory.newJSONNullValue();
+        }
+
+        try {
+            if (NumberDecoder.isFloatingPoint(data, offset, length)) {
+                return NodeFactory.newNumberValue(NumberDecoder.parseDouble(data, offset, length));
+            }
+
+            try {
+                return NodeFactory.newNumberValue(NumberDecoder.parseLong(data, offset, length));
+            } catch (final NumberFormatException e) {
+                return NodeFactory.newNumberValue(new BigInteger(new String(data, offset, length, charset)));
+            }
+        } catch (final NumberFormatException e) {
+            throw error(offset, "Invalid value: " + new String(data, offset, length, charset));
+        }
+    }
+
+    private boolean matches(int offset, int length, String literal) {
+        if (length != literal.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < length; i++) {
+            if (data[offset + i] != literal.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the offset of the quote that closes the string starting at <code>quote</code>
+     */
+    private int skipString(int quote) {
+        for (int i = quote + 1; i < data.length; i++) {
+            if (data[i] == '\\') {
+                i++;
+            } else if (data[i] == '"') {
+                return i;
+            }
+        }
+
+        throw error(quote, "Unterminated string");
+    }
+
+    private int skipWhitespace(int offset) {
+        while (offset < data.length && isWhitespace(data[offset])) {
+            offset++;
+        }
+        return offset;
+    }
+
+    private static boolean isWhitespace(byte byt) {
+        return byt == ' ' || byt == '\n' || byt == '\r' || byt == '\t';
+    }
+
+    /**
+     * Line and column numbers are only counted when an error is reported
+     */
+    private JSONEventParserException error(int offset, String message) {
+        int line = 1;
+        int lineStart = 0;
+        for (int i = 0; i < offset && i < data.length; i++) {
+            if (data[i] == '\n') {
+                line++;
+                lineStart = i + 1;
+            }
+        }
+        return new JSONEventParserException(line, offset - lineStart + 1, message);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ *
+ * # Released under MIT License
+ *
+ * Copyright (c) 2016-2021 Jim Earley.
+ *
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS 
+ * IN THE SOFTWARE.
+ */
+package org.ghotibeaun.json.factory;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.ghotibeaun.json.JSONValue;
+
+/**
+ * {@linkplain JSONArrayImpl} whose elements are decoded from a {@linkplain LazyDocument} the first time any of
+ * them is accessed.  Once loaded, it behaves exactly like a {@linkplain JSONArrayImpl}.
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+class LazyJSONArrayImpl extends JSONArrayImpl {
+
+    /**
+     *
+     */
+    private static final long serialVersionUID = -6127709945326108245L;
+
+    private transient volatile LazyDocument document;
+    private final transient int container;
+
+    LazyJSONArrayImpl(LazyDocument document, int container) {
+        super();
+        this.document = document;
+        this.container = container;
+    }
+
+    /**
+     * Decode the elements and add them once they have all been decoded, so a failed decode adds nothing
+     */
+    private void load() {
+        final LazyDocument source = document;
+        if (source != null) {
+            synchronized (source) {
+                if (document != null) {
+                    for (final JSONValue<?> value : source.decodeElements(container)) {
+                        super.add(value);
+                    }
+                    document = null;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void add(JSONValue<?> value) {
+        load();
+        super.add(value);
+    }
+
+    @Override
+    public void insert(int index, JSONValue<?> value) {
+        load();
+        super.insert(index, value);
+    }
+
+    @Override
+    public void insert(int index, Object value) {
+        load();
+        super.insert(index, value);
+    }
+
+    @Override
+    public JSONValue<?> get(int index) {
+        load();
+        return super.get(index);
+    }
+
+    @Override
+    public Iterator<JSONValue<?>> iterator() {
+        load();
+        return super.iterator();
+    }
+
+    @Override
+    public JSONValue<?> remove(int index) {
+        load();
+        return super.remove(index);
+    }
+
+    @Override
+    public void clear() {
+        load();
+        super.clear();
+    }
+
+    @Override
+    public int size() {
+        load();
+        return super.size();
+    }
+
+    @Override
+    public List<JSONValue<?>> getValues() {
+        load();
+        return super.getValues();
+    }
+
+    /**
+     * Members are loaded before serialization starts, as superclass fields are written first
+     */
+    private Object writeReplace() {
+        load();
+        return this;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ *
+ * # Released under MIT License
+ *
+ * Copyright (c) 2016-2021 Jim Earley.
+ *
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS 
+ * IN THE SOFTWARE.
+ */
+package org.ghotibeaun.json.factory;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.ghotibeaun.json.JSONValue;
+
+/**
+ * {@linkplain JSONObjectImpl} whose members are decoded from a {@linkplain LazyDocument} the first time any of
+ * them is accessed.  Once loaded, it behaves exactly like a {@linkplain JSONObjectImpl}.
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+class LazyJSONObjectImpl extends JSONObjectImpl {
+
+    /**
+     *
+     */
+    private static final long serialVersionUID = 3526841977210529064L;
+
+    private transient volatile LazyDocument document;
+    private final transient int container;
+
+    LazyJSONObjectImpl(LazyDocument document, int container) {
+        super();
+        this.document = document;
+        this.container = container;
+    }
+
+    /**
+     * Decode the members and add them once they have all been decoded, so a failed decode adds nothing
+     */
+    private void load() {
+        final LazyDocument source = document;
+        if (source != null) {
+            synchronized (source) {
+                if (document != null) {
+                    for (final Entry<String, JSONValue<?>> member : source.decodeMembers(container).entrySet()) {
+                        super.put(member.getKey(), member.getValue());
+                    }
+                    document = null;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void put(String key, JSONValue<?> value) {
+        load();
+        super.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<String, JSONValue<?>> map) {
+        load();
+        super.putAll(map);
+    }
+
+    @Override
+    public void clear() {
+        load();
+        super.clear();
+    }
+
+    @Override
+    public int size() {
+        load();
+        return super.size();
+    }
+
+    @Override
+    public Collection<JSONValue<?>> values() {
+        load();
+        return super.values();
+    }
+
+    @Override
+    public Iterable<String> keys() {
+        load();
+        return super.keys();
+    }
+
+    @Override
+    public Iterator<String> keySet() {
+        load();
+        return super.keySet();
+    }
+
+    @Override
+    public JSONValue<?> get(String key) {
+        load();
+        return super.get(key);
+    }
+
+    @Override
+    public Set<Entry<String, JSONValue<?>>> elements() {
+        load();
+        return super.elements();
+    }
+
+    @Override
+    public String[] names() {
+        load();
+        return super.names();
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        load();
+        return super.containsKey(key);
+    }
+
+    @Override
+    public JSONValue<?> remove(String key) {
+        load();
+        return super.remove(key);
+    }
+
+    /**
+     * Members are loaded before serialization starts, as superclass fields are written first
+     */
+    private Object writeReplace() {
+        load();
+        return this;
+    }
+}
@@ -28,16 +28,25 @@ import org.ghotibeaun.json.JSONObject;
 import org.ghotibeaun.json.JSONValue;
 import org.ghotibeaun.json.NullObject;
 import org.ghotibeaun.json.converters.Converters;
+import org.ghotibeaun.json.exception.JSONEventParserException;
 
 public final class NodeFactory {
 
 
+    /**
+     * Create an empty JSONObject of the class configured by {@linkplain Setting#OBJECT_CLASS}
+     * @return the new JSONObject
+     */
     public static JSONObject newJSONObject() {
-        return new JSONObjectImpl();
+        return FactorySettings.createFactoryClass(Setting.OBJECT_CLASS);
     }
 
+    /**
+     * Create an empty JSONArray of the class configured by {@linkplain Setting#ARRAY_CLASS}
+     * @return the new JSONArray
+     */
     public static JSONArray newJSONArray() {
-        return new JSONArrayImpl();
+        return FactorySettings.createFactoryClass(Setting.ARRAY_CLASS);
     }
 
     public static JSONObject newJSONObject(Map<String, ?> map) {
@@ -79,6 +88,16 @@ public final class NodeFactory {
         return JSONFactory.newFactory().newParser().parse(data);
     }
 
+    /**
+     * Index a UTF-8 encoded document whose objects and arrays are decoded the first time they're accessed
+     * @param data the document, which is retained by the result
+     * @return the root JSONObject or JSONArray
+     * @throws JSONEventParserException if the root isn't an object or array, or the document isn't balanced
+     */
+    public static JSONNode parseLazy(byte[] data) {
+        return LazyDocument.parse(data);
+    }
+
 
 
 
@@ -0,0 +1,96 @@
+/*
+ *
+ * # Released under MIT License
+ *
+ * Copyright (c) 2016-2021 Jim Earley.
+ *
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS 
+ * IN THE SOFTWARE.
+ */
+package org.ghotibeaun.json.factory;
+
+import org.ghotibeaun.json.exception.JSONInvalidValueTypeException;
+import org.ghotibeaun.json.factory.PrimitiveValueList.Storage;
+
+/**
+ * {@linkplain JSONArrayImpl} that holds its elements in a {@linkplain PrimitiveValueList}, so arrays of only longs,
+ * only doubles or only booleans are stored unboxed rather than as a value and a wrapper object per element.  An array
+ * widens to generic storage when an element of a different type is added.  {@link #getLong(int)},
+ * {@link #getDouble(int)} and {@link #toDoubleArray()} read the unboxed elements directly, which suits time series and
+ * vectors.  It can be enabled with:
+ *
+ * <pre>
+ * FactorySettings.applySetting(Setting.ARRAY_CLASS, "org.ghotibeaun.json.factory.PrimitiveJSONArrayImpl");
+ * </pre>
+ *
+ * Elements read with <code>get</code> or an iterator are created on demand while the array is unboxed, so changes to
+ * them with {@linkplain org.ghotibeaun.json.JSONValue#setValue(Object)} aren't stored in the array.
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+class PrimitiveJSONArrayImpl extends JSONArrayImpl {
+
+    /**
+     *
+     */
+    private static final long serialVersionUID = 2389145307251935106L;
+
+    private final PrimitiveValueList elements;
+
+    public PrimitiveJSONArrayImpl() {
+        this(new PrimitiveValueList());
+    }
+
+    private PrimitiveJSONArrayImpl(PrimitiveValueList elements) {
+        super(elements);
+        this.elements = elements;
+    }
+
+    @Override
+    public void add(Number number) {
+        if (number instanceof Long) {
+            elements.addLong(number.longValue());
+        } else if (number instanceof Double) {
+            elements.addDouble(number.doubleValue());
+        } else {
+            super.add(number);
+        }
+    }
+
+    @Override
+    public void add(Boolean bool) {
+        if (bool != null) {
+            elements.addBoolean(bool);
+        } else {
+            super.add(bool);
+        }
+    }
+
+    @Override
+    public long getLong(int index) throws JSONInvalidValueTypeException {
+        return isNumeric() ? elements.getLong(index) : super.getLong(index);
+    }
+
+    @Override
+    public double getDouble(int index) throws JSONInvalidValueTypeException {
+        return isNumeric() ? elements.getDouble(index) : super.getDouble(index);
+    }
+
+    @Override
+    public double[] toDoubleArray() throws JSONInvalidValueTypeException {
+        return isNumeric() || elements.getStorage() == Storage.EMPTY ? elements.toDoubleArray() : super.toDoubleArray();
+    }
+
+    private boolean isNumeric() {
+        return elements.getStorage() == Storage.LONG || elements.getStorage() == Storage.DOUBLE;
+    }
+}
@@ -0,0 +1,353 @@
+/*
+ *
+ * # Released under MIT License
+ *
+ * Copyright (c) 2016-2021 Jim Earley.
+ *
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS 
+ * IN THE SOFTWARE.
+ */
+package org.ghotibeaun.json.factory;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.ghotibeaun.json.JSONValue;
+
+/**
+ * List of array elements that stores homogeneous arrays of longs, doubles or booleans unboxed, in a <code>long[]</code>,
+ * <code>double[]</code> or {@linkplain BitSet}.  The storage is chosen by the first element added: a {@linkplain Long},
+ * {@linkplain Double} or {@linkplain Boolean} value selects the matching primitive storage, and anything else selects
+ * an {@linkplain ArrayList}.  Adding an element of a different type widens the list to an {@linkplain ArrayList} of
+ * values, which is used until the list is cleared.
+ *
+ * <p>While the elements are stored unboxed, {@link #get(int)} creates a new value each time it's called, so values read
+ * from the list aren't the instances that were added, and changing a value with {@link JSONValue#setValue(Object)}
+ * doesn't change the list.  Use {@link #set(int, JSONValue)} instead.</p>
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+final class PrimitiveValueList extends AbstractList<JSONValue<?>> implements RandomAccess, Serializable {
+
+    /**
+     *
+     */
+    private static final long serialVersionUID = -4310856263918342113L;
+
+    private static final int INITIAL_CAPACITY = 10;
+
+    /**
+     * The storage in use
+     */
+    enum Storage {
+        EMPTY, LONG, DOUBLE, BOOLEAN, GENERIC
+    }
+
+    private Storage storage = Storage.EMPTY;
+    private int size;
+    private long[] longs;
+    private double[] doubles;
+    private BitSet booleans;
+    private List<JSONValue<?>> values;
+
+    PrimitiveValueList() {
+        // storage is allocated by the first add
+    }
+
+    /**
+     * Return the storage in use
+     * @return the storage
+     */
+    Storage getStorage() {
+        return storage;
+    }
+
+    @Override
+    public int size() {
+        return storage == Storage.GENERIC ? values.size() : size;
+    }
+
+    @Override
+    public JSONValue<?> get(int index) {
+        switch (storage) {
+            case LONG:
+                checkIndex(index);
+                return NodeFactory.newNumberValue(longs[index]);
+            case DOUBLE:
+                checkIndex(index);
+                return NodeFactory.newNumberValue(doubles[index]);
+            case BOOLEAN:
+                checkIndex(index);
+                return NodeFactory.newBooleanValue(booleans.get(index));
+            case GENERIC:
+                return values.get(index);
+            default:
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: 0");
+        }
+    }
+
+    /**
+     * Return an element as a long without boxing it
+     * @param index the index
+     * @return the element, converted from a double if the list stores doubles
+     * @throws IllegalStateException if the list doesn't store longs or doubles
+     */
+    long getLong(int index) {
+        checkIndex(index);
+        switch (storage) {
+            case LONG:
+                return longs[index];
+            case DOUBLE:
+                return (long) doubles[index];
+            default:
+                throw new IllegalStateException("Elements are not stored as numbers");
+        }
+    }
+
+    /**
+     * Return an element as a double without boxing it
+     * @param index the index
+     * @return the element, converted from a long if the list stores longs
+     * @throws IllegalStateException if the list doesn't store longs or doubles
+     */
+    double getDouble(int index) {
+        checkIndex(index);
+        switch (storage) {
+            case LONG:
+                return longs[index];
+            case DOUBLE:
+                return doubles[index];
+            default:
+                throw new IllegalStateException("Elements are not stored as numbers");
+        }
+    }
+
+    /**
+     * Copy the elements to a double array
+     * @return the elements, converted from longs if the list stores longs
+     * @throws IllegalStateException if the list doesn't store longs or doubles
+     */
+    double[] toDoubleArray() {
+        switch (storage) {
+            case EMPTY:
+                return new double[0];
+            case LONG:
+                final double[] result = new double[size];
+                for (int i = 0; i < size; i++) {
+                    result[i] = longs[i];
+                }
+                return result;
+            case DOUBLE:
+                return Arrays.copyOf(doubles, size);
+            default:
+                throw new IllegalStateException("Elements are not stored as numbers");
+        }
+    }
+
+    /**
+     * Append a long, without boxing it if the list stores longs
+     * @param value the value
+     */
+    void addLong(long value) {
+        if (select(Storage.LONG)) {
+            ensureCapacity();
+            longs[size++] = value;
+            modCount++;
+        } else {
+            add(NodeFactory.newNumberValue(value));
+        }
+    }
+
+    /**
+     * Append a double, without boxing it if the list stores doubles
+     * @param value the value
+     */
+    void addDouble(double value) {
+        if (select(Storage.DOUBLE)) {
+            ensureCapacity();
+            doubles[size++] = value;
+            modCount++;
+        } else {
+            add(NodeFactory.newNumberValue(value));
+        }
+    }
+
+    /**
+     * Append a boolean, without boxing it if the list stores booleans
+     * @param value the value
+     */
+    void addBoolean(boolean value) {
+        if (select(Storage.BOOLEAN)) {
+            booleans.set(size++, value);
+            modCount++;
+        } else {
+            add(NodeFactory.newBooleanValue(value));
+        }
+    }
+
+    @Override
+    public void add(int index, JSONValue<?> element) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        final Object value = element != null ? element.getValue() : null;
+        if (select(storageOf(value))) {
+            if (storage == Storage.BOOLEAN) {
+                for (int i = size; i > index; i--) {
+                    booleans.set(i, booleans.get(i - 1));
+                }
+            } else {
+                ensureCapacity();
+                final Object array = storage == Storage.LONG ? longs : doubles;
+                System.arraycopy(array, index, array, index + 1, size - index);
+            }
+            size++;
+            store(index, value);
+        } else {
+            widen();
+            values.add(index, element);
+        }
+        modCount++;
+    }
+
+    @Override
+    public JSONValue<?> set(int index, JSONValue<?> element) {
+        final JSONValue<?> previous = get(index);
+        final Object value = element != null ? element.getValue() : null;
+        if (storage != Storage.GENERIC && storage == storageOf(value)) {
+            store(index, value);
+        } else {
+            widen();
+            values.set(index, element);
+        }
+        return previous;
+    }
+
+    @Override
+    public JSONValue<?> remove(int index) {
+        if (storage == Storage.GENERIC) {
+            modCount++;
+            return values.remove(index);
+        }
+
+        final JSONValue<?> previous = get(index);
+        if (storage == Storage.BOOLEAN) {
+            for (int i = index; i < size - 1; i++) {
+                booleans.set(i, booleans.get(i + 1));
+            }
+            booleans.clear(size - 1);
+        } else {
+            final Object array = storage == Storage.LONG ? longs : doubles;
+            System.arraycopy(array, index + 1, array, index, size - index - 1);
+        }
+        size--;
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        storage = Storage.EMPTY;
+        size = 0;
+        longs = null;
+        doubles = null;
+        booleans = null;
+        values = null;
+        modCount++;
+    }
+
+    private static Storage storageOf(Object value) {
+        if (value instanceof Long) {
+            return Storage.LONG;
+        } else if (value instanceof Double) {
+            return Storage.DOUBLE;
+        } else if (value instanceof Boolean) {
+            return Storage.BOOLEAN;
+        } else {
+            return Storage.GENERIC;
+        }
+    }
+
+    /**
+     * Prepare to store a value in the given primitive storage.  An empty list adopts the storage
+     * @return <code>true</code> if the list uses that storage
+     */
+    private boolean select(Storage required) {
+        if (storage == Storage.EMPTY) {
+            switch (required) {
+                case LONG:
+                    longs = new long[INITIAL_CAPACITY];
+                    break;
+                case DOUBLE:
+                    doubles = new double[INITIAL_CAPACITY];
+                    break;
+                case BOOLEAN:
+                    booleans = new BitSet();
+                    break;
+                default:
+                    values = new ArrayList<>();
+            }
+            storage = required;
+        }
+        return storage == required && storage != Storage.GENERIC;
+    }
+
+    private void store(int index, Object value) {
+        switch (storage) {
+            case LONG:
+                longs[index] = (Long) value;
+                break;
+            case DOUBLE:
+                doubles[index] = (Double) value;
+                break;
+            default:
+                booleans.set(index, (Boolean) value);
+        }
+    }
+
+    private void ensureCapacity() {
+        if (storage == Storage.LONG && size == longs.length) {
+            longs = Arrays.copyOf(longs, size + (size >> 1) + 1);
+        } else if (storage == Storage.DOUBLE && size == doubles.length) {
+            doubles = Arrays.copyOf(doubles, size + (size >> 1) + 1);
+        }
+    }
+
+    /**
+     * Move the elements to an {@linkplain ArrayList} of values
+     */
+    private void widen() {
+        if (storage == Storage.GENERIC) {
+            return;
+        }
+
+        final List<JSONValue<?>> widened = new ArrayList<>(Math.max(INITIAL_CAPACITY, size + (size >> 1)));
+        for (int i = 0; i < size; i++) {
+            widened.add(get(i));
+        }
+        clear();
+        storage = Storage.GENERIC;
+        values = widened;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
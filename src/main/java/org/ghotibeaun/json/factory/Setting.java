@@ -18,9 +18,12 @@
  */
 package org.ghotibeaun.json.factory;
 
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
+import org.ghotibeaun.json.JSONArray;
 import org.ghotibeaun.json.JSONFactory;
+import org.ghotibeaun.json.JSONObject;
 import org.ghotibeaun.json.parser.JSONParser;
 import org.ghotibeaun.json.parser.jep.EventParser;
 
@@ -45,6 +48,14 @@ public enum Setting {
     JSON_CONVERTER_CLASS("org.ghotibeaun.json.convert.jsonconverter", true),
     CLASS_CONVERTER_CLASS("org.ghotibeaun.json.convert.classconverter", true),
     SERIALIZER_CLASS("org.ghotibeaun.json.serializer", true),
+    /**
+     * Specifies the property for the {@link JSONObject} implementation class created by {@link NodeFactory#newJSONObject()}
+     */
+    OBJECT_CLASS("org.ghotibeaun.json.object", true),
+    /**
+     * Specifies the property for the {@link JSONArray} implementation class created by {@link NodeFactory#newJSONArray()}
+     */
+    ARRAY_CLASS("org.ghotibeaun.json.array", true),
     INPUTSTREAM_CHARSET("org.ghotibeaun.json.inputstream.charset", false),
     DATE_FORMAT("org.ghotibeaun.json.date.format", false),
     JSONPATH_IMPL_CLASS("org.ghotibeaun.json.jsonpath", true),
@@ -56,6 +67,14 @@ public enum Setting {
     CONVERTER_IGNORE_KEYS("org.ghotibeaun.json.converter.option.ignorekeys", false),
     CONVERTER_VALIDATION("org.ghotibeaun.json.converter.option.validation", false)
     ;
+    private static final Map<String, Setting> BY_PROPERTY_NAME = new HashMap<>();
+
+    static {
+        for (final Setting setting : values()) {
+            BY_PROPERTY_NAME.put(setting.property, setting);
+        }
+    }
+
     private String property;
     private boolean classValue;
 
@@ -68,9 +87,7 @@ public enum Setting {
     }
 
     public static Setting fromPropertyName(String propertyName) {
-        return Arrays.stream(values())
-                .filter(setting -> setting.getPropertyName().equals(propertyName))
-                .findFirst().orElse(null);
+        return propertyName != null ? BY_PROPERTY_NAME.get(propertyName) : null;
     }
 
     private Setting(String property, boolean classValue) {
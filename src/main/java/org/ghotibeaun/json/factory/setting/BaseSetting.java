@@ -5,7 +5,7 @@ import java.util.Optional;
 public abstract class BaseSetting<T> implements FactorySetting<T> {
 
     private final T defaultValue;
-    private T customValue = null;
+    private volatile T customValue = null;
 
     public BaseSetting(T defaultValue) {
         this.defaultValue = defaultValue;
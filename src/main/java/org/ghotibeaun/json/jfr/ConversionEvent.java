@@ -0,0 +1,69 @@
+/*
+ *
+ * # Released under MIT License
+ *
+ * Copyright (c) 2016-2021 Jim Earley.
+ *
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS 
+ * IN THE SOFTWARE.
+ */
+package org.ghotibeaun.json.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Records a conversion between JSON and Java classes.  The node count is the number of nodes in the JSON
+ * that was read or created.
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+@Name("org.ghotibeaun.json.Conversion")
+@Label("JSON Conversion")
+@Description("Conversion between JSON and Java classes")
+public final class ConversionEvent extends JSONOperationEvent {
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Converter")
+    private Class<?> converter;
+
+    @Label("Class")
+    @Description("Class converted to or from JSON")
+    private Class<?> targetClass;
+
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public void setConverter(Class<?> converter) {
+        this.converter = converter;
+    }
+
+    public Class<?> getConverter() {
+        return converter;
+    }
+
+    public void setTargetClass(Class<?> targetClass) {
+        this.targetClass = targetClass;
+    }
+
+    public Class<?> getTargetClass() {
+        return targetClass;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ *
+ * # Released under MIT License
+ *
+ * Copyright (c) 2016-2021 Jim Earley.
+ *
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS 
+ * IN THE SOFTWARE.
+ */
+package org.ghotibeaun.json.jfr;
+
+import org.ghotibeaun.json.JSONNode;
+import org.ghotibeaun.json.JSONValue;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base class for the JDK Flight Recorder events emitted by the library.  Each event records its duration along with
+ * the size of the document (where one exists) and the number of nodes involved.  Events are only committed when
+ * a recording has enabled them, so when the Flight Recorder isn't running the cost is little more than creating the
+ * event instance and checking <code>shouldCommit()</code>.  Callers should only count nodes once
+ * <code>shouldCommit()</code> has returned <code>true</code>.
+ *
+ * <p>Stack traces are disabled by default, and can be turned on for an event in the recording's settings.  The fields
+ * are protected because the Flight Recorder only records the private fields of the event class itself.</p>
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+@Category("JSON-JEP")
+@StackTrace(false)
+public abstract class JSONOperationEvent extends Event {
+
+    @Label("Size")
+    @Description("Size of the document read or written")
+    @DataAmount
+    protected long size;
+
+    @Label("Node Count")
+    @Description("Number of JSON nodes read, written or selected")
+    protected long nodeCount;
+
+    /**
+     * Set the size of the document
+     * @param size the size, in bytes
+     */
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    /**
+     * Set the size of a document held as text to its UTF-8 encoded size.  The size is counted from the characters,
+     * without encoding them.
+     * @param text the document
+     */
+    public void setSize(CharSequence text) {
+        long bytes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            final char ch = text.charAt(i);
+            if (ch < 0x80) {
+                bytes++;
+            } else if (ch < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(ch) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += 3;
+            }
+        }
+        size = bytes;
+    }
+
+    /**
+     * Return the size of the document
+     * @return the size, in bytes
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Set the number of nodes
+     * @param nodeCount the number of nodes
+     */
+    public void setNodeCount(long nodeCount) {
+        this.nodeCount = nodeCount;
+    }
+
+    /**
+     * Set the number of nodes to the number of values in a document, including the document itself
+     * @param node the document
+     */
+    public void setNodeCount(JSONNode node) {
+        nodeCount = node != null ? countNodes(node) : 0;
+    }
+
+    /**
+     * Return the number of nodes
+     * @return the number of nodes
+     */
+    public long getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Count the values in a document, including nested objects and arrays and the document itself
+     * @param node the document
+     * @return the number of values
+     */
+    public static long countNodes(JSONNode node) {
+        long count = 1;
+        final Iterable<JSONValue<?>> values = node.isArray() ? node.asJSONArray() : node.asJSONObject().values();
+        for (final JSONValue<?> value : values) {
+            if (value.getValue() instanceof JSONNode) {
+                count += countNodes((JSONNode)value.getValue());
+            } else {
+                count++;
+            }
+        }
+        return count;
+    }
+}
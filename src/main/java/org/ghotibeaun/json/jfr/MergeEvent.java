@@ -0,0 +1,67 @@
+/*
+ *
+ * # Released under MIT License
+ *
+ * Copyright (c) 2016-2021 Jim Earley.
+ *
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS 
+ * IN THE SOFTWARE.
+ */
+package org.ghotibeaun.json.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Records the merging of two documents.  The node count is the number of nodes in the merged result.
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+@Name("org.ghotibeaun.json.Merge")
+@Label("JSON Merge")
+@Description("Merging of two JSON documents")
+public final class MergeEvent extends JSONOperationEvent {
+
+    @Label("Array Strategy")
+    private String arrayStrategy;
+
+    @Label("Object Strategy")
+    private String objectStrategy;
+
+    @Label("Result Strategy")
+    private String mergeResult;
+
+    public void setArrayStrategy(String arrayStrategy) {
+        this.arrayStrategy = arrayStrategy;
+    }
+
+    public String getArrayStrategy() {
+        return arrayStrategy;
+    }
+
+    public void setObjectStrategy(String objectStrategy) {
+        this.objectStrategy = objectStrategy;
+    }
+
+    public String getObjectStrategy() {
+        return objectStrategy;
+    }
+
+    public void setMergeResult(String mergeResult) {
+        this.mergeResult = mergeResult;
+    }
+
+    public String getMergeResult() {
+        return mergeResult;
+    }
+}
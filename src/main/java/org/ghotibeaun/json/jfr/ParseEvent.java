@@ -0,0 +1,70 @@
+/*
+ *
+ * # Released under MIT License
+ *
+ * Copyright (c) 2016-2021 Jim Earley.
+ *
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS 
+ * IN THE SOFTWARE.
+ */
+package org.ghotibeaun.json.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Records the parsing of a document.  The size is the number of bytes read, and the node count is the number of
+ * nodes created by the handler (0 for handlers that don't build a document).
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+@Name("org.ghotibeaun.json.Parse")
+@Label("JSON Parse")
+@Description("Parsing of a JSON document")
+public final class ParseEvent extends JSONOperationEvent {
+
+    @Label("Processor")
+    @Description("Class that tokenized the document")
+    private Class<?> processor;
+
+    @Label("Handler")
+    @Description("Class that received the parser events")
+    private Class<?> handler;
+
+    @Label("Maximum Depth")
+    private int maxDepth;
+
+    public void setProcessor(Class<?> processor) {
+        this.processor = processor;
+    }
+
+    public Class<?> getProcessor() {
+        return processor;
+    }
+
+    public void setHandler(Class<?> handler) {
+        this.handler = handler;
+    }
+
+    public Class<?> getHandler() {
+        return handler;
+    }
+
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+}
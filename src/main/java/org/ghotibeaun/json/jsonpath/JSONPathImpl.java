@@ -28,6 +28,7 @@ import org.ghotibeaun.json.converters.Converters;
 import org.ghotibeaun.json.factory.FactorySettings;
 import org.ghotibeaun.json.factory.NodeFactory;
 import org.ghotibeaun.json.factory.Setting;
+import org.ghotibeaun.json.jfr.JSONPathEvent;
 import org.ghotibeaun.json.parser.ParserFactory;
 
 import com.jayway.jsonpath.Configuration;
@@ -81,7 +82,19 @@ class JSONPathImpl implements JSONPath {
 
     @Override
     public JSONArray select(JSONNode context) {
-        return doEvaluate(context);
+        final JSONPathEvent event = new JSONPathEvent();
+        event.begin();
+
+        final JSONArray result = doEvaluate(context);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.setPath(getJsonPath());
+            event.setProvider(configuration.jsonProvider().getClass());
+            event.setNodeCount(result.size());
+            event.commit();
+        }
+        return result;
     }
 
     @Override
@@ -21,6 +21,7 @@ package org.ghotibeaun.json.merge;
 import org.ghotibeaun.json.JSONArray;
 import org.ghotibeaun.json.JSONNode;
 import org.ghotibeaun.json.JSONObject;
+import org.ghotibeaun.json.jfr.MergeEvent;
 import org.ghotibeaun.json.merge.strategies.AcceptPrimaryConflictStrategy;
 import org.ghotibeaun.json.merge.strategies.AcceptSecondaryConflictStrategy;
 import org.ghotibeaun.json.merge.strategies.AppendArrayConflictStrategy;
@@ -88,8 +89,21 @@ public final class MergeProcessor implements MergeProcess {
     public static <T extends JSONNode> T merge(T primary, T secondary, ArrayConflict arrayStrategies,
             ObjectConflict objectStrategy, MergeResult mergeResultStrategy) {
 
+        final MergeEvent event = new MergeEvent();
+        event.begin();
+
         final MergeProcessor mp = new MergeProcessor(arrayStrategies, objectStrategy, mergeResultStrategy);
         final T result = mp.mergeNodes(primary, secondary);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.setArrayStrategy(arrayStrategies.name());
+            event.setObjectStrategy(objectStrategy.name());
+            event.setMergeResult(mergeResultStrategy.name());
+            event.setNodeCount(result);
+            event.commit();
+        }
+
         if (mp.getMergeResultStrategy() == MergeResult.MERGE_PRIMARY) {
             primary = result;
             return primary;
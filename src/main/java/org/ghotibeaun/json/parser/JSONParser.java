@@ -23,14 +23,21 @@ import java.io.InputStream;
 import java.io.Reader;
 import java.net.URL;
 import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.ghotibeaun.json.JSONArray;
 import org.ghotibeaun.json.JSONNode;
 import org.ghotibeaun.json.JSONObject;
+import org.ghotibeaun.json.JSONValue;
 import org.ghotibeaun.json.exception.JSONParserException;
+import org.ghotibeaun.json.parser.jep.ParseStatistics;
 
 /**
- * JSON Parser interface.  
+ * JSON Parser interface.  Implementations are thread-safe, and a single instance can be reused for any number of
+ * documents: the event pipeline behind the stream, file and URL methods is assembled once per thread and reset
+ * between documents.
  * @author Jim Earley (xml.jim@gmail.com)
  *
  */
@@ -93,6 +100,114 @@ public interface JSONParser {
      */
     JSONNode parse(Path filePath) throws JSONParserException;
 
+    /**
+     * Parse a file whose root is an array, splitting the array's elements into chunks that are parsed
+     * concurrently on the common {@linkplain ForkJoinPool}.  The elements are added to the result in their
+     * original order.
+     * @param filePath the Path reference
+     * @return the root JSONArray
+     * @throws JSONParserException thrown if the root isn't an array, or a parsing error occurs
+     */
+    JSONArray parseParallel(Path filePath) throws JSONParserException;
+
+    /**
+     * Parse a file whose root is an array, splitting the array's elements into chunks that are parsed
+     * concurrently on the specified pool.  The elements are added to the result in their original order.
+     * @param filePath the Path reference
+     * @param pool the pool that parses the chunks
+     * @return the root JSONArray
+     * @throws JSONParserException thrown if the root isn't an array, or a parsing error occurs
+     */
+    JSONArray parseParallel(Path filePath, ForkJoinPool pool) throws JSONParserException;
+
+    /**
+     * Parse a file whose root is an array, splitting the array's elements into chunks that are parsed
+     * concurrently on the specified pool.  Each element is passed to the consumer on the calling thread, in its
+     * original order, and only a bounded number of parsed chunks is held in memory at a time.
+     * @param filePath the Path reference
+     * @param pool the pool that parses the chunks
+     * @param consumer receives each element of the root array
+     * @throws JSONParserException thrown if the root isn't an array, or a parsing error occurs
+     */
+    void parseParallel(Path filePath, ForkJoinPool pool, Consumer<JSONValue<?>> consumer) throws JSONParserException;
+
+    /**
+     * Parse newline-delimited JSON (NDJSON/JSON Lines), where each line holds one object or array.  Batches of lines
+     * are parsed concurrently on the common {@linkplain ForkJoinPool}, and the records are returned in their original
+     * order.  The input is read as the stream is consumed and is not closed.
+     * @param inputStream the input
+     * @return an ordered stream of the records
+     * @throws JSONParserException thrown if a line isn't an object or array, or a parsing error occurs
+     */
+    Stream<JSONNode> parseLines(InputStream inputStream) throws JSONParserException;
+
+    /**
+     * Parse newline-delimited JSON (NDJSON/JSON Lines), where each line holds one object or array.  Batches of lines
+     * are parsed concurrently on the specified pool, and the records are returned in their original order.  The input
+     * is read as the stream is consumed and is not closed.
+     * @param inputStream the input
+     * @param pool the pool that parses the batches
+     * @return an ordered stream of the records
+     * @throws JSONParserException thrown if a line isn't an object or array, or a parsing error occurs
+     */
+    Stream<JSONNode> parseLines(InputStream inputStream, ForkJoinPool pool) throws JSONParserException;
+
+    /**
+     * Parse newline-delimited JSON (NDJSON/JSON Lines), where each line holds one object or array.  Batches of lines
+     * are parsed concurrently on the specified pool.  Each record is passed to the consumer on the calling thread, in
+     * its original order, and only a bounded number of parsed batches is held in memory at a time.
+     * @param inputStream the input
+     * @param pool the pool that parses the batches
+     * @param consumer receives each record
+     * @throws JSONParserException thrown if a line isn't an object or array, or a parsing error occurs
+     */
+    void parseLines(InputStream inputStream, ForkJoinPool pool, Consumer<JSONNode> consumer) throws JSONParserException;
+
+    /**
+     * Parse a UTF-8 encoded document lazily.  Only the positions of the document's objects and arrays are indexed;
+     * the members of each object or array are decoded the first time one of them is accessed, and then cached.
+     * Syntax errors other than unbalanced brackets and unclosed strings are reported when the object or array
+     * holding them is first accessed.  The array is retained by the result and must not be modified.
+     * @param data the document
+     * @return the root JSONObject or JSONArray
+     * @throws JSONParserException thrown if the root isn't an object or array, or the document isn't balanced
+     */
+    JSONNode parseLazy(byte[] data) throws JSONParserException;
+
+    /**
+     * Read a UTF-8 encoded file into memory and parse it lazily
+     * @param filePath the Path reference
+     * @return the root JSONObject or JSONArray
+     * @throws JSONParserException thrown if the file can't be read, the root isn't an object or array, or the
+     * document isn't balanced
+     * @see #parseLazy(byte[])
+     */
+    JSONNode parseLazy(Path filePath) throws JSONParserException;
+
+    /**
+     * Read a UTF-8 encoded stream into memory and parse it lazily.  The stream is not closed.
+     * @param inputStream the input
+     * @return the root JSONObject or JSONArray
+     * @throws JSONParserException thrown if the stream can't be read, the root isn't an object or array, or the
+     * document isn't balanced
+     * @see #parseLazy(byte[])
+     */
+    JSONNode parseLazy(InputStream inputStream) throws JSONParserException;
+
+    /**
+     * Enable or disable collecting {@linkplain ParseStatistics} for documents parsed from a stream, file or URL.
+     * Statistics are disabled by default.
+     * @param enable <code>true</code> to collect statistics
+     * @return this parser
+     */
+    JSONParser setEnableStatistics(boolean enable);
+
+    /**
+     * Return the statistics for the last document this parser parsed from a stream, file or URL on the current thread
+     * @return the statistics, or <code>null</code> if statistics aren't enabled or nothing has been parsed
+     */
+    ParseStatistics getStatistics();
+
     /**
      * Create an empty JSONObject
      * @return the JSONObject
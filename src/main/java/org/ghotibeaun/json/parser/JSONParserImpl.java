@@ -19,31 +19,35 @@
 package org.ghotibeaun.json.parser;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.io.StringReader;
 import java.net.URL;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.ghotibeaun.json.JSONArray;
 import org.ghotibeaun.json.JSONNode;
 import org.ghotibeaun.json.JSONObject;
+import org.ghotibeaun.json.JSONValue;
 import org.ghotibeaun.json.converters.Converters;
 import org.ghotibeaun.json.exception.JSONConversionException;
 import org.ghotibeaun.json.exception.JSONParserException;
 import org.ghotibeaun.json.factory.FactorySettings;
 import org.ghotibeaun.json.factory.NodeFactory;
 import org.ghotibeaun.json.factory.Setting;
-import org.ghotibeaun.json.parser.jep.EventParser;
-import org.ghotibeaun.json.parser.jep.ParserConfiguration;
-import org.ghotibeaun.json.parser.jep.ParserSettings;
-import org.ghotibeaun.json.parser.jep.eventhandler.EventHandler;
+import org.ghotibeaun.json.jfr.ParseEvent;
+import org.ghotibeaun.json.parser.jep.ParseStatistics;
 
 class JSONParserImpl implements JSONParser {
 
+    private volatile boolean enableStatistics = false;
+    private final ThreadLocal<ParseStatistics> statistics = new ThreadLocal<>();
+
     public JSONParserImpl() {
         // TODO Auto-generated constructor stub
     }
@@ -55,17 +59,15 @@ class JSONParserImpl implements JSONParser {
 
     @Override
     public JSONNode parse(InputStream inputStream, String charSet) throws JSONParserException {
-        final EventHandler handler = FactorySettings.createFactoryClass(Setting.EVENT_HANDLER_CLASS);
-        //final NativeEventHandler handler = new NativeEventHandler();
-
-        final ParserSettings settings = new ParserSettings(ParserConfiguration.newConfiguration(handler));
-        settings.setCharSet(charSet);
-
-        final EventParser parser = EventParser.newEventParser();
-        parser.parse(inputStream, settings);
+        final ParserPipeline pipeline = ParserPipeline.get();
 
+        if (!enableStatistics) {
+            return pipeline.parse(inputStream, charSet);
+        }
 
-        return handler.getResult();
+        final JSONNode result = pipeline.parse(inputStream, charSet, true);
+        statistics.set(pipeline.getStatistics().copy());
+        return result;
     }
 
     @Override
@@ -82,13 +84,20 @@ class JSONParserImpl implements JSONParser {
 
     @Override
     public JSONNode parse(String data) throws JSONParserException {
+        final ParseEvent event = new ParseEvent();
+        event.begin();
+
         final StringReader reader = new StringReader(data);
-        if (data.charAt(0) == '{') {
-            return parseMap(reader);
-        } else {
-            return parseList(reader);
+        final JSONNode node = data.charAt(0) == '{' ? parseMap(reader) : parseList(reader);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.setProcessor(Tokenizer.class);
+            event.setSize(data);
+            event.setNodeCount(node);
+            event.commit();
         }
-
+        return node;
     }
 
     @Override
@@ -117,22 +126,86 @@ class JSONParserImpl implements JSONParser {
 
     @Override
     public JSONNode parse(File file) throws JSONParserException {
+        return parse(file.toPath());
+    }
+
+    @Override
+    public JSONNode parse(Path filePath) throws JSONParserException {
+        final ParserPipeline pipeline = ParserPipeline.get();
+        final JSONNode result = pipeline.parse(filePath, FactorySettings.getSetting(Setting.INPUTSTREAM_CHARSET), enableStatistics);
+
+        if (enableStatistics) {
+            statistics.set(pipeline.getStatistics().copy());
+        }
+
+        return result;
+    }
+
+    @Override
+    public JSONArray parseParallel(Path filePath) throws JSONParserException {
+        return parseParallel(filePath, ForkJoinPool.commonPool());
+    }
+
+    @Override
+    public JSONArray parseParallel(Path filePath, ForkJoinPool pool) throws JSONParserException {
+        return ParallelArrayParser.parseArray(filePath, pool);
+    }
+
+    @Override
+    public void parseParallel(Path filePath, ForkJoinPool pool, Consumer<JSONValue<?>> consumer) throws JSONParserException {
+        new ParallelArrayParser(pool, consumer).parse(filePath);
+    }
+
+    @Override
+    public Stream<JSONNode> parseLines(InputStream inputStream) throws JSONParserException {
+        return parseLines(inputStream, ForkJoinPool.commonPool());
+    }
+
+    @Override
+    public Stream<JSONNode> parseLines(InputStream inputStream, ForkJoinPool pool) throws JSONParserException {
+        return new LineDelimitedParser(inputStream, pool).stream();
+    }
+
+    @Override
+    public void parseLines(InputStream inputStream, ForkJoinPool pool, Consumer<JSONNode> consumer) throws JSONParserException {
+        new LineDelimitedParser(inputStream, pool).forEachRemaining(consumer);
+    }
+
+    @Override
+    public JSONNode parseLazy(byte[] data) throws JSONParserException {
+        return NodeFactory.parseLazy(data);
+    }
+
+    @Override
+    public JSONNode parseLazy(Path filePath) throws JSONParserException {
         try {
-            final FileInputStream stream = new FileInputStream(file);
-            final JSONNode o = parse(stream);
-            stream.close();
-            return o;
-        } catch (final FileNotFoundException e) {
+            return parseLazy(Files.readAllBytes(filePath));
+        } catch (final IOException e) {
             throw new JSONParserException(e.getMessage(), e);
+        }
+    }
 
+    @Override
+    public JSONNode parseLazy(InputStream inputStream) throws JSONParserException {
+        try {
+            return parseLazy(inputStream.readAllBytes());
         } catch (final IOException e) {
             throw new JSONParserException(e.getMessage(), e);
         }
     }
 
     @Override
-    public JSONNode parse(Path filePath) throws JSONParserException {
-        return parse(filePath.toFile());
+    public JSONParser setEnableStatistics(boolean enable) {
+        enableStatistics = enable;
+        if (!enable) {
+            statistics.remove();
+        }
+        return this;
+    }
+
+    @Override
+    public ParseStatistics getStatistics() {
+        return enableStatistics ? statistics.get() : null;
     }
 
     @Override
@@ -0,0 +1,358 @@
+/*
+ *
+ * # Released under MIT License
+ *
+ * Copyright (c) 2016-2021 Jim Earley.
+ *
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS 
+ * IN THE SOFTWARE.
+ */
+package org.ghotibeaun.json.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.ghotibeaun.json.JSONArray;
+import org.ghotibeaun.json.JSONNode;
+import org.ghotibeaun.json.exception.JSONEventParserException;
+import org.ghotibeaun.json.exception.JSONParserException;
+import org.ghotibeaun.json.factory.FactorySettings;
+import org.ghotibeaun.json.factory.Setting;
+
+/**
+ * Parses newline-delimited JSON (NDJSON, or JSON Lines), where each line holds one object or array.  The calling
+ * thread reads the input and cuts it into batches of whole lines, and each batch is submitted to a
+ * {@linkplain ForkJoinPool}.  A worker parses its batch as a single array, with one element per line, so the parser
+ * setup is paid once per batch rather than once per record.  Records are returned in their original order, and the
+ * number of batches in flight is bounded, so the input never needs to be held in memory all at once.
+ *
+ * <p>Blank lines are skipped.  Each line is checked before its batch is parsed: it must hold exactly one object or
+ * array that opens and closes on that line.  Parser errors report the line number in the input.</p>
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+class LineDelimitedParser implements Iterator<JSONNode> {
+    private static final int DEFAULT_BATCH_SIZE = 1 << 18;
+    private static final int READ_SIZE = 1 << 16;
+    private static final int BATCHES_PER_THREAD = 4;
+
+    private final InputStream stream;
+    private final ForkJoinPool pool;
+    private final int batchSize;
+    private final Deque<ForkJoinTask<Batch>> pending = new ArrayDeque<>();
+
+    private byte[] buffer;
+    private int buffered = 0;
+    private int lineEnd = 0;
+    private long nextLine = 1;
+    private boolean endOfInput = false;
+
+    private Batch current;
+    private int currentIndex = 0;
+
+    LineDelimitedParser(InputStream stream, ForkJoinPool pool) {
+        this(stream, pool, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Constructor
+     * @param stream the input
+     * @param pool the pool that parses the batches
+     * @param batchSize the minimum size of each batch in bytes
+     */
+    LineDelimitedParser(InputStream stream, ForkJoinPool pool, int batchSize) {
+        this.stream = stream;
+        this.pool = pool;
+        this.batchSize = batchSize;
+        buffer = new byte[Math.max(batchSize, READ_SIZE) + READ_SIZE];
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (current == null || currentIndex == current.count) {
+            submitBatches();
+            if (pending.isEmpty()) {
+                return false;
+            }
+            current = join(pending.removeFirst());
+            currentIndex = 0;
+        }
+        return true;
+    }
+
+    @Override
+    public JSONNode next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.getRecord(currentIndex++);
+    }
+
+    /**
+     * Returns the records as an ordered, sequential stream.  Closing the stream cancels any batches still in flight;
+     * the input stream is left open.
+     * @return the records
+     */
+    Stream<JSONNode> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::cancel);
+    }
+
+    void cancel() {
+        pending.forEach(task -> task.cancel(true));
+        pending.clear();
+    }
+
+    /**
+     * Read ahead and submit batches until the in-flight limit is reached or the input ends
+     */
+    private void submitBatches() {
+        final int limit = pool.getParallelism() * BATCHES_PER_THREAD;
+
+        try {
+            while (pending.size() < limit && !endOfInput) {
+                if (buffered + READ_SIZE > buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length << 1);
+                }
+
+                final int length = stream.read(buffer, buffered, READ_SIZE);
+                if (length == -1) {
+                    endOfInput = true;
+                    submit(buffered);
+                } else {
+                    markLineEnd(buffered, length);
+                    buffered += length;
+                    if (buffered >= batchSize && lineEnd > 0) {
+                        submit(lineEnd);
+                    }
+                }
+            }
+        } catch (final IOException e) {
+            cancel();
+            throw new JSONParserException(e);
+        }
+    }
+
+    /**
+     * Record the end of the last line break in newly read bytes, so that each byte is only scanned once
+     */
+    private void markLineEnd(int from, int length) {
+        for (int i = from + length - 1; i >= from; i--) {
+            if (buffer[i] == '\n') {
+                lineEnd = i + 1;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Submit the first <code>end</code> bytes of the buffer, which end on a line boundary (or at the end of the input),
+     * and move any remaining bytes to the front of the buffer
+     */
+    private void submit(int end) {
+        if (end > 0) {
+            final byte[] lines = Arrays.copyOf(buffer, end);
+            final long firstLine = nextLine;
+            for (int i = 0; i < end; i++) {
+                if (buffer[i] == '\n') {
+                    nextLine++;
+                }
+            }
+            pending.addLast(pool.submit(() -> parseBatch(lines, firstLine)));
+        }
+
+        System.arraycopy(buffer, end, buffer, 0, buffered - end);
+        buffered -= end;
+        // batches end at the last line break or at the end of the input, so no line break is left
+        lineEnd = 0;
+    }
+
+    private Batch join(ForkJoinTask<Batch> task) {
+        try {
+            return task.join();
+        } catch (final JSONParserException e) {
+            cancel();
+            // join() may rethrow a copy of a worker's exception that wraps the original
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof RecordException) {
+                    throw (RecordException)cause;
+                }
+            }
+            throw e;
+        } catch (final RuntimeException e) {
+            cancel();
+            throw new JSONParserException(e);
+        }
+    }
+
+    /**
+     * Wrap the batch's non-blank lines in brackets and separate them with commas, keeping every line break so that
+     * line numbers within the batch are unchanged, and parse it as a single array.  Every line is checked first, so
+     * each element of the array is exactly one line's record.
+     */
+    static Batch parseBatch(byte[] lines, long firstLine) {
+        final byte[] document = new byte[lines.length * 2 + 3];
+        final Batch batch = new Batch();
+        int length = 0;
+        int lineStart = 0;
+        long line = firstLine;
+
+        document[length++] = '[';
+
+        for (int i = 0; i <= lines.length; i++) {
+            if (i == lines.length || lines[i] == '\n') {
+                if (!isBlank(lines, lineStart, i)) {
+                    checkRecord(lines, lineStart, i, line);
+                    if (batch.count > 0) {
+                        document[length++] = ',';
+                    }
+                    System.arraycopy(lines, lineStart, document, length, i - lineStart);
+                    length += i - lineStart;
+                    batch.addLine(line);
+                }
+                document[length++] = '\n';
+                lineStart = i + 1;
+                line++;
+            }
+        }
+
+        document[length++] = ']';
+
+        if (batch.count == 0) {
+            return batch;
+        }
+
+        try {
+            batch.records = ParserPipeline.get()
+                    .parse(Collections.singletonList(ByteBuffer.wrap(document, 0, length)).iterator(), FactorySettings.getSetting(Setting.INPUTSTREAM_CHARSET))
+                    .asJSONArray();
+        } catch (final JSONEventParserException e) {
+            throw new RecordException("Error parsing line " + (firstLine + e.getLineNumber() - 1) + ": " + e.getMessage(), e);
+        }
+
+        return batch;
+    }
+
+    private static boolean isBlank(byte[] data, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!isWhitespace(data[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+
+    /**
+     * Check that a non-blank line holds a single object or array that is closed on the same line.  Only the brackets
+     * outside of strings are matched; everything else is left to the parser.
+     * @throws RecordException if the line holds a scalar, more than one value, an unmatched closing bracket,
+     * or a record that isn't closed by the end of the line
+     */
+    private static void checkRecord(byte[] data, int start, int end, long line) {
+        int i = start;
+        while (isWhitespace(data[i])) {
+            i++;
+        }
+        if (data[i] != '{' && data[i] != '[') {
+            if (data[i] == '}' || data[i] == ']') {
+                throw new RecordException("Error parsing line " + line + ": Unexpected '" + (char)data[i] + "'", null);
+            }
+            throw new RecordException("Line " + line + " is not a JSON object or array", null);
+        }
+
+        byte[] open = new byte[16];
+        int depth = 0;
+        boolean inString = false;
+        boolean closed = false;
+
+        for (; i < end; i++) {
+            final byte b = data[i];
+            if (inString) {
+                if (b == '\\') {
+                    i++;
+                } else if (b == '"') {
+                    inString = false;
+                }
+            } else if (closed) {
+                if (b == '}' || b == ']') {
+                    throw new RecordException("Error parsing line " + line + ": Unexpected '" + (char)b + "'", null);
+                } else if (!isWhitespace(b)) {
+                    throw new RecordException("Error parsing line " + line + ": More than one value on the line", null);
+                }
+            } else if (b == '"') {
+                inString = true;
+            } else if (b == '{' || b == '[') {
+                if (depth == open.length) {
+                    open = Arrays.copyOf(open, depth << 1);
+                }
+                open[depth++] = b;
+            } else if (b == '}' || b == ']') {
+                if (open[depth - 1] != (b == '}' ? '{' : '[')) {
+                    throw new RecordException("Error parsing line " + line + ": Unexpected '" + (char)b + "'", null);
+                }
+                closed = --depth == 0;
+            }
+        }
+
+        if (!closed) {
+            throw new RecordException("Error parsing line " + line + ": The record is not closed on this line", null);
+        }
+    }
+
+    /**
+     * An error in a specific record
+     */
+    private static class RecordException extends JSONParserException {
+        private static final long serialVersionUID = 1L;
+
+        RecordException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    /**
+     * The records parsed from a batch, and the line each one came from
+     */
+    static class Batch {
+        private long[] lines = new long[64];
+        private int count = 0;
+        private JSONArray records;
+
+        private void addLine(long line) {
+            if (count == lines.length) {
+                lines = Arrays.copyOf(lines, count << 1);
+            }
+            lines[count++] = line;
+        }
+
+        JSONNode getRecord(int index) {
+            return (JSONNode)records.get(index).getValue();
+        }
+    }
+}
@@ -19,6 +19,7 @@
 package org.ghotibeaun.json.parser;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.ArrayDeque;
 
 import org.ghotibeaun.json.JSONArray;
@@ -27,6 +28,7 @@ import org.ghotibeaun.json.JSONObject;
 import org.ghotibeaun.json.JSONValue;
 import org.ghotibeaun.json.JSONValueType;
 import org.ghotibeaun.json.factory.NodeFactory;
+import org.ghotibeaun.json.parser.jep.ParseStatistics;
 import org.ghotibeaun.json.parser.jep.eventhandler.StackEventHandler;
 
 class NativeEventHandler extends StackEventHandler {
@@ -34,7 +36,6 @@ class NativeEventHandler extends StackEventHandler {
     private JSONNode currentNode;
     private final ArrayDeque<JSONNode> stack = new ArrayDeque<>();
 
-    private long totalAssemblyTime = 0;
     private long entities;
 
     public NativeEventHandler() {
@@ -45,9 +46,17 @@ class NativeEventHandler extends StackEventHandler {
         return result;
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        result = null;
+        currentNode = null;
+        stack.clear();
+        entities = 0;
+    }
+
     @Override
     public void documentStart(JSONValueType type) {
-        final long s = System.nanoTime();
         if (type == JSONValueType.ARRAY) {
             result = NodeFactory.newJSONArray();
         } else if (type == JSONValueType.OBJECT) {
@@ -56,13 +65,10 @@ class NativeEventHandler extends StackEventHandler {
         entities++;
         stack.push(result);
         currentNode = result;
-        final long e = System.nanoTime();
-        totalAssemblyTime += e-s;
     }
 
     private void appendToCurrent(String key, JSONArray array) {
 
-        final long s = System.nanoTime();
         if (currentNode instanceof JSONArray) {
             ((JSONArray)currentNode).add(array);
         } else {
@@ -71,12 +77,9 @@ class NativeEventHandler extends StackEventHandler {
         entities++;
         stack.push(array);
         currentNode = array;
-        final long e = System.nanoTime();
-        totalAssemblyTime += e-s;
     }
 
     private void appendToCurrent(String key, JSONObject obj) {
-        final long s = System.nanoTime();
 
         if (currentNode instanceof JSONArray) {
             ((JSONArray)currentNode).add(obj);
@@ -87,130 +90,118 @@ class NativeEventHandler extends StackEventHandler {
         stack.push(obj);
         currentNode = obj;
 
-        final long e = System.nanoTime();
-        totalAssemblyTime += e-s;
+    }
+
+    /**
+     * Numbers and booleans are passed to the array's typed add methods, so an array implementation can store them
+     * without wrapping each one in a value
+     */
+    private void appendToCurrent(String key, Number value) {
+        if (currentNode instanceof JSONArray) {
+            ((JSONArray)currentNode).add(value);
+        } else {
+            ((JSONObject)currentNode).put(key, NodeFactory.newNumberValue(value));
+        }
+        entities++;
+    }
+
+    private void appendToCurrent(String key, boolean value) {
+        if (currentNode instanceof JSONArray) {
+            ((JSONArray)currentNode).add(value);
+        } else {
+            ((JSONObject)currentNode).put(key, NodeFactory.newBooleanValue(value));
+        }
+        entities++;
     }
 
     private void appendToCurrent(String key, JSONValue<?> value) {
-        final long s = System.nanoTime();
         if (currentNode instanceof JSONArray) {
             ((JSONArray)currentNode).add(value);
         } else {
             ((JSONObject)currentNode).put(key, value);
         }
         entities++;
-        final long e = System.nanoTime();
-        totalAssemblyTime += e-s;
     }
 
     @Override
     public void documentEnd() {
-        System.out.println("Total Entities: " + entities);
-        System.out.println("Time: " + totalAssemblyTime * .000000001f);
-
+        final ParseStatistics statistics = getParserSettings().getStatistics();
+        if (statistics != null) {
+            statistics.addNodes(entities);
+        }
     }
 
     @Override
     public void jsonArrayStart(String key) {
-        final long s= System.nanoTime();
         appendToCurrent(key, NodeFactory.newJSONArray());
-        final long e = System.nanoTime();
-        totalAssemblyTime += e-s;
     }
 
     @Override
     public void jsonArrayEnd(String key) {
-        final long s = System.nanoTime();
         stack.pop();
         currentNode = stack.peek();
-        final long e = System.nanoTime();
-        totalAssemblyTime += e-s;
 
     }
 
     @Override
     public void jsonObjectStart(String key) {
-        final long s = System.nanoTime();
         appendToCurrent(key, NodeFactory.newJSONObject());
-        final long e = System.nanoTime();
-        totalAssemblyTime += e-s;
     }
 
     @Override
     public void jsonObjectEnd(String key) {
-        final long s = System.nanoTime();
         stack.pop();
         currentNode = stack.peek();
-        final long e = System.nanoTime();
-        totalAssemblyTime += e-s;
     }
 
     @Override
     public void valueString(String key, String value) {
-        final long s = System.nanoTime();
         appendToCurrent(key, NodeFactory.newStringValue(value));
-        final long e = System.nanoTime();
-        totalAssemblyTime += e-s;
     }
 
     @Override
     public void valueLong(String key, Long value) {
-        final long s = System.nanoTime();
-        appendToCurrent(key, NodeFactory.newNumberValue(value));
-        final long e = System.nanoTime();
-        totalAssemblyTime += e-s;
+        appendToCurrent(key, value);
 
     }
 
     @Override
     public void valueInt(String key, Integer value) {
-        final long s = System.nanoTime();
-        appendToCurrent(key, NodeFactory.newNumberValue(value));
-        final long e = System.nanoTime();
-        totalAssemblyTime += e-s;
+        appendToCurrent(key, value);
 
     }
 
     @Override
     public void valueBigDecimal(String key, BigDecimal value) {
-        final long s = System.nanoTime();
-        appendToCurrent(key, NodeFactory.newNumberValue(value));
-        final long e = System.nanoTime();
-        totalAssemblyTime += e-s;
+        appendToCurrent(key, value);
+
+    }
+
+    @Override
+    public void valueBigInteger(String key, BigInteger value) {
+        appendToCurrent(key, value);
 
     }
 
     @Override
     public void valueDouble(String key, Double value) {
-        final long s = System.nanoTime();
-        appendToCurrent(key, NodeFactory.newNumberValue(value));
-        final long e = System.nanoTime();
-        totalAssemblyTime += e-s;    
+        appendToCurrent(key, value);
     }
 
     @Override
     public void valueFloat(String key, Float value) {
-        final long s = System.nanoTime();
-        appendToCurrent(key, NodeFactory.newNumberValue(value));
-        final long e = System.nanoTime();
-        totalAssemblyTime += e-s;         
+        appendToCurrent(key, value);
     }
 
     @Override
     public void valueBoolean(String key, boolean value) {
-        final long s = System.nanoTime();
-        appendToCurrent(key, NodeFactory.newBooleanValue(value));
-        final long e = System.nanoTime();
-        totalAssemblyTime += e-s;
+        appendToCurrent(key, value);
 
     }
 
     @Override
     public void valueNull(String key) {
-        final long s = System.nanoTime();
         appendToCurrent(key, NodeFactory.newJSONNullValue());
-        final long e = System.nanoTime();
-        totalAssemblyTime += e-s;
 
     }
 
@@ -0,0 +1,285 @@
+/*
+ *
+ * # Released under MIT License
+ *
+ * Copyright (c) 2016-2021 Jim Earley.
+ *
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS 
+ * IN THE SOFTWARE.
+ */
+package org.ghotibeaun.json.parser;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+import org.ghotibeaun.json.JSONArray;
+import org.ghotibeaun.json.JSONValue;
+import org.ghotibeaun.json.exception.JSONEventParserException;
+import org.ghotibeaun.json.exception.JSONParserException;
+import org.ghotibeaun.json.factory.FactorySettings;
+import org.ghotibeaun.json.factory.NodeFactory;
+import org.ghotibeaun.json.factory.Setting;
+
+/**
+ * Parses a file whose root is an array by splitting the array's elements into chunks that are parsed concurrently.
+ * The calling thread scans the file once for element boundaries, tracking strings, escapes and nesting depth so that
+ * only commas between top-level elements are used as split points, and submits each chunk to a {@linkplain ForkJoinPool}
+ * as soon as it is found.  Each chunk is mapped, wrapped in brackets and parsed as its own array, and the chunk arrays are
+ * stitched back together in their original order.
+ *
+ * <p>The number of chunks waiting to be stitched is bounded, so elements delivered to a consumer don't need to be held
+ * in memory all at once.  The scan also tracks line numbers, so parser errors report the line and column in the file
+ * rather than in the chunk that failed.</p>
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+class ParallelArrayParser {
+    private static final long MIN_CHUNK_SIZE = 1L << 20;
+    private static final long MAX_CHUNK_SIZE = 1L << 26;
+    private static final long SCAN_REGION_SIZE = 1L << 30;
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private static final ByteBuffer ARRAY_START = ByteBuffer.wrap(new byte[] {'['});
+    private static final ByteBuffer ARRAY_END = ByteBuffer.wrap(new byte[] {']'});
+
+    private final ForkJoinPool pool;
+    private final Consumer<JSONValue<?>> consumer;
+    private final Deque<ForkJoinTask<JSONArray>> pending = new ArrayDeque<>();
+
+    private FileChannel channel;
+    private long chunkSize;
+
+    // boundary scan state
+    private long chunkStart = -1;
+    private long chunkLine;
+    private long chunkColumn;
+    private long line = 1;
+    private long lineStart = 0;
+    private int depth = 0;
+    private boolean inString = false;
+    private boolean escaped = false;
+    private boolean rootClosed = false;
+
+    ParallelArrayParser(ForkJoinPool pool, Consumer<JSONValue<?>> consumer) {
+        this(pool, consumer, 0);
+    }
+
+    /**
+     * Constructor
+     * @param pool the pool that parses the chunks
+     * @param consumer receives each element of the root array
+     * @param chunkSize the minimum size of each chunk in bytes, or 0 to size chunks from the file size and the pool's parallelism
+     */
+    ParallelArrayParser(ForkJoinPool pool, Consumer<JSONValue<?>> consumer, long chunkSize) {
+        this.pool = pool;
+        this.consumer = consumer;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Parse the file, delivering each element of the root array to the consumer in order
+     * @param filePath the file
+     * @throws JSONParserException if the root isn't an array, or a chunk can't be parsed
+     */
+    void parse(Path filePath) throws JSONParserException {
+        try (FileChannel fileChannel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            channel = fileChannel;
+            final long size = channel.size();
+            if (chunkSize <= 0) {
+                chunkSize = Math.max(MIN_CHUNK_SIZE, Math.min(MAX_CHUNK_SIZE, size / (pool.getParallelism() * CHUNKS_PER_THREAD)));
+            }
+
+            for (long position = 0; position < size; position += SCAN_REGION_SIZE) {
+                final long length = Math.min(SCAN_REGION_SIZE, size - position);
+                scan(channel.map(FileChannel.MapMode.READ_ONLY, position, length), position);
+            }
+
+            if (!rootClosed) {
+                throw new JSONParserException("Unexpected end of input: root array is not closed");
+            }
+
+            while (!pending.isEmpty()) {
+                deliver(pending.removeFirst());
+            }
+        } catch (final IOException e) {
+            throw new JSONParserException(e);
+        } finally {
+            pending.forEach(task -> task.cancel(true));
+        }
+    }
+
+    private void scan(ByteBuffer region, long regionStart) {
+        final int limit = region.limit();
+
+        for (int i = 0; i < limit; i++) {
+            final byte byt = region.get(i);
+            if (byt == '\n') {
+                line++;
+                lineStart = regionStart + i + 1;
+            }
+
+            if (rootClosed) {
+                if (!isWhitespace(byt)) {
+                    throw new JSONParserException("Unexpected character after the root array: " + (char)byt);
+                }
+            } else if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (byt == '\\') {
+                    escaped = true;
+                } else if (byt == '"') {
+                    inString = false;
+                }
+            } else if (chunkStart < 0) {
+                if (byt == '[') {
+                    depth = 1;
+                    startChunk(regionStart + i + 1);
+                } else if (!isWhitespace(byt)) {
+                    throw new JSONParserException("Parallel parsing requires a document whose root is an array");
+                }
+            } else {
+                switch (byt) {
+                    case '"':
+                        inString = true;
+                        break;
+                    case '[':
+                    case '{':
+                        depth++;
+                        break;
+                    case ']':
+                    case '}':
+                        if (--depth == 0) {
+                            submit(regionStart + i);
+                            rootClosed = true;
+                        }
+                        break;
+                    case ',':
+                        final long position = regionStart + i;
+                        if (depth == 1 && position - chunkStart >= chunkSize) {
+                            submit(position);
+                            startChunk(position + 1);
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+    }
+
+    private static boolean isWhitespace(byte byt) {
+        return byt == ' ' || byt == '\t' || byt == '\r' || byt == '\n';
+    }
+
+    /**
+     * Start a chunk at the given position, which is on the current line.  The column is counted as the processors
+     * count it: from 1 on the first line, and from 0 after each line break.
+     */
+    private void startChunk(long position) {
+        chunkStart = position;
+        chunkLine = line;
+        chunkColumn = position - lineStart + (line == 1 ? 1 : 0);
+    }
+
+    /**
+     * Submit the current chunk, which ends before the given position
+     */
+    private void submit(long end) {
+        if (pending.size() >= pool.getParallelism() * CHUNKS_PER_THREAD) {
+            deliver(pending.removeFirst());
+        }
+
+        final long start = chunkStart;
+        final long startLine = chunkLine;
+        final long startColumn = chunkColumn;
+        pending.addLast(pool.submit(() -> parseChunk(start, end, startLine, startColumn)));
+    }
+
+    /**
+     * Parse a chunk as an array.  The chunk's first byte follows the opening bracket, so an error on the first line
+     * of the chunk is one column further along than the same byte in the file.
+     */
+    private JSONArray parseChunk(long start, long end, long startLine, long startColumn) throws IOException {
+        final ByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        try {
+            return ParserPipeline.get()
+                    .parse(Arrays.asList(ARRAY_START.duplicate(), chunk, ARRAY_END.duplicate()).iterator(), FactorySettings.getSetting(Setting.INPUTSTREAM_CHARSET))
+                    .asJSONArray();
+        } catch (final JSONEventParserException e) {
+            if (e.getLineNumber() <= 0) {
+                throw e;
+            }
+            final long lineNumber = startLine + e.getLineNumber() - 1;
+            final long column = e.getLineNumber() == 1 ? startColumn + e.getLinePosition() - 2 : e.getLinePosition();
+            throw new ChunkException(lineNumber, column, withoutLocation(e.getMessage()), e);
+        }
+    }
+
+    private static String withoutLocation(String message) {
+        final int location = message.lastIndexOf(" [at line: ");
+        return location < 0 ? message : message.substring(0, location);
+    }
+
+    private void deliver(ForkJoinTask<JSONArray> task) {
+        final JSONArray chunk;
+        try {
+            chunk = task.join();
+        } catch (final JSONParserException e) {
+            // join() may rethrow a copy of a worker's exception that wraps the original
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof ChunkException) {
+                    throw (ChunkException)cause;
+                }
+            }
+            throw e;
+        } catch (final RuntimeException e) {
+            throw new JSONParserException(e);
+        }
+
+        for (final JSONValue<?> value : chunk) {
+            consumer.accept(value);
+        }
+    }
+
+    /**
+     * An error in a chunk, located in the file
+     */
+    private static class ChunkException extends JSONEventParserException {
+        private static final long serialVersionUID = 1L;
+
+        ChunkException(long line, long column, String message, Throwable cause) {
+            super(line, column, message, cause);
+        }
+    }
+
+    /**
+     * Parse the file into a single array
+     * @param filePath the file
+     * @param pool the pool that parses the chunks
+     * @return the root array
+     * @throws JSONParserException if the root isn't an array, or a chunk can't be parsed
+     */
+    static JSONArray parseArray(Path filePath, ForkJoinPool pool) throws JSONParserException {
+        final JSONArray result = NodeFactory.newJSONArray();
+        new ParallelArrayParser(pool, result::add).parse(filePath);
+        return result;
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ *
+ * # Released under MIT License
+ *
+ * Copyright (c) 2016-2021 Jim Earley.
+ *
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS 
+ * IN THE SOFTWARE.
+ */
+package org.ghotibeaun.json.parser;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+import org.ghotibeaun.json.JSONNode;
+import org.ghotibeaun.json.exception.JSONParserException;
+import org.ghotibeaun.json.factory.FactorySettings;
+import org.ghotibeaun.json.factory.Setting;
+import org.ghotibeaun.json.jfr.ParseEvent;
+import org.ghotibeaun.json.parser.jep.EventParser;
+import org.ghotibeaun.json.parser.jep.ParseStatistics;
+import org.ghotibeaun.json.parser.jep.ParserConfiguration;
+import org.ghotibeaun.json.parser.jep.ParserSettings;
+import org.ghotibeaun.json.parser.jep.eventhandler.EventHandler;
+
+/**
+ * A preassembled handler, {@linkplain ParserSettings}, processor and provider that is reused for every document parsed
+ * on a thread, so that small documents don't pay for creating (and reflectively instantiating) the pipeline each time.
+ * The handler is reset between documents, and released from the finished document once it has been returned.
+ *
+ * <p>Each thread has its own pipeline, so a single {@linkplain JSONParser} can be shared between threads.  The pipeline
+ * is rebuilt if the handler, processor, provider or event parser class is changed in {@linkplain FactorySettings}, and
+ * a parse started while the thread's pipeline is already in use (e.g., from inside a handler) gets a new pipeline.
+ * The classes are only looked up again when the {@linkplain FactorySettings#getVersion() settings version} has changed,
+ * so getting the pipeline doesn't allocate.</p>
+ *
+ * <p>Each document records a {@linkplain ParseEvent} when the event is enabled in a Flight Recorder recording.  Statistics
+ * are collected for the event's byte and node counts while it is enabled.</p>
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+final class ParserPipeline {
+    private static final Setting[] PIPELINE_SETTINGS = {
+            Setting.EVENT_HANDLER_CLASS, Setting.EVENT_PROCESSOR_CLASS, Setting.EVENT_PROVIDER_CLASS, Setting.EVENT_PARSER_CLASS
+    };
+
+    private static final ThreadLocal<ParserPipeline> PIPELINES = new ThreadLocal<>();
+
+    private final Class<?>[] pipelineClasses;
+    private int settingsVersion;
+    private final EventHandler handler;
+    private final ParserSettings settings;
+    private final EventParser parser;
+    private boolean inUse = false;
+
+    private ParserPipeline(int settingsVersion, Class<?>[] pipelineClasses) {
+        this.settingsVersion = settingsVersion;
+        this.pipelineClasses = pipelineClasses;
+        handler = FactorySettings.createFactoryClass(Setting.EVENT_HANDLER_CLASS);
+        settings = new ParserSettings(ParserConfiguration.newConfiguration(handler));
+        parser = EventParser.newEventParser();
+    }
+
+    /**
+     * Return the current thread's pipeline, creating it if the thread doesn't have one yet, or if the pipeline classes
+     * have changed since it was created
+     * @return the pipeline
+     */
+    static ParserPipeline get() {
+        // read before the classes, so that a change made while they're looked up is seen by the next call
+        final int version = FactorySettings.getVersion();
+        ParserPipeline pipeline = PIPELINES.get();
+
+        if (pipeline == null || !pipeline.isCurrent(version)) {
+            pipeline = new ParserPipeline(version, currentClasses());
+            PIPELINES.set(pipeline);
+        } else if (pipeline.inUse) {
+            pipeline = new ParserPipeline(version, pipeline.pipelineClasses);
+        }
+
+        return pipeline;
+    }
+
+    /**
+     * Parse a stream
+     * @param inputStream the stream
+     * @param charSet the character set of the stream
+     * @return the document
+     * @throws JSONParserException if the document can't be parsed
+     */
+    JSONNode parse(InputStream inputStream, String charSet) throws JSONParserException {
+        return parse(inputStream, charSet, false);
+    }
+
+    /**
+     * Parse a stream, optionally collecting {@linkplain ParseStatistics}
+     * @param inputStream the stream
+     * @param charSet the character set of the stream
+     * @param statistics <code>true</code> to collect statistics, which are available from {@link #getStatistics()}
+     * until the next document is parsed
+     * @return the document
+     * @throws JSONParserException if the document can't be parsed
+     */
+    JSONNode parse(InputStream inputStream, String charSet, boolean statistics) throws JSONParserException {
+        final ParseEvent event = new ParseEvent();
+        settings.setEnableStatistics(statistics || event.isEnabled());
+        begin(charSet);
+        event.begin();
+        try {
+            parser.parse(inputStream, settings);
+            commit(event);
+            return handler.getResult();
+        } finally {
+            end();
+        }
+    }
+
+    /**
+     * Parse a file, optionally collecting {@linkplain ParseStatistics}.  The file is memory-mapped and handed to the
+     * processor as regions unless {@linkplain ParserSettings#setUseMemoryMappedFiles(boolean) memory-mapped files}
+     * are turned off for the pipeline's settings.
+     * @param path the file
+     * @param charSet the character set of the file
+     * @param statistics <code>true</code> to collect statistics, which are available from {@link #getStatistics()}
+     * until the next document is parsed
+     * @return the document
+     * @throws JSONParserException if the document can't be parsed
+     */
+    JSONNode parse(Path path, String charSet, boolean statistics) throws JSONParserException {
+        final ParseEvent event = new ParseEvent();
+        settings.setEnableStatistics(statistics || event.isEnabled());
+        begin(charSet);
+        event.begin();
+        try {
+            parser.parse(path, settings);
+            commit(event);
+            return handler.getResult();
+        } finally {
+            end();
+        }
+    }
+
+    /**
+     * Parse a document that is supplied as a sequence of buffers
+     * @param buffers the buffers
+     * @param charSet the character set of the buffers
+     * @return the document
+     * @throws JSONParserException if the document can't be parsed
+     */
+    JSONNode parse(Iterator<ByteBuffer> buffers, String charSet) throws JSONParserException {
+        final ParseEvent event = new ParseEvent();
+        settings.setEnableStatistics(event.isEnabled());
+        begin(charSet);
+        event.begin();
+        try {
+            settings.getParserConfiguration().init();
+            settings.getParserConfiguration().getEventProcessor().start(buffers);
+            commit(event);
+            return handler.getResult();
+        } finally {
+            end();
+        }
+    }
+
+    /**
+     * Return the statistics for the last document parsed with statistics enabled
+     * @return the statistics, or <code>null</code> if none were collected for the last document
+     */
+    ParseStatistics getStatistics() {
+        return settings.getStatistics();
+    }
+
+    private void begin(String charSet) {
+        inUse = true;
+        if (!settings.getCharset().name().equalsIgnoreCase(charSet)) {
+            settings.setCharSet(charSet);
+        }
+    }
+
+    /**
+     * Commit the document's event.  A recording that started during the parse has no statistics for it,
+     * so only the classes are recorded.
+     */
+    private void commit(ParseEvent event) {
+        event.end();
+        if (event.shouldCommit()) {
+            final ParseStatistics statistics = settings.getStatistics();
+            event.setProcessor(settings.getParserConfiguration().getEventProcessor().getClass());
+            event.setHandler(handler.getClass());
+            if (statistics != null) {
+                event.setSize(statistics.getBytesRead());
+                event.setNodeCount(statistics.getNodesCreated());
+                event.setMaxDepth(statistics.getMaxDepth());
+            }
+            event.commit();
+        }
+    }
+
+    /**
+     * Release the finished document (or whatever was left by a failed parse) so it isn't held by the thread
+     */
+    private void end() {
+        handler.reset();
+        inUse = false;
+    }
+
+    /**
+     * Returns whether the pipeline's classes are still the configured ones.  They're only compared when a setting has
+     * changed since they were last checked.
+     */
+    private boolean isCurrent(int version) {
+        if (version != settingsVersion) {
+            if (!hasClasses(currentClasses())) {
+                return false;
+            }
+            settingsVersion = version;
+        }
+        return true;
+    }
+
+    private boolean hasClasses(Class<?>[] classes) {
+        for (int i = 0; i < classes.length; i++) {
+            if (classes[i] != pipelineClasses[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Class<?>[] currentClasses() {
+        final Class<?>[] classes = new Class<?>[PIPELINE_SETTINGS.length];
+        for (int i = 0; i < classes.length; i++) {
+            classes[i] = FactorySettings.getFactoryClass(PIPELINE_SETTINGS[i]).orElse(null);
+        }
+        return classes;
+    }
+}
@@ -30,11 +30,17 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.ghotibeaun.json.JSONArray;
 import org.ghotibeaun.json.JSONNode;
 import org.ghotibeaun.json.JSONObject;
+import org.ghotibeaun.json.JSONValue;
 import org.ghotibeaun.json.exception.JSONParserException;
+import org.ghotibeaun.json.parser.JSONParser;
+import org.ghotibeaun.json.parser.jep.ParseStatistics;
 
 class JSONCSVParserImpl implements JSONCSVParser {
 
@@ -121,6 +127,62 @@ class JSONCSVParserImpl implements JSONCSVParser {
         }
     }
 
+    @Override
+    public JSONArray parseParallel(Path filePath) throws JSONParserException {
+        throw new JSONParserException("Not supported with CSV");
+    }
+
+    @Override
+    public JSONArray parseParallel(Path filePath, ForkJoinPool pool) throws JSONParserException {
+        throw new JSONParserException("Not supported with CSV");
+    }
+
+    @Override
+    public void parseParallel(Path filePath, ForkJoinPool pool, Consumer<JSONValue<?>> consumer) throws JSONParserException {
+        throw new JSONParserException("Not supported with CSV");
+    }
+
+    @Override
+    public Stream<JSONNode> parseLines(InputStream inputStream) throws JSONParserException {
+        throw new JSONParserException("Not supported with CSV");
+    }
+
+    @Override
+    public Stream<JSONNode> parseLines(InputStream inputStream, ForkJoinPool pool) throws JSONParserException {
+        throw new JSONParserException("Not supported with CSV");
+    }
+
+    @Override
+    public void parseLines(InputStream inputStream, ForkJoinPool pool, Consumer<JSONNode> consumer) throws JSONParserException {
+        throw new JSONParserException("Not supported with CSV");
+    }
+
+    @Override
+    public JSONNode parseLazy(byte[] data) throws JSONParserException {
+        throw new JSONParserException("Not supported with CSV");
+    }
+
+    @Override
+    public JSONNode parseLazy(Path filePath) throws JSONParserException {
+        throw new JSONParserException("Not supported with CSV");
+    }
+
+    @Override
+    public JSONNode parseLazy(InputStream inputStream) throws JSONParserException {
+        throw new JSONParserException("Not supported with CSV");
+    }
+
+    @Override
+    public JSONParser setEnableStatistics(boolean enable) {
+        // CSV isn't parsed by an event processor
+        return this;
+    }
+
+    @Override
+    public ParseStatistics getStatistics() {
+        return null;
+    }
+
     @Override
     public JSONObject newJSONObject() {
         throw new JSONParserException("Parser Requires CSV Data to be processed");
@@ -25,8 +25,10 @@ class DefaultParserSettingValues {
 
     public static final int BLOCK_SIZE_KB = 4;
     public static final String CHARSET = FactorySettings.getSetting(Setting.INPUTSTREAM_CHARSET);
-    public static final boolean ENABLE_STATISTICS = true;
+    public static final boolean ENABLE_STATISTICS = false;
     public static final boolean USE_STRICT = false;
+    public static final boolean REUSE_EVENTS = false;
+    public static final boolean USE_MEMORY_MAPPED_FILES = true;
     public static final FloatingPointNumber USE_FLOATING_POINT_TYPE = FloatingPointNumber.DOUBLE;
     public static final NonFloatingPointNumber USE_NON_FLOATING_POINT_TYPE = NonFloatingPointNumber.LONG;
 
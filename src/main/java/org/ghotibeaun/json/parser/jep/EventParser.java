@@ -26,6 +26,7 @@ import java.nio.file.Path;
 import org.ghotibeaun.json.exception.JSONEventParserException;
 import org.ghotibeaun.json.factory.FactorySettings;
 import org.ghotibeaun.json.factory.Setting;
+import org.ghotibeaun.json.parser.jep.processor.JSONFeedableEventProcessor;
 
 public abstract class EventParser implements JSONEventParser {
 
@@ -48,6 +49,9 @@ public abstract class EventParser implements JSONEventParser {
     @Override
     public abstract void parse(URL url, ParserSettings settings) throws JSONEventParserException;
 
+    @Override
+    public abstract JSONFeedableEventProcessor newFeedableProcessor(ParserSettings settings) throws JSONEventParserException;
+
 
 
 }
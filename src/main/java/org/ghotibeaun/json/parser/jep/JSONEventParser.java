@@ -24,6 +24,7 @@ import java.net.URL;
 import java.nio.file.Path;
 
 import org.ghotibeaun.json.exception.JSONEventParserException;
+import org.ghotibeaun.json.parser.jep.processor.JSONFeedableEventProcessor;
 
 public interface JSONEventParser {
 
@@ -38,6 +39,15 @@ public interface JSONEventParser {
 
     void parse(URL url, ParserSettings settings) throws JSONEventParserException;
 
+    /**
+     * Returns the configured processor, ready to be fed a document incrementally with
+     * {@linkplain JSONFeedableEventProcessor#feed(java.nio.ByteBuffer)}
+     * @param settings the parser settings
+     * @return the processor
+     * @throws JSONEventParserException if the configured processor doesn't accept incremental input
+     */
+    JSONFeedableEventProcessor newFeedableProcessor(ParserSettings settings) throws JSONEventParserException;
+
 
 
 }
@@ -26,10 +26,17 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 import org.ghotibeaun.json.exception.JSONEventParserException;
 import org.ghotibeaun.json.exception.JSONParserException;
+import org.ghotibeaun.json.parser.jep.processor.JSONEventProcessor;
+import org.ghotibeaun.json.parser.jep.processor.JSONFeedableEventProcessor;
 
 class JSONEventParserImpl extends EventParser {
 
@@ -39,7 +46,7 @@ class JSONEventParserImpl extends EventParser {
 
     @Override
     public void parse(String data, ParserSettings settings) throws JSONParserException {
-        try (final ByteArrayInputStream bais = new ByteArrayInputStream(data.getBytes())) {
+        try (final ByteArrayInputStream bais = new ByteArrayInputStream(data.getBytes(settings.getCharset()))) {
             parse(bais, settings);
         } catch (final IOException e) {
             throw new JSONParserException(e);
@@ -61,6 +68,11 @@ class JSONEventParserImpl extends EventParser {
 
     @Override
     public void parse(Path path, ParserSettings settings) throws JSONParserException {
+        if (settings.getUseMemoryMappedFiles()) {
+            parseMapped(path, settings);
+            return;
+        }
+
         try (FileInputStream fis = new FileInputStream(path.toFile())) {
             parse(fis, settings);
         } catch (final FileNotFoundException e) {
@@ -73,14 +85,20 @@ class JSONEventParserImpl extends EventParser {
 
     @Override
     public void parse(File file, ParserSettings settings) throws JSONParserException {
-        try (FileInputStream fis = new FileInputStream(file)) {
-            parse(fis, settings);
-        } catch (final FileNotFoundException e) {
-            throw new JSONParserException(e);
+        parse(file.toPath(), settings);
+    }
+
+    /**
+     * Map the file and pass it to the processor as a sequence of regions, which avoids copying the file
+     * through an InputStream
+     */
+    private void parseMapped(Path path, ParserSettings settings) throws JSONParserException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            settings.getParserConfiguration().init();
+            settings.getParserConfiguration().getEventProcessor().start(new MappedRegionIterator(channel));
         } catch (final IOException e) {
             throw new JSONParserException(e);
         }
-
     }
 
     @Override
@@ -89,5 +107,60 @@ class JSONEventParserImpl extends EventParser {
 
     }
 
+    @Override
+    public JSONFeedableEventProcessor newFeedableProcessor(ParserSettings settings) throws JSONEventParserException {
+        settings.getParserConfiguration().init();
+        final JSONEventProcessor processor = settings.getParserConfiguration().getEventProcessor();
+
+        if (!(processor instanceof JSONFeedableEventProcessor)) {
+            throw new JSONEventParserException(processor.getClass().getName() + " does not accept incremental input");
+        }
+
+        return (JSONFeedableEventProcessor)processor;
+    }
+
+    /**
+     * Maps a file one region at a time.  A single mapping can't exceed <code>Integer.MAX_VALUE</code> bytes,
+     * so larger files are mapped as consecutive regions of {@link #REGION_SIZE} bytes.
+     * <p>
+     *  The iterator keeps no reference to a region it has returned, and the processors drop theirs once the region
+     *  has been consumed.  There is no public API to unmap a region, though: its memory is only released when the
+     *  buffer is garbage collected, which may be after the parse has finished (closing the channel does not unmap it).
+     *  Parsing many large files in quick succession can therefore hold more mapped memory than a single region.
+     * </p>
+     */
+    private static class MappedRegionIterator implements Iterator<ByteBuffer> {
+        private static final long REGION_SIZE = 1L << 30;
+
+        private final FileChannel channel;
+        private final long size;
+        private long position = 0;
+
+        MappedRegionIterator(FileChannel channel) throws IOException {
+            this.channel = channel;
+            size = channel.size();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return position < size;
+        }
+
+        @Override
+        public ByteBuffer next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final long length = Math.min(REGION_SIZE, size - position);
+            try {
+                final ByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                position += length;
+                return region;
+            } catch (final IOException e) {
+                throw new JSONParserException(e);
+            }
+        }
+    }
 
 }
@@ -0,0 +1,121 @@
+/*
+ *
+ * # Released under MIT License
+ *
+ * Copyright (c) 2016-2021 Jim Earley.
+ *
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS 
+ * IN THE SOFTWARE.
+ */
+package org.ghotibeaun.json.parser.jep;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Bounded symbol table that returns the same String instance for repeated object keys.  Keys are looked
+ * up by hashing their undecoded bytes, so a key that has been seen before is neither decoded nor allocated again.
+ * This is what lets an array of a million objects with the same few keys share a few key Strings.
+ *
+ * <p>The table is direct-mapped: each key hashes to a single slot, and a new key replaces whatever the slot
+ * held before.  Memory is therefore fixed regardless of how many distinct keys a document has, and keys longer than
+ * {@value #MAX_KEY_LENGTH} bytes are decoded without being cached.  Instances aren't thread-safe; each handler or
+ * processor owns its own.</p>
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+public final class KeyCache {
+    /**
+     * The default number of slots
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * The longest key, in bytes, that will be cached
+     */
+    public static final int MAX_KEY_LENGTH = 64;
+
+    private final byte[][] keys;
+    private final String[] values;
+    private final int[] hashes;
+    private final int mask;
+    private Charset charset;
+
+    /**
+     * Create a cache with the default capacity
+     */
+    public KeyCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor
+     * @param capacity the number of slots, rounded up to a power of two
+     */
+    public KeyCache(int capacity) {
+        final int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        keys = new byte[size][];
+        values = new String[size];
+        hashes = new int[size];
+        mask = size - 1;
+    }
+
+    /**
+     * Return the decoded key, from the cache if the same bytes have been seen before
+     * @param data the array holding the key token
+     * @param offset the offset of the token
+     * @param length the length of the token
+     * @param charset the document's character set
+     * @return the key
+     * @throws IllegalArgumentException if the key contains an invalid escape sequence
+     */
+    public String get(byte[] data, int offset, int length, Charset charset) {
+        if (length > MAX_KEY_LENGTH) {
+            return StringDecoder.decode(data, offset, length, charset);
+        }
+
+        if (charset != this.charset) {
+            clear();
+            this.charset = charset;
+        }
+
+        final int hash = hash(data, offset, length);
+        final int slot = hash & mask;
+        final byte[] cached = keys[slot];
+
+        if (cached != null && hashes[slot] == hash && Arrays.equals(cached, 0, cached.length, data, offset, offset + length)) {
+            return values[slot];
+        }
+
+        final String value = StringDecoder.decode(data, offset, length, charset);
+        keys[slot] = Arrays.copyOfRange(data, offset, offset + length);
+        values[slot] = value;
+        hashes[slot] = hash;
+        return value;
+    }
+
+    /**
+     * Remove all keys from the cache
+     */
+    public void clear() {
+        Arrays.fill(keys, null);
+        Arrays.fill(values, null);
+    }
+
+    private static int hash(byte[] data, int offset, int length) {
+        int hash = length;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + data[i];
+        }
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,453 @@
+/*
+ *
+ * # Released under MIT License
+ *
+ * Copyright (c) 2016-2021 Jim Earley.
+ *
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS 
+ * IN THE SOFTWARE.
+ */
+package org.ghotibeaun.json.parser.jep;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+import org.ghotibeaun.json.parser.jep.eventhandler.JSONEventHandler;
+
+/**
+ * Decodes number tokens directly from the processor's bytes and passes them to the typed value methods of a
+ * {@linkplain JSONEventHandler}, without first decoding the token into a String.
+ * <ul>
+ *  <li>Tokens without a fraction or exponent are integers.  They are accumulated as a long, and are widened
+ *      to the next type that can hold them (int, long, {@linkplain BigInteger}) when they overflow the type selected
+ *      by {@linkplain ParserSettings#getUseNonFloatingPointType()}</li>
+ *  <li>Tokens with a fraction or an exponent (e.g., <code>1e5</code>) are floating point numbers, decoded as
+ *      selected by {@linkplain ParserSettings#getUseFloatingPointType()}.  Doubles whose significand has at most 15
+ *      digits and whose decimal exponent is within &plusmn;22 are computed exactly with a single multiply or divide.
+ *      Other doubles, and floats, are computed from the first 19 significant digits with the Eisel-Lemire algorithm,
+ *      which multiplies them by a 128-bit approximation of the power of ten and rounds the product correctly</li>
+ * </ul>
+ * <p>
+ *  Only a token with more than 19 significant digits can need the digits that were dropped: its value lies
+ *  between the values of the truncated significand and the truncated significand plus one, and when those round to
+ *  different numbers the token is decoded with {@linkplain Double#parseDouble(String)} (or
+ *  {@linkplain Float#parseFloat(String)}), which allocates a String.  No other double or float is decoded through a
+ *  String.
+ * </p>
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+public final class NumberDecoder {
+    private static final int MAX_LONG_DIGITS = 18;
+    private static final int MAX_EXACT_DIGITS = 15;
+    private static final int MAX_SIGNIFICAND_DIGITS = 19;
+    private static final int MAX_EXPLICIT_EXPONENT = 100000;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Powers of ten below this are zero, and above {@link #MAX_POWER_OF_TEN} are infinite, for any 19 digit significand
+     */
+    private static final int MIN_POWER_OF_TEN = -342;
+    private static final int MAX_POWER_OF_TEN = 308;
+
+    /**
+     * The high and low 64 bits of 5<sup>q</sup> for each power of ten 10<sup>q</sup>, normalized to 128 bits.
+     * Powers of two are carried by the binary exponent, so only the powers of five need to be held.
+     */
+    private static final long[] POWERS_OF_FIVE_HIGH = new long[MAX_POWER_OF_TEN - MIN_POWER_OF_TEN + 1];
+    private static final long[] POWERS_OF_FIVE_LOW = new long[POWERS_OF_FIVE_HIGH.length];
+
+    static {
+        final BigInteger five = BigInteger.valueOf(5);
+        for (int q = MIN_POWER_OF_TEN; q <= MAX_POWER_OF_TEN; q++) {
+            BigInteger power;
+            if (q >= 0) {
+                power = five.pow(q);
+                power = power.bitLength() <= 128 ? power.shiftLeft(128 - power.bitLength()) : power.shiftRight(power.bitLength() - 128);
+            } else {
+                // reciprocals are rounded up
+                final BigInteger divisor = five.pow(-q);
+                final int bits = divisor.bitLength();
+                power = BigInteger.ONE.shiftLeft(q >= -27 ? bits + 127 : 2 * bits + 128).divide(divisor).add(BigInteger.ONE);
+                if (power.bitLength() > 128) {
+                    power = power.shiftRight(power.bitLength() - 128);
+                }
+            }
+            POWERS_OF_FIVE_HIGH[q - MIN_POWER_OF_TEN] = power.shiftRight(Long.SIZE).longValue();
+            POWERS_OF_FIVE_LOW[q - MIN_POWER_OF_TEN] = power.longValue();
+        }
+    }
+
+    /**
+     * The IEEE 754 binary formats that tokens are decoded to
+     */
+    private enum BinaryFormat {
+        DOUBLE(52, -1023, 0x7FF, -4, 23),
+        FLOAT(23, -127, 0xFF, -17, 10);
+
+        private final int mantissaBits;
+        private final int minimumExponent;
+        private final int infinitePower;
+        private final int minRoundToEven;
+        private final int maxRoundToEven;
+        private final long signBit;
+
+        BinaryFormat(int mantissaBits, int minimumExponent, int infinitePower, int minRoundToEven, int maxRoundToEven) {
+            this.mantissaBits = mantissaBits;
+            this.minimumExponent = minimumExponent;
+            this.infinitePower = infinitePower;
+            this.minRoundToEven = minRoundToEven;
+            this.maxRoundToEven = maxRoundToEven;
+            signBit = 1L << (mantissaBits + Integer.bitCount(infinitePower));
+        }
+    }
+
+    private NumberDecoder() {
+
+    }
+
+    /**
+     * Decode a number token and pass it to the handler
+     * @param handler the handler
+     * @param key the key of the value
+     * @param data the array holding the token
+     * @param offset the offset of the token
+     * @param length the length of the token
+     * @param settings the settings that select the number types
+     * @throws NumberFormatException if the token isn't a valid number
+     */
+    public static void decode(JSONEventHandler handler, String key, byte[] data, int offset, int length, ParserSettings settings) {
+        if (isFloatingPoint(data, offset, length)) {
+            switch (settings.getUseFloatingPointType()) {
+                case BIG_DECIMAL:
+                    handler.valueBigDecimal(key, parseBigDecimal(data, offset, length));
+                    break;
+                case DOUBLE:
+                    handler.valueDouble(key, parseDouble(data, offset, length));
+                    break;
+                case FLOAT:
+                    handler.valueFloat(key, parseFloat(data, offset, length));
+                    break;
+            }
+        } else if (countDigits(data, offset, length) > MAX_LONG_DIGITS && !fitsLong(data, offset, length)) {
+            handler.valueBigInteger(key, new BigInteger(toString(data, offset, length)));
+        } else {
+            final long value = parseLong(data, offset, length);
+
+            switch (settings.getUseNonFloatingPointType()) {
+                case BIG_INTEGER:
+                    handler.valueBigInteger(key, BigInteger.valueOf(value));
+                    break;
+                case INTEGER:
+                    if (value == (int)value) {
+                        handler.valueInt(key, (int)value);
+                    } else {
+                        handler.valueLong(key, value);
+                    }
+                    break;
+                case LONG:
+                    handler.valueLong(key, value);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Returns whether the token has a fraction or an exponent
+     * @param data the array holding the token
+     * @param offset the offset of the token
+     * @param length the length of the token
+     * @return <code>true</code> if the token is a floating point number
+     */
+    public static boolean isFloatingPoint(byte[] data, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            final byte byt = data[i];
+            if (byt == '.' || byt == 'e' || byt == 'E') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parse an integer token
+     * @param data the array holding the token
+     * @param offset the offset of the token
+     * @param length the length of the token
+     * @return the value
+     * @throws NumberFormatException if the token isn't an integer, or doesn't fit in a long
+     */
+    public static long parseLong(byte[] data, int offset, int length) {
+        final int end = offset + length;
+        int i = offset;
+        final boolean negative = i < end && data[i] == '-';
+        if (negative) {
+            i++;
+        }
+
+        if (i == end) {
+            throw invalid(data, offset, length);
+        }
+
+        if (end - i > MAX_LONG_DIGITS) {
+            if (!fitsLong(data, offset, length)) {
+                throw new NumberFormatException("Value out of range for long: " + toString(data, offset, length));
+            }
+            return Long.parseLong(toString(data, offset, length));
+        }
+
+        long value = 0;
+        for (; i < end; i++) {
+            final int digit = data[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw invalid(data, offset, length);
+            }
+            value = value * 10 + digit;
+        }
+
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parse a number token as a double.  Short significands with small exponents are computed exactly from the
+     * bytes, and other values with the Eisel-Lemire algorithm; only a token with more than 19 significant digits
+     * whose dropped digits could change the result is passed to {@linkplain Double#parseDouble(String)}.
+     * @param data the array holding the token
+     * @param offset the offset of the token
+     * @param length the length of the token
+     * @return the value
+     * @throws NumberFormatException if the token isn't a valid number
+     */
+    public static double parseDouble(byte[] data, int offset, int length) {
+        return Double.longBitsToDouble(toBits(data, offset, length, BinaryFormat.DOUBLE));
+    }
+
+    /**
+     * Parse a number token as a float, rounding the decimal value directly to the nearest float (rather than
+     * rounding it to a double first)
+     * @param data the array holding the token
+     * @param offset the offset of the token
+     * @param length the length of the token
+     * @return the value
+     * @throws NumberFormatException if the token isn't a valid number
+     */
+    public static float parseFloat(byte[] data, int offset, int length) {
+        return Float.intBitsToFloat((int)toBits(data, offset, length, BinaryFormat.FLOAT));
+    }
+
+    /**
+     * Parse a number token as a BigDecimal, without an intermediate String
+     * @param data the array holding the token
+     * @param offset the offset of the token
+     * @param length the length of the token
+     * @return the value
+     * @throws NumberFormatException if the token isn't a valid number
+     */
+    public static BigDecimal parseBigDecimal(byte[] data, int offset, int length) {
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char)data[offset + i];
+        }
+        return new BigDecimal(chars);
+    }
+
+    /**
+     * Decode a token to the bits of a double or float.  Up to 19 significant digits are accumulated as an unsigned
+     * long, and the digits after them are only checked for whether they're all zeros.
+     */
+    private static long toBits(byte[] data, int offset, int length, BinaryFormat format) {
+        final int end = offset + length;
+        int i = offset;
+        final boolean negative = i < end && data[i] == '-';
+        if (negative) {
+            i++;
+        }
+
+        long significand = 0;
+        int digits = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        boolean inFraction = false;
+        boolean truncated = false;
+
+        for (; i < end; i++) {
+            final byte byt = data[i];
+            if (byt >= '0' && byt <= '9') {
+                digits++;
+                if (significantDigits < MAX_SIGNIFICAND_DIGITS) {
+                    if (significand != 0 || byt != '0') {
+                        significantDigits++;
+                    }
+                    significand = significand * 10 + (byt - '0');
+                    if (inFraction) {
+                        exponent--;
+                    }
+                } else {
+                    truncated |= byt != '0';
+                    if (!inFraction) {
+                        exponent++;
+                    }
+                }
+            } else if (byt == '.' && !inFraction) {
+                inFraction = true;
+            } else {
+                break;
+            }
+        }
+
+        if (digits == 0) {
+            throw invalid(data, offset, length);
+        }
+
+        if (i < end) {
+            if (data[i] != 'e' && data[i] != 'E') {
+                throw invalid(data, offset, length);
+            }
+            i++;
+            final boolean negativeExponent = i < end && data[i] == '-';
+            if (i < end && (data[i] == '-' || data[i] == '+')) {
+                i++;
+            }
+            if (i == end) {
+                throw invalid(data, offset, length);
+            }
+            int explicit = 0;
+            for (; i < end; i++) {
+                final int digit = data[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    throw invalid(data, offset, length);
+                }
+                // any larger exponent is zero or infinite
+                if (explicit < MAX_EXPLICIT_EXPONENT) {
+                    explicit = explicit * 10 + digit;
+                }
+            }
+            exponent += negativeExponent ? -explicit : explicit;
+        }
+
+        final long bits;
+        if (significand == 0) {
+            bits = 0;
+        } else if (format == BinaryFormat.DOUBLE && !truncated && significantDigits <= MAX_EXACT_DIGITS
+                && exponent > -POWERS_OF_TEN.length && exponent < POWERS_OF_TEN.length) {
+            bits = Double.doubleToRawLongBits(exponent >= 0 ? significand * POWERS_OF_TEN[exponent] : significand / POWERS_OF_TEN[-exponent]);
+        } else {
+            bits = eiselLemire(significand, exponent, format);
+            if (truncated && bits != eiselLemire(significand + 1, exponent, format)) {
+                return parseSlow(data, offset, length, format);
+            }
+        }
+
+        return negative ? bits | format.signBit : bits;
+    }
+
+    /**
+     * Compute the correctly rounded bits of <code>significand &times; 10<sup>exponent</sup></code>, where the
+     * significand is a non-zero unsigned long.  See Lemire, "Number Parsing at a Gigabyte per Second" (2021).
+     */
+    private static long eiselLemire(long significand, int exponent, BinaryFormat format) {
+        if (exponent < MIN_POWER_OF_TEN) {
+            return 0;
+        }
+
+        if (exponent > MAX_POWER_OF_TEN) {
+            return (long)format.infinitePower << format.mantissaBits;
+        }
+
+        final int leadingZeros = Long.numberOfLeadingZeros(significand);
+        final long normalized = significand << leadingZeros;
+        final int index = exponent - MIN_POWER_OF_TEN;
+
+        long high = unsignedMultiplyHigh(normalized, POWERS_OF_FIVE_HIGH[index]);
+        long low = normalized * POWERS_OF_FIVE_HIGH[index];
+
+        // only a product whose bits below the rounding bit are all ones can be changed by the low half of the power
+        final long precisionMask = -1L >>> (format.mantissaBits + 3);
+        if ((high & precisionMask) == precisionMask) {
+            final long carry = unsignedMultiplyHigh(normalized, POWERS_OF_FIVE_LOW[index]);
+            low += carry;
+            if (Long.compareUnsigned(carry, low) > 0) {
+                high++;
+            }
+        }
+
+        final int upperBit = (int)(high >>> 63);
+        final int shift = upperBit + Long.SIZE - format.mantissaBits - 3;
+        long mantissa = high >>> shift;
+        int power = (((152170 + 65536) * exponent) >> 16) + 63 + upperBit - leadingZeros - format.minimumExponent;
+
+        if (power <= 0) {
+            // subnormal
+            if (-power + 1 >= Long.SIZE) {
+                return 0;
+            }
+            mantissa >>>= -power + 1;
+            mantissa += mantissa & 1;
+            mantissa >>>= 1;
+            power = mantissa < (1L << format.mantissaBits) ? 0 : 1;
+            return (long)power << format.mantissaBits | mantissa;
+        }
+
+        // an exact product halfway between two values rounds to even
+        if (Long.compareUnsigned(low, 1) <= 0 && exponent >= format.minRoundToEven && exponent <= format.maxRoundToEven
+                && (mantissa & 3) == 1 && (mantissa << shift) == high) {
+            mantissa &= ~1L;
+        }
+
+        mantissa += mantissa & 1;
+        mantissa >>>= 1;
+        if (mantissa >= (2L << format.mantissaBits)) {
+            mantissa = 1L << format.mantissaBits;
+            power++;
+        }
+        mantissa &= ~(1L << format.mantissaBits);
+
+        if (power >= format.infinitePower) {
+            return (long)format.infinitePower << format.mantissaBits;
+        }
+
+        return (long)power << format.mantissaBits | mantissa;
+    }
+
+    private static long unsignedMultiplyHigh(long x, long y) {
+        return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+    }
+
+    private static long parseSlow(byte[] data, int offset, int length, BinaryFormat format) {
+        final String value = toString(data, offset, length);
+        return format == BinaryFormat.DOUBLE ? Double.doubleToRawLongBits(Double.parseDouble(value))
+                : Float.floatToRawIntBits(Float.parseFloat(value)) & 0xFFFFFFFFL;
+    }
+
+    private static int countDigits(byte[] data, int offset, int length) {
+        return length > 0 && data[offset] == '-' ? length - 1 : length;
+    }
+
+    /**
+     * Integers of 19 digits may or may not fit in a long, and longer ones only fit with leading zeros
+     */
+    private static boolean fitsLong(byte[] data, int offset, int length) {
+        return new BigInteger(toString(data, offset, length)).bitLength() < Long.SIZE;
+    }
+
+    private static String toString(byte[] data, int offset, int length) {
+        return new String(data, offset, length, StandardCharsets.ISO_8859_1);
+    }
+
+    private static NumberFormatException invalid(byte[] data, int offset, int length) {
+        return new NumberFormatException("For input string: \"" + toString(data, offset, length) + "\"");
+    }
+}
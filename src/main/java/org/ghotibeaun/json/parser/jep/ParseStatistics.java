@@ -0,0 +1,301 @@
+/*
+ *
+ * # Released under MIT License
+ *
+ * Copyright (c) 2016-2021 Jim Earley.
+ *
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS 
+ * IN THE SOFTWARE.
+ */
+package org.ghotibeaun.json.parser.jep;
+
+import org.ghotibeaun.json.parser.jep.eventhandler.event.JSONEventType;
+
+/**
+ * Counters and timings for a parse, collected when {@linkplain ParserSettings#setEnableStatistics(boolean)} is enabled.
+ * The processor counts the bytes it reads and the tokens it fires, and tracks the nesting depth; a handler that builds
+ * a document adds the number of nodes it created.  Collection is limited to incrementing fields: the clock is read once
+ * at each end of the document and around each block read from a stream, never per token.
+ *
+ * <p>Because the processor fires events as it tokenizes, tokenizing and building the document happen in the same
+ * pass.  Their combined time is reported as the {@linkplain #getProcessNanos() process time}, and the time spent
+ * waiting on the stream as the {@linkplain #getReadNanos() read time}.</p>
+ *
+ * <p>The statistics are reset at the start of each document, so an instance describes the most recent parse with its
+ * settings.  Instances aren't thread-safe; use {@link #copy()} to keep the results of a parse.</p>
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+public final class ParseStatistics {
+    private long bytesRead;
+    private long objects;
+    private long arrays;
+    private long keys;
+    private long strings;
+    private long numbers;
+    private long booleans;
+    private long nulls;
+    private long nodesCreated;
+    private int depth;
+    private int maxDepth;
+    private long readNanos;
+    private long startTime;
+    private long totalNanos;
+
+    public ParseStatistics() {
+
+    }
+
+    /**
+     * Reset the counters and start the clock for a new document
+     */
+    public void start() {
+        bytesRead = 0;
+        objects = 0;
+        arrays = 0;
+        keys = 0;
+        strings = 0;
+        numbers = 0;
+        booleans = 0;
+        nulls = 0;
+        nodesCreated = 0;
+        depth = 0;
+        maxDepth = 0;
+        readNanos = 0;
+        totalNanos = 0;
+        startTime = System.nanoTime();
+    }
+
+    /**
+     * Stop the clock at the end of the document
+     */
+    public void end() {
+        totalNanos = System.nanoTime() - startTime;
+    }
+
+    /**
+     * Count the start of the document
+     * @param isObject <code>true</code> if the root is an object, <code>false</code> if it's an array
+     */
+    public void documentStart(boolean isObject) {
+        containerStart(isObject);
+    }
+
+    /**
+     * Count a token event.  A key is fired as a string followed by a {@linkplain JSONEventType#KEY_END}, so the key
+     * event moves the string just counted to the keys.  The end of the document stops the clock.
+     * @param type the event type
+     */
+    public void count(JSONEventType type) {
+        switch (type) {
+            case OBJECT_START:
+                containerStart(true);
+                break;
+            case ARRAY_START:
+                containerStart(false);
+                break;
+            case OBJECT_END:
+            case ARRAY_END:
+                depth--;
+                break;
+            case STRING_END:
+                strings++;
+                break;
+            case KEY_END:
+                strings--;
+                keys++;
+                break;
+            case NUMBER_END:
+                numbers++;
+                break;
+            case BOOLEAN_END:
+                booleans++;
+                break;
+            case NULL_END:
+                nulls++;
+                break;
+            case DOCUMENT_END:
+                end();
+                break;
+            default:
+                // start events are counted when the token ends
+        }
+    }
+
+    /**
+     * Add bytes passed to the processor
+     * @param count the number of bytes
+     */
+    public void addBytes(long count) {
+        bytesRead += count;
+    }
+
+    /**
+     * Add time spent reading from the input
+     * @param nanos the time in nanoseconds
+     */
+    public void addReadTime(long nanos) {
+        readNanos += nanos;
+    }
+
+    /**
+     * Add nodes created by the handler
+     * @param count the number of nodes
+     */
+    public void addNodes(long count) {
+        nodesCreated += count;
+    }
+
+    private void containerStart(boolean isObject) {
+        if (isObject) {
+            objects++;
+        } else {
+            arrays++;
+        }
+
+        if (++depth > maxDepth) {
+            maxDepth = depth;
+        }
+    }
+
+    /**
+     * Return the number of bytes passed to the processor
+     * @return the number of bytes
+     */
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    /**
+     * Return the number of objects, including an object at the root
+     * @return the number of objects
+     */
+    public long getObjectCount() {
+        return objects;
+    }
+
+    /**
+     * Return the number of arrays, including an array at the root
+     * @return the number of arrays
+     */
+    public long getArrayCount() {
+        return arrays;
+    }
+
+    /**
+     * Return the number of object keys
+     * @return the number of keys
+     */
+    public long getKeyCount() {
+        return keys;
+    }
+
+    /**
+     * Return the number of string values, not counting keys
+     * @return the number of strings
+     */
+    public long getStringCount() {
+        return strings;
+    }
+
+    public long getNumberCount() {
+        return numbers;
+    }
+
+    public long getBooleanCount() {
+        return booleans;
+    }
+
+    public long getNullCount() {
+        return nulls;
+    }
+
+    /**
+     * Return the total number of containers, keys and values
+     * @return the number of tokens
+     */
+    public long getTokenCount() {
+        return objects + arrays + keys + strings + numbers + booleans + nulls;
+    }
+
+    /**
+     * Return the deepest nesting of objects and arrays.  The root container is at depth 1.
+     * @return the maximum depth
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Return the number of nodes created by the handler, or 0 if the handler doesn't build a document
+     * @return the number of nodes
+     */
+    public long getNodesCreated() {
+        return nodesCreated;
+    }
+
+    /**
+     * Return the time spent reading blocks from the input stream.  Input supplied as buffers is not read by
+     * the processor, so its read time is 0.
+     * @return the read time in nanoseconds
+     */
+    public long getReadNanos() {
+        return readNanos;
+    }
+
+    /**
+     * Return the time spent tokenizing the input and handling the events, i.e., the total time less the read time
+     * @return the process time in nanoseconds
+     */
+    public long getProcessNanos() {
+        return totalNanos - readNanos;
+    }
+
+    /**
+     * Return the time from the start to the end of the document
+     * @return the total time in nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Return a copy of the current values
+     * @return the copy
+     */
+    public ParseStatistics copy() {
+        final ParseStatistics copy = new ParseStatistics();
+        copy.bytesRead = bytesRead;
+        copy.objects = objects;
+        copy.arrays = arrays;
+        copy.keys = keys;
+        copy.strings = strings;
+        copy.numbers = numbers;
+        copy.booleans = booleans;
+        copy.nulls = nulls;
+        copy.nodesCreated = nodesCreated;
+        copy.depth = depth;
+        copy.maxDepth = maxDepth;
+        copy.readNanos = readNanos;
+        copy.startTime = startTime;
+        copy.totalNanos = totalNanos;
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        return "ParseStatistics [bytesRead=" + bytesRead + ", objects=" + objects + ", arrays=" + arrays + ", keys=" + keys
+                + ", strings=" + strings + ", numbers=" + numbers + ", booleans=" + booleans + ", nulls=" + nulls
+                + ", maxDepth=" + maxDepth + ", nodesCreated=" + nodesCreated + ", readNanos=" + readNanos
+                + ", processNanos=" + getProcessNanos() + ", totalNanos=" + totalNanos + "]";
+    }
+}
@@ -51,7 +51,7 @@ public class ParserConfiguration {
         return provider;
     }
 
-    private void setEventProcessor(JSONEventProcessor processor) {
+    void setEventProcessor(JSONEventProcessor processor) {
         this.processor = processor;
     }
 
@@ -77,6 +77,18 @@ public class ParserConfiguration {
         return pc;
     }
 
+    /**
+     * Create a configuration for a processor that consumes its own tokens, such as a
+     * {@linkplain org.ghotibeaun.json.parser.jep.processor.JSONStreamReader}, and has no handler or provider
+     * @param processor the processor
+     * @return the configuration
+     */
+    public static ParserConfiguration newConfiguration(JSONEventProcessor processor) {
+        final ParserConfiguration pc = new ParserConfiguration();
+        pc.setEventProcessor(processor);
+        return pc;
+    }
+
     public static ParserConfiguration newConfiguration(JSONEventHandler eventHandler, JSONEventProcessor processor, JSONEventProvider provider) {
         final ParserConfiguration pc = new ParserConfiguration();
         pc.setEventHandler(eventHandler);
@@ -95,8 +107,14 @@ public class ParserConfiguration {
         return EventProvider.newDefaultEventProvider();
     }
 
+    /**
+     * Prepare the configuration for a new document.  The handler is reset, so the same configuration can
+     * be used to parse any number of documents, one at a time
+     */
     public void init() {
-
+        if (handler != null) {
+            handler.reset();
+        }
     }
 
 }
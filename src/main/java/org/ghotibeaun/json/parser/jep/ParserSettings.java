@@ -19,8 +19,12 @@
 package org.ghotibeaun.json.parser.jep;
 
 import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.ghotibeaun.json.parser.jep.eventhandler.EventHandler;
+import org.ghotibeaun.json.parser.jep.processor.EventProcessor;
 
 public class ParserSettings {
 
@@ -28,9 +32,13 @@ public class ParserSettings {
     private boolean enableStatistics = DefaultParserSettingValues.ENABLE_STATISTICS;
     private Charset characterSet = null;
     private boolean useStrict = DefaultParserSettingValues.USE_STRICT;
+    private boolean reuseEvents = DefaultParserSettingValues.REUSE_EVENTS;
+    private boolean useMemoryMappedFiles = DefaultParserSettingValues.USE_MEMORY_MAPPED_FILES;
     private ParserConfiguration configuration = null;
     private FloatingPointNumber floatingPoint = DefaultParserSettingValues.USE_FLOATING_POINT_TYPE;
     private NonFloatingPointNumber nonFloatingPoint = DefaultParserSettingValues.USE_NON_FLOATING_POINT_TYPE;
+    private PathFilter pathFilter = null;
+    private ParseStatistics statistics = null;
 
     protected ParserSettings() {
         characterSet = Charset.forName(DefaultParserSettingValues.CHARSET);
@@ -73,6 +81,12 @@ public class ParserSettings {
         return characterSet;
     }
 
+    /**
+     * Enable or disable collecting {@linkplain ParseStatistics} for each document parsed with these settings.
+     * Statistics are disabled by default.
+     * @param enable <code>true</code> to collect statistics
+     * @return the settings
+     */
     public ParserSettings setEnableStatistics(boolean enable) {
         enableStatistics = enable;
         return this;
@@ -82,6 +96,22 @@ public class ParserSettings {
         return enableStatistics;
     }
 
+    /**
+     * Return the statistics for the most recent document parsed with these settings.  The same instance is
+     * updated by each parse.
+     * @return the statistics, or <code>null</code> if statistics aren't enabled
+     */
+    public ParseStatistics getStatistics() {
+        if (!enableStatistics) {
+            return null;
+        }
+
+        if (statistics == null) {
+            statistics = new ParseStatistics();
+        }
+        return statistics;
+    }
+
     public boolean getUseStrict() {
         return useStrict;
     }
@@ -91,6 +121,37 @@ public class ParserSettings {
         return this;
     }
 
+    /**
+     * Sets whether the processor passes a single {@linkplain org.ghotibeaun.json.parser.jep.eventhandler.event.ReusableEvent}
+     * to the provider for every token instead of allocating new events.  Reused events and their data are only valid for
+     * the duration of the handler callback, so handlers must not retain them.
+     * @param reuseEvents <code>true</code> to reuse a single event instance
+     * @return the ParserSettings
+     */
+    public ParserSettings setReuseEvents(boolean reuseEvents) {
+        this.reuseEvents = reuseEvents;
+        return this;
+    }
+
+    public boolean getReuseEvents() {
+        return reuseEvents;
+    }
+
+    /**
+     * Sets whether files passed as a {@linkplain java.nio.file.Path} or {@linkplain java.io.File} are memory-mapped and
+     * handed to the processor as buffers rather than read through an InputStream
+     * @param useMemoryMappedFiles <code>true</code> to map files
+     * @return the ParserSettings
+     */
+    public ParserSettings setUseMemoryMappedFiles(boolean useMemoryMappedFiles) {
+        this.useMemoryMappedFiles = useMemoryMappedFiles;
+        return this;
+    }
+
+    public boolean getUseMemoryMappedFiles() {
+        return useMemoryMappedFiles;
+    }
+
     public ParserSettings setUseFloatingPointType(FloatingPointNumber value) {
         floatingPoint = value;
         return this;
@@ -109,11 +170,73 @@ public class ParserSettings {
         return nonFloatingPoint;
     }
 
+    /**
+     * Sets the paths of the values to parse.  Everything else, other than the objects and arrays that contain the
+     * included values, is skipped by the processor without being tokenized or passed to the handler.  See
+     * {@linkplain PathFilter} for the path syntax.
+     *
+     * <p>Skipping is done by the table-driven processors.  If the configured processor can't skip
+     * (see {@linkplain org.ghotibeaun.json.parser.jep.processor.JSONEventProcessor#supportsPathFilter()}), it is
+     * replaced with one that can.  Skipped values aren't validated.</p>
+     * @param paths the paths to include; none to include everything that isn't excluded
+     * @return the ParserSettings
+     * @throws IllegalArgumentException if a path isn't valid
+     */
+    public ParserSettings setIncludePaths(String... paths) {
+        setPathFilter(PathFilter.compile(Arrays.asList(paths), getExcludePaths()));
+        return this;
+    }
+
+    public List<String> getIncludePaths() {
+        return pathFilter == null ? Collections.emptyList() : pathFilter.getIncludePaths();
+    }
+
+    /**
+     * Sets the paths of values to skip, even if they lie below an included path
+     * @param paths the paths to exclude
+     * @return the ParserSettings
+     * @throws IllegalArgumentException if a path isn't valid
+     * @see #setIncludePaths(String...)
+     */
+    public ParserSettings setExcludePaths(String... paths) {
+        setPathFilter(PathFilter.compile(getIncludePaths(), Arrays.asList(paths)));
+        return this;
+    }
+
+    public List<String> getExcludePaths() {
+        return pathFilter == null ? Collections.emptyList() : pathFilter.getExcludePaths();
+    }
+
+    /**
+     * Return the compiled include and exclude paths
+     * @return the filter, or <code>null</code> if no paths are set
+     */
+    public PathFilter getPathFilter() {
+        return pathFilter;
+    }
+
+    private void setPathFilter(PathFilter pathFilter) {
+        this.pathFilter = pathFilter;
+        usePathFilteringProcessor();
+    }
+
+    private void usePathFilteringProcessor() {
+        if (pathFilter != null && configuration != null && !configuration.getEventProcessor().supportsPathFilter()) {
+            configuration.setEventProcessor(EventProcessor.newPathFilteringProcessor());
+            configuration.getEventProcessor().setParserSettings(this);
+        }
+    }
+
     public ParserSettings setParserConfiguration(ParserConfiguration configuration) {
         this.configuration = configuration;
-        configuration.getEventHandler().setParserSettings(this);
+        usePathFilteringProcessor();
+        if (configuration.getEventHandler() != null) {
+            configuration.getEventHandler().setParserSettings(this);
+        }
         configuration.getEventProcessor().setParserSettings(this);
-        configuration.getEventProvider().setParserSettings(this);
+        if (configuration.getEventProvider() != null) {
+            configuration.getEventProvider().setParserSettings(this);
+        }
 
         return this;
     }
@@ -0,0 +1,265 @@
+/*
+ *
+ * # Released under MIT License
+ *
+ * Copyright (c) 2016-2021 Jim Earley.
+ *
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS 
+ * IN THE SOFTWARE.
+ */
+package org.ghotibeaun.json.parser.jep;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compiled set of include and exclude paths that select which parts of a document are parsed.  Paths use a subset
+ * of the JSONPath syntax: they start at the root (<code>$</code>) and are followed by any number of steps, each of which
+ * is a key (<code>.name</code> or <code>['name']</code>), an array index (<code>[0]</code>) or a wildcard that matches
+ * any key or index (<code>.*</code> or <code>[*]</code>).  For example:
+ *
+ * <pre>
+ * $.data.items[*].id
+ * $['vendor payload'].header
+ * </pre>
+ *
+ * <p>A value is parsed if it matches an include path or lies below one, and it doesn't match or lie below an exclude
+ * path.  With no include paths, everything that isn't excluded is parsed.  Objects and arrays on the way to an included
+ * value are kept so that the value keeps its place in the document, but their other members are skipped.</p>
+ *
+ * <p>The filter holds no parsing state and can be shared.  Processors call {@linkplain #select(int, String[], int[], int)}
+ * as each value starts, passing the selection of its container.</p>
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+public final class PathFilter {
+    /**
+     * The value is skipped
+     */
+    public static final int SKIP = 0;
+
+    /**
+     * The value is a container on the path to an included value.  Its members must be selected individually
+     */
+    public static final int PARTIAL = 1;
+
+    /**
+     * The value and everything below it is parsed, other than excluded paths
+     */
+    public static final int INCLUDE = 2;
+
+    private static final int WILDCARD = -1;
+    private static final int KEY = -2;
+
+    private final List<String> includePaths;
+    private final List<String> excludePaths;
+    private final Step[][] includes;
+    private final Step[][] excludes;
+    private final int maxExcludeLength;
+    private final int rootSelection;
+
+    private PathFilter(List<String> includePaths, List<String> excludePaths) {
+        this.includePaths = Collections.unmodifiableList(new ArrayList<>(includePaths));
+        this.excludePaths = Collections.unmodifiableList(new ArrayList<>(excludePaths));
+        includes = compile(includePaths);
+        excludes = compile(excludePaths);
+
+        int max = 0;
+        for (final Step[] exclude : excludes) {
+            if (exclude.length == 0) {
+                throw new IllegalArgumentException("Invalid path: the root ($) can't be excluded");
+            }
+            max = Math.max(max, exclude.length);
+        }
+        maxExcludeLength = max;
+
+        int root = includes.length == 0 ? INCLUDE : PARTIAL;
+        for (final Step[] include : includes) {
+            if (include.length == 0) {
+                root = INCLUDE;
+            }
+        }
+        rootSelection = root;
+    }
+
+    /**
+     * Compile a filter
+     * @param includePaths the paths to parse, or an empty list to parse everything that isn't excluded
+     * @param excludePaths the paths to skip
+     * @return the filter, or <code>null</code> if both lists are empty
+     * @throws IllegalArgumentException if a path isn't valid
+     */
+    public static PathFilter compile(List<String> includePaths, List<String> excludePaths) {
+        if (includePaths.isEmpty() && excludePaths.isEmpty()) {
+            return null;
+        }
+        return new PathFilter(includePaths, excludePaths);
+    }
+
+    public List<String> getIncludePaths() {
+        return includePaths;
+    }
+
+    public List<String> getExcludePaths() {
+        return excludePaths;
+    }
+
+    /**
+     * Return the selection of the document root, which is never skipped
+     * @return {@link #INCLUDE} or {@link #PARTIAL}
+     */
+    public int getRootSelection() {
+        return rootSelection;
+    }
+
+    /**
+     * Returns whether {@linkplain #select(int, String[], int[], int)} needs the path to select a value.  Below an
+     * included value, the path only matters where an exclude path could match it; elsewhere the value is included.
+     * @param parent the selection of the value's container
+     * @param length the number of levels in the value's path
+     * @return <code>true</code> if the path must be passed to <code>select</code>
+     */
+    public boolean needsPath(int parent, int length) {
+        return parent != INCLUDE || length <= maxExcludeLength;
+    }
+
+    /**
+     * Select a value.  The path to the value is given one step per level below the root: the key of an object member,
+     * or the index of an array element.
+     * @param parent the selection of the value's container; must not be {@link #SKIP}
+     * @param keys the key at each level, or <code>null</code> where the level is an array
+     * @param indices the index at each level that is an array
+     * @param length the number of levels in the path
+     * @return {@link #SKIP}, {@link #PARTIAL} or {@link #INCLUDE}
+     */
+    public int select(int parent, String[] keys, int[] indices, int length) {
+        if (length <= maxExcludeLength) {
+            for (final Step[] exclude : excludes) {
+                if (exclude.length == length && matches(exclude, keys, indices, length)) {
+                    return SKIP;
+                }
+            }
+        }
+
+        if (parent == INCLUDE) {
+            return INCLUDE;
+        }
+
+        int selection = SKIP;
+        for (final Step[] include : includes) {
+            if (include.length >= length && matches(include, keys, indices, length)) {
+                if (include.length == length) {
+                    return INCLUDE;
+                }
+                selection = PARTIAL;
+            }
+        }
+        return selection;
+    }
+
+    private static boolean matches(Step[] path, String[] keys, int[] indices, int length) {
+        for (int i = 0; i < length; i++) {
+            final Step step = path[i];
+            if (step.index == WILDCARD) {
+                continue;
+            }
+
+            if (keys[i] == null ? step.index != indices[i] : step.index != KEY || !step.key.equals(keys[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Step[][] compile(List<String> paths) {
+        final Step[][] compiled = new Step[paths.size()][];
+        for (int i = 0; i < compiled.length; i++) {
+            compiled[i] = compile(paths.get(i));
+        }
+        return compiled;
+    }
+
+    private static Step[] compile(String path) {
+        if (path == null || !path.startsWith("$")) {
+            throw new IllegalArgumentException("Invalid path: " + path + " (paths must start with $)");
+        }
+
+        final List<Step> steps = new ArrayList<>();
+        int i = 1;
+        while (i < path.length()) {
+            final char c = path.charAt(i);
+            if (c == '.') {
+                int end = i + 1;
+                while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+                    end++;
+                }
+                if (end == i + 1) {
+                    throw new IllegalArgumentException("Invalid path: " + path + " (empty key at position " + i + ")");
+                }
+                final String name = path.substring(i + 1, end);
+                steps.add(name.equals("*") ? new Step(null, WILDCARD) : new Step(name, KEY));
+                i = end;
+            } else if (c == '[') {
+                final int end = path.indexOf(']', i);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Invalid path: " + path + " (unclosed [ at position " + i + ")");
+                }
+                steps.add(bracketStep(path, path.substring(i + 1, end).trim()));
+                i = end + 1;
+            } else {
+                throw new IllegalArgumentException("Invalid path: " + path + " (unexpected " + c + " at position " + i + ")");
+            }
+        }
+
+        return steps.toArray(new Step[0]);
+    }
+
+    private static Step bracketStep(String path, String content) {
+        if (content.equals("*")) {
+            return new Step(null, WILDCARD);
+        }
+
+        if (content.length() >= 2 && (content.charAt(0) == '\'' || content.charAt(0) == '"')
+                && content.charAt(content.length() - 1) == content.charAt(0)) {
+            return new Step(content.substring(1, content.length() - 1), KEY);
+        }
+
+        try {
+            final int index = Integer.parseInt(content);
+            if (index >= 0) {
+                return new Step(null, index);
+            }
+        } catch (final NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException("Invalid path: " + path + " ([" + content + "] is not a quoted key, an index or *)");
+    }
+
+    @Override
+    public String toString() {
+        return "include: " + includePaths + "; exclude: " + excludePaths;
+    }
+
+    /**
+     * One step of a path: a key, an array index, or a wildcard
+     */
+    private static class Step {
+        private final String key;
+        private final int index;
+
+        Step(String key, int index) {
+            this.key = key;
+            this.index = index;
+        }
+    }
+}
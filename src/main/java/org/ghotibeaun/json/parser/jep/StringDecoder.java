@@ -0,0 +1,228 @@
+/*
+ *
+ * # Released under MIT License
+ *
+ * Copyright (c) 2016-2021 Jim Earley.
+ *
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS 
+ * IN THE SOFTWARE.
+ */
+package org.ghotibeaun.json.parser.jep;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Decodes string tokens (keys and values) from the processor's bytes, resolving escape sequences as it goes.
+ * Processors pass string content through as it appears in the document, so <code>\"</code>, <code>\n</code>,
+ * <code>&#92;u00e9</code> etc. are still escaped when they reach the handler.
+ *
+ * <p>For UTF-8 input, the token is first checked eight bytes at a time for anything other than plain ASCII.  Most
+ * strings are plain ASCII, and these are copied straight into a Latin-1 String with no charset decoding.  Otherwise the
+ * remainder of the token is decoded in a single pass that handles escapes (including surrogate pairs written as two
+ * <code>&#92;uXXXX</code> escapes) and multi-byte UTF-8 sequences together.  Other character sets are decoded with the
+ * charset first and then unescaped.</p>
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+public final class StringDecoder {
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long ONES = 0x0101010101010101L;
+    private static final long BACKSLASHES = 0x5C5C5C5C5C5C5C5CL;
+    private static final char REPLACEMENT = '\uFFFD';
+
+    private StringDecoder() {
+
+    }
+
+    /**
+     * Decode a string token
+     * @param data the array holding the token
+     * @param offset the offset of the token
+     * @param length the length of the token
+     * @param charset the document's character set
+     * @return the decoded string
+     * @throws IllegalArgumentException if the token contains an invalid escape sequence
+     */
+    public static String decode(byte[] data, int offset, int length, Charset charset) {
+        if (!StandardCharsets.UTF_8.equals(charset)) {
+            return unescape(new String(data, offset, length, charset));
+        }
+
+        final int plain = plainLength(data, offset, length);
+        if (plain == length) {
+            return new String(data, offset, length, StandardCharsets.ISO_8859_1);
+        }
+
+        return decodeUTF8(data, offset, length, plain);
+    }
+
+    /**
+     * Returns the number of leading bytes that are ASCII and not a backslash, checking a word at a time
+     */
+    static int plainLength(byte[] data, int offset, int length) {
+        final int end = offset + length;
+        int i = offset;
+
+        for (; i + Long.BYTES <= end; i += Long.BYTES) {
+            final long word = (long)LONGS.get(data, i);
+            final long backslashes = word ^ BACKSLASHES;
+            if (((word | ((backslashes - ONES) & ~backslashes)) & HIGH_BITS) != 0) {
+                break;
+            }
+        }
+
+        while (i < end && data[i] >= 0 && data[i] != '\\') {
+            i++;
+        }
+
+        return i - offset;
+    }
+
+    private static String decodeUTF8(byte[] data, int offset, int length, int plain) {
+        final char[] chars = new char[length];
+        final int end = offset + length;
+        int count = 0;
+
+        for (; count < plain; count++) {
+            chars[count] = (char)data[offset + count];
+        }
+
+        int i = offset + plain;
+        while (i < end) {
+            final int byt = data[i];
+
+            if (byt == '\\') {
+                if (i + 1 == end) {
+                    throw new IllegalArgumentException("Incomplete escape sequence at end of string");
+                }
+
+                final char escaped = (char)data[i + 1];
+                if (escaped == 'u') {
+                    if (i + 6 > end) {
+                        throw new IllegalArgumentException("Incomplete unicode escape sequence");
+                    }
+                    chars[count++] = (char)(hex(data[i + 2]) << 12 | hex(data[i + 3]) << 8 | hex(data[i + 4]) << 4 | hex(data[i + 5]));
+                    i += 6;
+                } else {
+                    chars[count++] = unescape(escaped);
+                    i += 2;
+                }
+            } else if (byt >= 0) {
+                chars[count++] = (char)byt;
+                i++;
+            } else {
+                // multi-byte UTF-8 sequence
+                final int lead = byt & 0xFF;
+                final int extra = lead >= 0xF0 ? 3 : lead >= 0xE0 ? 2 : lead >= 0xC2 ? 1 : -1;
+                int codePoint = extra == 3 ? lead & 0x07 : extra == 2 ? lead & 0x0F : lead & 0x1F;
+                boolean valid = extra > 0 && lead < 0xF5 && i + extra < end;
+
+                for (int j = 1; valid && j <= extra; j++) {
+                    final int continuation = data[i + j];
+                    valid = (continuation & 0xC0) == 0x80;
+                    codePoint = codePoint << 6 | continuation & 0x3F;
+                }
+
+                // reject overlong encodings, encoded surrogates and values beyond U+10FFFF
+                valid = valid && (extra != 2 || codePoint >= 0x800 && !Character.isSurrogate((char)codePoint))
+                        && (extra != 3 || codePoint >= 0x10000 && codePoint <= Character.MAX_CODE_POINT);
+
+                if (!valid) {
+                    chars[count++] = REPLACEMENT;
+                    i++;
+                } else if (extra == 3) {
+                    chars[count++] = Character.highSurrogate(codePoint);
+                    chars[count++] = Character.lowSurrogate(codePoint);
+                    i += 4;
+                } else {
+                    chars[count++] = (char)codePoint;
+                    i += extra + 1;
+                }
+            }
+        }
+
+        return new String(chars, 0, count);
+    }
+
+    /**
+     * Resolve the escape sequences in a string that has already been decoded with its charset
+     */
+    private static String unescape(String value) {
+        int i = value.indexOf('\\');
+        if (i < 0) {
+            return value;
+        }
+
+        final int length = value.length();
+        final StringBuilder builder = new StringBuilder(length);
+        builder.append(value, 0, i);
+
+        while (i < length) {
+            final char c = value.charAt(i);
+            if (c != '\\') {
+                builder.append(c);
+                i++;
+            } else if (i + 1 == length) {
+                throw new IllegalArgumentException("Incomplete escape sequence at end of string");
+            } else if (value.charAt(i + 1) == 'u') {
+                if (i + 6 > length) {
+                    throw new IllegalArgumentException("Incomplete unicode escape sequence");
+                }
+                builder.append((char)(hex(value.charAt(i + 2)) << 12 | hex(value.charAt(i + 3)) << 8
+                        | hex(value.charAt(i + 4)) << 4 | hex(value.charAt(i + 5))));
+                i += 6;
+            } else {
+                builder.append(unescape(value.charAt(i + 1)));
+                i += 2;
+            }
+        }
+
+        return builder.toString();
+    }
+
+    private static char unescape(char escaped) {
+        switch (escaped) {
+            case '"':
+            case '\\':
+            case '/':
+                return escaped;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            default:
+                throw new IllegalArgumentException("Invalid escape sequence: \\" + escaped);
+        }
+    }
+
+    private static int hex(int c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        } else if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        } else if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        throw new IllegalArgumentException("Invalid hexadecimal digit in unicode escape sequence: " + (char)c);
+    }
+}
@@ -19,6 +19,7 @@
 package org.ghotibeaun.json.parser.jep.eventhandler;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 
 import org.ghotibeaun.json.JSONNode;
 import org.ghotibeaun.json.JSONValueType;
@@ -126,6 +127,12 @@ public class ConsoleEventHandler extends EventHandler {
 
     }
 
+    @Override
+    public void valueBigInteger(String key, BigInteger value) {
+        print("VALUE: key=" + key + "; value=" + value.toString(), true);
+
+    }
+
     @Override
     public void valueDouble(String key, Double value) {
         print("VALUE: key=" + key + "; value=" + value.toString(), true);
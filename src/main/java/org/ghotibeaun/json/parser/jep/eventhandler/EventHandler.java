@@ -24,11 +24,14 @@ import java.nio.charset.Charset;
 import org.ghotibeaun.json.JSONNode;
 import org.ghotibeaun.json.JSONValueType;
 import org.ghotibeaun.json.exception.JSONEventParserException;
+import org.ghotibeaun.json.parser.jep.KeyCache;
 import org.ghotibeaun.json.parser.jep.ParserSettings;
+import org.ghotibeaun.json.parser.jep.StringDecoder;
 import org.ghotibeaun.json.parser.jep.eventhandler.event.JSONEvent;
 
 public abstract class EventHandler implements JSONEventHandler {
     private ParserSettings settings;
+    private final KeyCache keyCache = new KeyCache();
 
     public EventHandler() {
 
@@ -103,10 +106,10 @@ public abstract class EventHandler implements JSONEventHandler {
 
     public String getDataValue(JSONEvent event) {
         String dataVal = null;
-        if (event.getData() != null) {
+        if (event.getDataArray() != null) {
 
             try {
-                final String val = new String(event.getData().array(), this.getParserSettings().getCharset());
+                final String val = new String(event.getDataArray(), event.getDataOffset(), event.getDataLength(), this.getParserSettings().getCharset());
                 //dataVal = decoder.decode(event.getData()).toString();
                 //dataVal = new String(event.getData().array());
                 dataVal = val;
@@ -118,5 +121,34 @@ public abstract class EventHandler implements JSONEventHandler {
         return dataVal;
     }
 
+    /**
+     * Decode the data of a string event (a key or a value), resolving any escape sequences
+     * @param event the event
+     * @return the string
+     * @throws JSONEventParserException if the string contains an invalid escape sequence
+     */
+    public String getStringValue(JSONEvent event) {
+        try {
+            return StringDecoder.decode(event.getDataArray(), event.getDataOffset(), event.getDataLength(), getParserSettings().getCharset());
+        } catch (final IllegalArgumentException e) {
+            throw new JSONEventParserException(event.getLineNumber(), event.getColumn(), e.getMessage());
+        }
+    }
+
+    /**
+     * Decode the data of a key event.  Repeated keys return the same String instance from the handler's
+     * {@linkplain KeyCache}
+     * @param event the event
+     * @return the key
+     * @throws JSONEventParserException if the key contains an invalid escape sequence
+     */
+    public String getKey(JSONEvent event) {
+        try {
+            return keyCache.get(event.getDataArray(), event.getDataOffset(), event.getDataLength(), getParserSettings().getCharset());
+        } catch (final IllegalArgumentException e) {
+            throw new JSONEventParserException(event.getLineNumber(), event.getColumn(), e.getMessage());
+        }
+    }
+
     public abstract JSONNode getResult();
 }
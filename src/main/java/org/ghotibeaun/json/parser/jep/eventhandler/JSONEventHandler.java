@@ -19,6 +19,7 @@
 package org.ghotibeaun.json.parser.jep.eventhandler;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.nio.charset.Charset;
 
 import org.ghotibeaun.json.JSONValueType;
@@ -95,6 +96,17 @@ public interface JSONEventHandler extends Configurable {
      */
     void valueBigDecimal(String key, BigDecimal value);
 
+    /**
+     * BigInteger value, for integers that don't fit in a long, or when
+     * {@linkplain org.ghotibeaun.json.parser.jep.NonFloatingPointNumber#BIG_INTEGER} is selected.  By default the
+     * value is passed to {@link #valueBigDecimal(String, BigDecimal)} so that it isn't truncated.
+     * @param key the key associated with this value
+     * @param value the value
+     */
+    default void valueBigInteger(String key, BigInteger value) {
+        valueBigDecimal(key, new BigDecimal(value));
+    }
+
     /**
      * Double value value
      * @param key the key associated with this value
@@ -124,4 +136,12 @@ public interface JSONEventHandler extends Configurable {
     void valueNull(String key);
 
     void newKey(String key);
+
+    /**
+     * Clear any state left from a previous document so that the handler can be reused.  Called by
+     * {@linkplain org.ghotibeaun.json.parser.jep.ParserConfiguration#init()} before each document is parsed
+     */
+    default void reset() {
+
+    }
 }
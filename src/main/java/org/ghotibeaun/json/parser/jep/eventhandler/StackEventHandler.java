@@ -18,13 +18,12 @@
  */
 package org.ghotibeaun.json.parser.jep.eventhandler;
 
-import java.math.BigDecimal;
-import java.math.BigInteger;
 import java.util.ArrayDeque;
 import java.util.Deque;
 
 import org.ghotibeaun.json.JSONValueType;
 import org.ghotibeaun.json.exception.JSONEventParserException;
+import org.ghotibeaun.json.parser.jep.NumberDecoder;
 import org.ghotibeaun.json.parser.jep.eventhandler.event.JSONEvent;
 
 /**
@@ -90,6 +89,17 @@ public abstract class StackEventHandler extends EventHandler {
         return keyStack.getLast();
     }
 
+    @Override
+    public void reset() {
+        documentType = null;
+        objectStack.clear();
+        keyStack.clear();
+        keyBit = false;
+        awaitingKey = false;
+        lastValue = null;
+        lastKey = null;
+    }
+
     @Override
     public void handleEvent(JSONEvent event) throws JSONEventParserException {
         switch (event.getEventType()) {
@@ -116,7 +126,7 @@ public abstract class StackEventHandler extends EventHandler {
                 }
                 break;
             case STRING_END:
-                handleString(event, getDataValue(event));
+                handleString(event, isKey() ? getKey(event) : getStringValue(event));
                 break;
             case ARRAY_START:
                 objectStack.push(JSONValueType.ARRAY);
@@ -129,7 +139,7 @@ public abstract class StackEventHandler extends EventHandler {
                 objectStack.push(JSONValueType.BOOLEAN);
                 break;
             case BOOLEAN_END:
-                valueBoolean(handleValue(event, JSONValueType.BOOLEAN), Boolean.parseBoolean(getDataValue(event)));
+                valueBoolean(handleValue(event, JSONValueType.BOOLEAN), isTrue(event));
                 break;
             case NULL_START:
                 objectStack.push(JSONValueType.NULL);
@@ -141,7 +151,7 @@ public abstract class StackEventHandler extends EventHandler {
                 objectStack.push(JSONValueType.NUMBER);
                 break;
             case NUMBER_END:
-                handleNumber(event, getDataValue(event));
+                handleNumber(event);
                 break;
             case ENTITY_END:
                 setKeyBit(true);
@@ -205,42 +215,16 @@ public abstract class StackEventHandler extends EventHandler {
         }
     }
 
-    private void handleNumber(JSONEvent event, String data) {
+    /**
+     * Numbers are decoded straight from the event's bytes
+     */
+    private void handleNumber(JSONEvent event) {
         final String key = handleValue(event, JSONValueType.NUMBER);
 
-        if (data.contains(".")) {
-
-            switch (getParserSettings().getUseFloatingPointType()) {
-                case BIG_DECIMAL:
-                    final BigDecimal bd = new BigDecimal(data);
-                    valueBigDecimal(key, bd);
-                    break;
-                case DOUBLE:
-                    final Double d = Double.valueOf(data);//new Double(data);
-                    valueDouble(key, d);
-                    break;
-                case FLOAT:
-                    final Float f = Float.valueOf(data);// Float(data);
-                    valueFloat(key, f);
-                    break;
-            }
-
-        } else {
-            switch (getParserSettings().getUseNonFloatingPointType()) {
-                case BIG_INTEGER:
-                    final BigInteger bi = new BigInteger(data);
-                    valueLong(key, bi.longValue());
-                    break;
-                case INTEGER:
-                    final Integer i = Integer.valueOf(data);//ew Integer(data);
-                    valueInt(key, i);
-                    break;
-                case LONG:
-                    final Long l = Long.valueOf(data);// Long(data);
-                    valueLong(key, l);
-                    break;
-            }
-
+        try {
+            NumberDecoder.decode(this, key, event.getDataArray(), event.getDataOffset(), event.getDataLength(), getParserSettings());
+        } catch (final NumberFormatException e) {
+            throwError(event, "Invalid number: " + getDataValue(event));
         }
     }
 
@@ -261,6 +245,14 @@ public abstract class StackEventHandler extends EventHandler {
         documentStart(vt);
     }
 
+    /**
+     * Processors validate boolean tokens before firing the end event, so the first byte is sufficient
+     * and no String needs to be decoded
+     */
+    private boolean isTrue(JSONEvent event) {
+        return event.getDataLength() > 0 && event.getDataArray()[event.getDataOffset()] == 't';
+    }
+
     private boolean isKey() {
         return getKeyBit() && awaitingKey &&
                 objectStack.peekFirst() != null && objectStack.peekFirst() == JSONValueType.OBJECT;
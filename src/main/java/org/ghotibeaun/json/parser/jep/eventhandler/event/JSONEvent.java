@@ -46,6 +46,32 @@ public abstract class JSONEvent {
 
     public abstract ByteBuffer getData();
 
+    /**
+     * Returns the array holding this event's data.  The data occupies {@link #getDataLength()} bytes
+     * starting at {@link #getDataOffset()}; for a {@linkplain ReusableEvent} this is the processor's working
+     * buffer and must not be retained or modified.
+     * @return the data array, or <code>null</code> if the event carries no data
+     */
+    public byte[] getDataArray() {
+        return getData() != null ? getData().array() : null;
+    }
+
+    /**
+     * Returns the offset of this event's data within {@link #getDataArray()}
+     * @return the data offset
+     */
+    public int getDataOffset() {
+        return 0;
+    }
+
+    /**
+     * Returns the number of data bytes in {@link #getDataArray()}
+     * @return the data length
+     */
+    public int getDataLength() {
+        return getData() != null ? getData().array().length : 0;
+    }
+
     public static JSONEvent newDataEvent(ByteBuffer data, JSONEventType type) {
         return new DataEventImpl(data, type);
     }
@@ -62,16 +88,20 @@ public abstract class JSONEvent {
         return new TokenEventImpl(type, lineNumber, column);
     }
 
+    public static ReusableEvent newReusableEvent() {
+        return new ReusableEvent();
+    }
+
     @Override
     public String toString() {
 
         final StringBuilder builder = new StringBuilder();
         builder.append(getEventType()).append(" '");
 
-        if (getData() == null) {
+        if (getDataArray() == null) {
             builder.append("[no data]");
         } else {
-            builder.append(new String(getData().array()));
+            builder.append(new String(getDataArray(), getDataOffset(), getDataLength()));
         }
 
         builder.append("' [line: ").append(getLineNumber());
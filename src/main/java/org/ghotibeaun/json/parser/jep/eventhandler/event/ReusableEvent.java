@@ -0,0 +1,112 @@
+/*
+ *
+ * # Released under MIT License
+ *
+ * Copyright (c) 2016-2021 Jim Earley.
+ *
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS 
+ * IN THE SOFTWARE.
+ */
+package org.ghotibeaun.json.parser.jep.eventhandler.event;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A mutable event that a processor updates in place and passes for every token when
+ * {@linkplain org.ghotibeaun.json.parser.jep.ParserSettings#setReuseEvents(boolean)} is enabled.
+ * The event's data is a slice of the processor's working buffer, so the event and its data are only
+ * valid for the duration of the handler callback. Handlers should read the data through
+ * {@link #getDataArray()}, {@link #getDataOffset()} and {@link #getDataLength()}; {@link #getData()}
+ * returns a copy.
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+public final class ReusableEvent extends JSONEvent {
+
+    private JSONEventType type;
+    private byte[] data;
+    private int offset;
+    private int length;
+    private int lineNumber;
+    private int column;
+
+    ReusableEvent() {
+        super();
+    }
+
+    /**
+     * Update this event as a token event without data
+     * @param type the event type
+     * @param lineNumber the line number
+     * @param column the column
+     * @return this event
+     */
+    public ReusableEvent update(JSONEventType type, int lineNumber, int column) {
+        return update(type, null, 0, 0, lineNumber, column);
+    }
+
+    /**
+     * Update this event as a data event
+     * @param type the event type
+     * @param data the array holding the data
+     * @param offset the offset of the data in the array
+     * @param length the number of data bytes
+     * @param lineNumber the line number
+     * @param column the column
+     * @return this event
+     */
+    public ReusableEvent update(JSONEventType type, byte[] data, int offset, int length, int lineNumber, int column) {
+        this.type = type;
+        this.data = data;
+        this.offset = offset;
+        this.length = length;
+        this.lineNumber = lineNumber;
+        this.column = column;
+        return this;
+    }
+
+    @Override
+    public JSONEventType getEventType() {
+        return type;
+    }
+
+    @Override
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public int getColumn() {
+        return column;
+    }
+
+    @Override
+    public ByteBuffer getData() {
+        return data != null ? ByteBuffer.wrap(Arrays.copyOfRange(data, offset, offset + length)) : null;
+    }
+
+    @Override
+    public byte[] getDataArray() {
+        return data;
+    }
+
+    @Override
+    public int getDataOffset() {
+        return offset;
+    }
+
+    @Override
+    public int getDataLength() {
+        return length;
+    }
+}
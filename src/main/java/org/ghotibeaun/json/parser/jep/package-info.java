@@ -41,9 +41,11 @@
  *      made about the underlying implementation other than to indicate that new array has been
  *      recognized in the JSON data</li>
  *  <li>Strings: Strings will be interpreted as a Java String instance, Object keys will also be
- *      recognized as Strings, but will can be handled through separate events from values</li>
- *  <li>Numbers: Internally numbers will either be interpreted as BigDecimal or BigInteger values, but then can be
- *      processed into the appropriate primitive and Boxed classes. </li>
+ *      recognized as Strings, but will can be handled through separate events from values.  Repeated keys are
+ *      returned as the same String instance by the {@linkplain org.ghotibeaun.json.parser.jep.KeyCache}</li>
+ *  <li>Numbers: Numbers are decoded directly from the token bytes by the {@linkplain org.ghotibeaun.json.parser.jep.NumberDecoder}
+ *      into the primitive and Boxed classes selected in the {@linkplain org.ghotibeaun.json.parser.jep.ParserSettings}.
+ *      Integers that overflow the selected type are widened rather than truncated. </li>
  *  <li>Booleans: will be interpreted as a boolean primitive type</li>
  *  <li>Null Values: Since various implementations handle null values differently, there is a set of
  *      events that indicate when a null value has been detected.  The implementation can determine
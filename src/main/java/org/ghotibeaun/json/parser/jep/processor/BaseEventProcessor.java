@@ -35,141 +35,289 @@ import static org.ghotibeaun.json.parser.jep.eventhandler.event.JSONEventType.OB
 import static org.ghotibeaun.json.parser.jep.eventhandler.event.JSONEventType.STRING_END;
 import static org.ghotibeaun.json.parser.jep.eventhandler.event.JSONEventType.STRING_START;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 
+import org.ghotibeaun.json.parser.jep.ParseStatistics;
+import org.ghotibeaun.json.parser.jep.ParserSettings;
 import org.ghotibeaun.json.parser.jep.eventhandler.event.JSONEvent;
+import org.ghotibeaun.json.parser.jep.eventhandler.event.JSONEventType;
+import org.ghotibeaun.json.parser.jep.eventhandler.event.ReusableEvent;
 
 public abstract class BaseEventProcessor extends EventProcessor {
 
+    private ReusableEvent reusableEvent;
+    private ParseStatistics statistics;
+
     public BaseEventProcessor() {
 
     }
 
+    /**
+     * Start collecting statistics for a new document, if {@linkplain ParserSettings#getEnableStatistics()} is
+     * enabled.  Processors call this when they reset their state.
+     */
+    protected void startStatistics() {
+        statistics = getProcessorSettings() != null ? getProcessorSettings().getStatistics() : null;
+        if (statistics != null) {
+            statistics.start();
+        }
+    }
+
+    /**
+     * Return the statistics for the current document
+     * @return the statistics, or <code>null</code> if they aren't being collected
+     */
+    protected ParseStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Count an event in the statistics.  Processors that dispatch events without the <code>fire</code> methods
+     * of this class call this themselves.
+     * @param type the event type
+     */
+    protected void countEvent(JSONEventType type) {
+        if (statistics != null) {
+            statistics.count(type);
+        }
+    }
+
+    /**
+     * Count the bytes of a block in the statistics
+     * @param length the number of bytes
+     */
+    protected void countBytes(int length) {
+        if (statistics != null) {
+            statistics.addBytes(length);
+        }
+    }
+
+    /**
+     * Read the next block from a stream, timing the read when statistics are enabled
+     * @param stream the stream
+     * @param block the block to read into
+     * @return the number of bytes read, or -1 at the end of the stream
+     * @throws IOException if the stream can't be read
+     */
+    protected int read(InputStream stream, byte[] block) throws IOException {
+        if (statistics == null) {
+            return stream.read(block);
+        }
+
+        final long start = System.nanoTime();
+        final int length = stream.read(block);
+        statistics.addReadTime(System.nanoTime() - start);
+        return length;
+    }
+
+    /**
+     * Notify the provider of a token event. If {@linkplain ParserSettings#getReuseEvents()} is enabled, a single
+     * {@linkplain ReusableEvent} is updated and passed instead of allocating a new event.
+     * @param type the event type
+     * @param lineNumber the line number
+     * @param column the column
+     */
+    protected void fireTokenEvent(JSONEventType type, int lineNumber, int column) {
+        countEvent(type);
+        if (isReusingEvents()) {
+            getEventProvider().notifyEvent(reusableEvent.update(type, lineNumber, column));
+        } else {
+            getEventProvider().notifyEvent(JSONEvent.newTokenEvent(type, lineNumber, column));
+        }
+    }
+
+    /**
+     * Notify the provider of a data event.  The data is a slice of the processor's working buffer. It is passed
+     * as-is to a {@linkplain ReusableEvent}, and is otherwise copied into the new event.
+     * @param type the event type
+     * @param data the array holding the data
+     * @param offset the offset of the data in the array
+     * @param length the number of data bytes
+     * @param lineNumber the line number
+     * @param column the column
+     */
+    protected void fireDataEvent(JSONEventType type, byte[] data, int offset, int length, int lineNumber, int column) {
+        countEvent(type);
+        if (isReusingEvents()) {
+            getEventProvider().notifyEvent(reusableEvent.update(type, data, offset, length, lineNumber, column));
+        } else {
+            final ByteBuffer copy = ByteBuffer.wrap(Arrays.copyOfRange(data, offset, offset + length));
+            getEventProvider().notifyEvent(JSONEvent.newDataEvent(copy, type, lineNumber, column));
+        }
+    }
+
+    private void fireDataEvent(JSONEventType type, ByteBuffer data, int lineNumber, int column) {
+        if (statistics != null) {
+            if (type == DOCUMENT_START) {
+                statistics.documentStart(data.get(0) == '{');
+            } else {
+                statistics.count(type);
+            }
+        }
+
+        if (isReusingEvents()) {
+            getEventProvider().notifyEvent(reusableEvent.update(type, data.array(), 0, data.array().length, lineNumber, column));
+        } else {
+            getEventProvider().notifyEvent(JSONEvent.newDataEvent(data, type, lineNumber, column));
+        }
+    }
+
+    private boolean isReusingEvents() {
+        if (getProcessorSettings() == null || !getProcessorSettings().getReuseEvents()) {
+            return false;
+        }
+
+        if (reusableEvent == null) {
+            reusableEvent = JSONEvent.newReusableEvent();
+        }
+
+        return true;
+    }
+
     protected void fireArrayEndEvent() {
-        getEventProvider().notifyEvent(JSONEvent.newTokenEvent(ARRAY_END));
+        fireTokenEvent(ARRAY_END, 0, 0);
     }
 
     protected void fireArrayEndEvent(int lineNumber, int column) {
-        getEventProvider().notifyEvent(JSONEvent.newTokenEvent(ARRAY_END, lineNumber, column));
+        fireTokenEvent(ARRAY_END, lineNumber, column);
     }
 
     protected void fireArrayStartEvent() {
-        getEventProvider().notifyEvent(JSONEvent.newTokenEvent(ARRAY_START));
+        fireTokenEvent(ARRAY_START, 0, 0);
     }
 
     protected void fireArrayStartEvent(int lineNumber, int column) {
-        getEventProvider().notifyEvent(JSONEvent.newTokenEvent(ARRAY_START, lineNumber, column));
+        fireTokenEvent(ARRAY_START, lineNumber, column);
     }
 
     protected void fireBooleanStartEvent() {
-        getEventProvider().notifyEvent(JSONEvent.newTokenEvent(BOOLEAN_START));
+        fireTokenEvent(BOOLEAN_START, 0, 0);
     }
 
     protected void fireBooleanStartEvent(int lineNumber, int column) {
-        getEventProvider().notifyEvent(JSONEvent.newTokenEvent(BOOLEAN_START, lineNumber, column));
+        fireTokenEvent(BOOLEAN_START, lineNumber, column);
     }
 
     protected void fireBooleanEndEvent(ByteBuffer data) {
-        getEventProvider().notifyEvent(JSONEvent.newDataEvent(data, BOOLEAN_END));
+        fireDataEvent(BOOLEAN_END, data, 0, 0);
     }
 
     protected void fireBooleanEndEvent(ByteBuffer data, int lineNumber, int column) {
-        getEventProvider().notifyEvent(JSONEvent.newDataEvent(data, BOOLEAN_END, lineNumber, column));
+        fireDataEvent(BOOLEAN_END, data, lineNumber, column);
+    }
+
+    protected void fireBooleanEndEvent(byte[] data, int offset, int length, int lineNumber, int column) {
+        fireDataEvent(BOOLEAN_END, data, offset, length, lineNumber, column);
     }
 
     protected void fireDocumentEndEvent() {
-        getEventProvider().notifyEvent(JSONEvent.newTokenEvent(DOCUMENT_END));
+        fireTokenEvent(DOCUMENT_END, 0, 0);
     }
 
     protected void fireDocumentEndEvent(int lineNumber, int column) {
-        getEventProvider().notifyEvent(JSONEvent.newTokenEvent(DOCUMENT_END, lineNumber, column));
+        fireTokenEvent(DOCUMENT_END, lineNumber, column);
     }
 
     protected void fireDocumentStartEvent(ByteBuffer data) {
-        getEventProvider().notifyEvent(JSONEvent.newDataEvent(data, DOCUMENT_START));
+        fireDataEvent(DOCUMENT_START, data, 0, 0);
     }
 
     protected void fireDocumentStartEvent(ByteBuffer data, int lineNumber, int column) {
-        getEventProvider().notifyEvent(JSONEvent.newDataEvent(data, DOCUMENT_START, lineNumber, column));
+        fireDataEvent(DOCUMENT_START, data, lineNumber, column);
     }
 
     protected void fireEntityEndEvent() {
-        getEventProvider().notifyEvent(JSONEvent.newTokenEvent(ENTITY_END));
+        fireTokenEvent(ENTITY_END, 0, 0);
     }
 
     protected void fireEntityEndEvent(int lineNumber, int column) {
-        getEventProvider().notifyEvent(JSONEvent.newTokenEvent(ENTITY_END, lineNumber, column));
+        fireTokenEvent(ENTITY_END, lineNumber, column);
     }
 
     protected void fireKeyEndEvent() {
-        getEventProvider().notifyEvent(JSONEvent.newTokenEvent(KEY_END));
+        fireTokenEvent(KEY_END, 0, 0);
     }
 
     protected void fireKeyEndEvent(int lineNumber, int column) {
-        getEventProvider().notifyEvent(JSONEvent.newTokenEvent(KEY_END, lineNumber, column));
+        fireTokenEvent(KEY_END, lineNumber, column);
     }
 
     protected void fireMapEndEvent() {
-        getEventProvider().notifyEvent(JSONEvent.newTokenEvent(OBJECT_END));
+        fireTokenEvent(OBJECT_END, 0, 0);
     }
 
     protected void fireMapEndEvent(int lineNumber, int column) {
-        getEventProvider().notifyEvent(JSONEvent.newTokenEvent(OBJECT_END, lineNumber, column));
+        fireTokenEvent(OBJECT_END, lineNumber, column);
     }
 
     protected void fireMapStartEvent() {
-        getEventProvider().notifyEvent(JSONEvent.newTokenEvent(OBJECT_START));
+        fireTokenEvent(OBJECT_START, 0, 0);
     }
 
     protected void fireMapStartEvent(int lineNumber, int column) {
-        getEventProvider().notifyEvent(JSONEvent.newTokenEvent(OBJECT_START, lineNumber, column));
+        fireTokenEvent(OBJECT_START, lineNumber, column);
     }
 
     protected void fireNullEndEvent(ByteBuffer data) {
-        getEventProvider().notifyEvent(JSONEvent.newDataEvent(data, NULL_END));
+        fireDataEvent(NULL_END, data, 0, 0);
     }
 
     protected void fireNullEndEvent(ByteBuffer data, int lineNumber, int column) {
-        getEventProvider().notifyEvent(JSONEvent.newDataEvent(data, NULL_END, lineNumber, column));
+        fireDataEvent(NULL_END, data, lineNumber, column);
+    }
+
+    protected void fireNullEndEvent(byte[] data, int offset, int length, int lineNumber, int column) {
+        fireDataEvent(NULL_END, data, offset, length, lineNumber, column);
     }
 
     protected void fireNullStartEvent() {
-        getEventProvider().notifyEvent(JSONEvent.newTokenEvent(NULL_START));
+        fireTokenEvent(NULL_START, 0, 0);
     }
 
     protected void fireNullStartEvent(int lineNumber, int column) {
-        getEventProvider().notifyEvent(JSONEvent.newTokenEvent(NULL_START, lineNumber, column));
+        fireTokenEvent(NULL_START, lineNumber, column);
     }
 
     protected void fireNumberStartEvent() {
-        getEventProvider().notifyEvent(JSONEvent.newTokenEvent(NUMBER_START));
+        fireTokenEvent(NUMBER_START, 0, 0);
     }
 
     protected void fireNumberStartEvent(int lineNumber, int column) {
-        getEventProvider().notifyEvent(JSONEvent.newTokenEvent(NUMBER_START, lineNumber, column));
+        fireTokenEvent(NUMBER_START, lineNumber, column);
     }
 
     protected void fireNumberEndEvent(ByteBuffer data) {
-        getEventProvider().notifyEvent(JSONEvent.newDataEvent(data, NUMBER_END));
+        fireDataEvent(NUMBER_END, data, 0, 0);
     }
 
     protected void fireNumberEndEvent(ByteBuffer data, int lineNumber, int column) {
-        getEventProvider().notifyEvent(JSONEvent.newDataEvent(data, NUMBER_END, lineNumber, column));
+        fireDataEvent(NUMBER_END, data, lineNumber, column);
+    }
+
+    protected void fireNumberEndEvent(byte[] data, int offset, int length, int lineNumber, int column) {
+        fireDataEvent(NUMBER_END, data, offset, length, lineNumber, column);
     }
 
     protected void fireStringEndEvent(ByteBuffer data) {
-        getEventProvider().notifyEvent(JSONEvent.newDataEvent(data, STRING_END));
+        fireDataEvent(STRING_END, data, 0, 0);
     }
 
     protected void fireStringEndEvent(ByteBuffer data, int lineNumber, int column) {
-        getEventProvider().notifyEvent(JSONEvent.newDataEvent(data, STRING_END, lineNumber, column));
+        fireDataEvent(STRING_END, data, lineNumber, column);
+    }
+
+    protected void fireStringEndEvent(byte[] data, int offset, int length, int lineNumber, int column) {
+        fireDataEvent(STRING_END, data, offset, length, lineNumber, column);
     }
 
     protected void fireStringStartEvent() {
-        getEventProvider().notifyEvent(JSONEvent.newTokenEvent(STRING_START));
+        fireTokenEvent(STRING_START, 0, 0);
     }
 
     protected void fireStringStartEvent(int lineNumber, int column) {
-        getEventProvider().notifyEvent(JSONEvent.newTokenEvent(STRING_START, lineNumber, column));
+        fireTokenEvent(STRING_START, lineNumber, column);
     }
 }
@@ -0,0 +1,165 @@
+/*
+ *
+ * # Released under MIT License
+ *
+ * Copyright (c) 2016-2021 Jim Earley.
+ *
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS 
+ * IN THE SOFTWARE.
+ */
+package org.ghotibeaun.json.parser.jep.processor;
+
+import static org.ghotibeaun.json.util.ByteConstants.BACKSLASH;
+import static org.ghotibeaun.json.util.ByteConstants.COLON;
+import static org.ghotibeaun.json.util.ByteConstants.COMMA;
+import static org.ghotibeaun.json.util.ByteConstants.CR;
+import static org.ghotibeaun.json.util.ByteConstants.DECIMAL;
+import static org.ghotibeaun.json.util.ByteConstants.E;
+import static org.ghotibeaun.json.util.ByteConstants.END_ARRAY;
+import static org.ghotibeaun.json.util.ByteConstants.END_MAP;
+import static org.ghotibeaun.json.util.ByteConstants.LF;
+import static org.ghotibeaun.json.util.ByteConstants.MINUS;
+import static org.ghotibeaun.json.util.ByteConstants.NINE;
+import static org.ghotibeaun.json.util.ByteConstants.PLUS;
+import static org.ghotibeaun.json.util.ByteConstants.QUOTE;
+import static org.ghotibeaun.json.util.ByteConstants.SOLIDUS;
+import static org.ghotibeaun.json.util.ByteConstants.SPACE;
+import static org.ghotibeaun.json.util.ByteConstants.START_ARRAY;
+import static org.ghotibeaun.json.util.ByteConstants.START_MAP;
+import static org.ghotibeaun.json.util.ByteConstants.TAB;
+import static org.ghotibeaun.json.util.ByteConstants.ZERO;
+import static org.ghotibeaun.json.util.ByteConstants.e;
+import static org.ghotibeaun.json.util.ByteConstants.f;
+import static org.ghotibeaun.json.util.ByteConstants.n;
+import static org.ghotibeaun.json.util.ByteConstants.t;
+
+/**
+ * Precomputed 256-entry character class table.  Each byte value maps to exactly one class, so
+ * a processor can classify a byte with a single array lookup instead of evaluating a series
+ * of {@linkplain org.ghotibeaun.json.util.ByteRange} instances.
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+final class CharacterClass {
+
+    public static final int OTHER = 0;
+
+    /**
+     * Space, tab and carriage return
+     */
+    public static final int WHITESPACE = 1;
+
+    public static final int LINE_FEED = 2;
+
+    public static final int QUOTE_MARK = 3;
+
+    public static final int ESCAPE = 4;
+
+    public static final int SLASH = 5;
+
+    public static final int OBJECT_START = 6;
+
+    public static final int OBJECT_END = 7;
+
+    public static final int ARRAY_START = 8;
+
+    public static final int ARRAY_END = 9;
+
+    public static final int ENTITY_DELIMITER = 10;
+
+    public static final int KEY_DELIMITER = 11;
+
+    public static final int DIGIT = 12;
+
+    public static final int NEGATIVE = 13;
+
+    public static final int POSITIVE = 14;
+
+    public static final int DECIMAL_POINT = 15;
+
+    /**
+     * 'e' and 'E'.  Also a letter of the <code>true</code> and <code>false</code> literals
+     */
+    public static final int EXPONENT = 16;
+
+    /**
+     * The leading letters of the <code>true</code>, <code>false</code> and <code>null</code> literals
+     */
+    public static final int LITERAL_START = 17;
+
+    /**
+     * Any other ASCII letter
+     */
+    public static final int LETTER = 18;
+
+    private static final byte[] TABLE = new byte[256];
+
+    static {
+        for (int i = 'a'; i <= 'z'; i++) {
+            TABLE[i] = LETTER;
+        }
+
+        for (int i = 'A'; i <= 'Z'; i++) {
+            TABLE[i] = LETTER;
+        }
+
+        for (int i = ZERO; i <= NINE; i++) {
+            TABLE[i] = DIGIT;
+        }
+
+        TABLE[SPACE] = WHITESPACE;
+        TABLE[TAB] = WHITESPACE;
+        TABLE[CR] = WHITESPACE;
+        TABLE[LF] = LINE_FEED;
+        TABLE[QUOTE] = QUOTE_MARK;
+        TABLE[BACKSLASH] = ESCAPE;
+        TABLE[SOLIDUS] = SLASH;
+        TABLE[START_MAP] = OBJECT_START;
+        TABLE[END_MAP] = OBJECT_END;
+        TABLE[START_ARRAY] = ARRAY_START;
+        TABLE[END_ARRAY] = ARRAY_END;
+        TABLE[COMMA] = ENTITY_DELIMITER;
+        TABLE[COLON] = KEY_DELIMITER;
+        TABLE[MINUS] = NEGATIVE;
+        TABLE[PLUS] = POSITIVE;
+        TABLE[DECIMAL] = DECIMAL_POINT;
+        TABLE[e] = EXPONENT;
+        TABLE[E] = EXPONENT;
+        TABLE[t] = LITERAL_START;
+        TABLE[f] = LITERAL_START;
+        TABLE[n] = LITERAL_START;
+    }
+
+    private CharacterClass() {
+        // constants only
+    }
+
+    /**
+     * Return the character class for a byte
+     * @param byt the byte
+     * @return the character class
+     */
+    static int of(byte byt) {
+        return TABLE[byt & 0xFF];
+    }
+
+    /**
+     * Returns whether a byte would interrupt a run of plain string content, i.e., a quote, backslash,
+     * solidus or line feed
+     * @param byt the byte
+     * @return <code>true</code> if the string scanner must handle this byte individually
+     */
+    static boolean isStringBoundary(byte byt) {
+        final int cls = TABLE[byt & 0xFF];
+        return cls >= LINE_FEED && cls <= SLASH;
+    }
+}
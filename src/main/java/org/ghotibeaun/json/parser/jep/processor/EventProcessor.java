@@ -42,6 +42,14 @@ public abstract class EventProcessor implements JSONEventProcessor {
         return FactorySettings.createFactoryClass(Setting.EVENT_PROCESSOR_CLASS);
     }
 
+    /**
+     * Create a processor that supports {@linkplain ParserSettings#setIncludePaths(String...) path filtering}
+     * @return a new {@linkplain JSONTableEventProcessor}
+     */
+    public static EventProcessor newPathFilteringProcessor() {
+        return new JSONTableEventProcessor();
+    }
+
     @Override
     public void setParserSettings(ParserSettings settings) {
         this.settings = settings;
@@ -53,10 +53,10 @@ import static org.ghotibeaun.json.util.ByteConstants.s;
 import static org.ghotibeaun.json.util.ByteConstants.t;
 import static org.ghotibeaun.json.util.ByteConstants.u;
 
-import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.util.Iterator;
 
 import org.ghotibeaun.json.exception.JSONEventParserException;
 import org.ghotibeaun.json.parser.jep.ParserSettings;
@@ -73,10 +73,13 @@ import org.ghotibeaun.json.util.ResizableByteBuffer;
  *  Given that some JSON serializers are lax with some escaping, you can set the {@linkplain ParserSettings#setUseStrict(boolean)} to
  *  <code>false</code> if you want to allow for some characters to pass through without being escaped.
  * </p>
+ * <p>
+ *  Input can also be fed incrementally through {@linkplain JSONFeedableEventProcessor}; partial tokens are held across feeds.
+ * </p>
  * @author Jim Earley
  *
  */
-class JSONBufferedEventProcessor extends BaseEventProcessor {
+class JSONBufferedEventProcessor extends BaseEventProcessor implements JSONFeedableEventProcessor {
     /**
      * Number byte range (0-9, e, E, +, -)
      */
@@ -102,7 +105,6 @@ class JSONBufferedEventProcessor extends BaseEventProcessor {
     private final ByteSequence trueSequence = ByteSequence.startsWith(t).followedBy(r).followedBy(u).followedBy(e);
     private final ByteSequence falseSequence = ByteSequence.startsWith(f).followedBy(a).followedBy(l).followedBy(s).followedBy(e);
 
-    private BufferedInputStream bis;
     private final  ResizableByteBuffer token = new ResizableByteBuffer();
 
     private int tokenState;
@@ -110,6 +112,7 @@ class JSONBufferedEventProcessor extends BaseEventProcessor {
     private int column;
     private boolean documentStarted = false;
     private boolean escapeFlag = false;
+    private boolean feeding = false;
 
 
 
@@ -119,25 +122,80 @@ class JSONBufferedEventProcessor extends BaseEventProcessor {
 
     @Override
     public void start(InputStream stream) throws JSONEventParserException {
-        incrementLine();
-        incrementColumn();
-        try {
-            if (stream instanceof BufferedInputStream) {
-                bis = (BufferedInputStream) stream;
-            } else {
-                bis = new BufferedInputStream(stream);
-            }
+        begin();
 
-            ByteBuffer block = readBlock();
+        final byte[] block = new byte[getProcessorSettings().getBlockSizeBytes()];
 
-            while (block != null) {
-                processBlock(block);
-                block = readBlock();
-            }
+        try {
+            int length = read(stream, block);
 
+            while (length != -1) {
+                feed(ByteBuffer.wrap(block, 0, length));
+                length = read(stream, block);
+            }
         } catch (final IOException e) {
             throw new JSONEventParserException(e);
         }
+
+        endOfInput();
+    }
+
+    /**
+     * Each buffer is fed in turn, so the regions of a mapped file are read in place rather than through a stream
+     */
+    @Override
+    public void start(Iterator<ByteBuffer> buffers) throws JSONEventParserException {
+        begin();
+
+        while (buffers.hasNext()) {
+            feed(buffers.next());
+        }
+
+        endOfInput();
+    }
+
+    @Override
+    public void feed(ByteBuffer buffer) throws JSONEventParserException {
+        if (!feeding) {
+            begin();
+        }
+
+        countBytes(buffer.remaining());
+        while (buffer.hasRemaining()) {
+            handleByte(buffer.get());
+        }
+    }
+
+    @Override
+    public void endOfInput() throws JSONEventParserException {
+        if (!feeding) {
+            begin();
+        }
+
+        feeding = false;
+
+        if (inStringToken()) {
+            throwError("Unexpected end of input in String value");
+        }
+
+        if (inToken()) {
+            notifyEndToken();
+        }
+
+        fireDocumentEndEvent(lineNumber, column);
+    }
+
+    /**
+     * Reset the processor state before a new document
+     */
+    private void begin() {
+        startStatistics();
+        lineNumber = 1;
+        column = 1;
+        resetToken();
+        documentStarted = false;
+        escapeFlag = false;
+        feeding = true;
     }
 
 
@@ -201,19 +259,6 @@ class JSONBufferedEventProcessor extends BaseEventProcessor {
         return column;
     }
 
-    private void processBlock(ByteBuffer block) throws IOException {
-        if (block != null) {
-            while (block.hasRemaining()) {
-                final byte b = block.get();
-                handleByte(b);
-            }
-
-            //processBlock(readBlock());
-        } else {
-            fireDocumentEndEvent(lineNumber, column); //TODO: reached the end;
-        }
-    }
-
     private void handleByte(byte b) {
         if (isWhitespace(b)) {
             handleWhitespace(b);
@@ -475,25 +520,6 @@ class JSONBufferedEventProcessor extends BaseEventProcessor {
         column = 0;
     }
 
-    private ByteBuffer readBlock() throws IOException {
-        final byte[] byteBuffer = new byte[getProcessorSettings().getBlockSizeBytes()];
-        final int readResult = getStream().read(byteBuffer);
-
-        ByteBuffer buffer = null;
-
-        if (readResult != -1) {
-            //read the byte array into a ByteBuffer for better handling of the array
-            //and only allocate what was read
-            buffer = ByteBuffer.wrap(byteBuffer, 0, readResult);
-        }
-
-        return buffer;
-    }
-
-    private InputStream getStream() {
-        return bis;
-    }
-
     private boolean inStringToken() {
         return tokenState == TOKEN_STATE_STRING;
     }
@@ -125,6 +125,7 @@ class JSONByteEventProcessor extends BaseEventProcessor{
 
     @Override
     public void start(InputStream stream) throws JSONEventParserException {
+        reset();
         bis = stream instanceof BufferedInputStream ? (BufferedInputStream)stream : new BufferedInputStream(stream);
         line++;
 
@@ -144,6 +145,25 @@ class JSONByteEventProcessor extends BaseEventProcessor{
         //System.gc();
     }
 
+    /**
+     * Clear the state left by a previous document, since processors are reused between documents
+     */
+    private void reset() {
+        startStatistics();
+        eof = false;
+        pos = 0;
+        line = 0;
+        linePos = 0;
+        documentStarted = false;
+        currentToken.clear();
+        arrayLevel = 0;
+        blockPosition = 0;
+        numberOfBlocks = 0;
+        previousByte = 0;
+        tokenState = TOKEN_STATE_EMPTY;
+        expectedCharacters.clear();
+    }
+
     private int buildBlockBuffer() throws IOException {
         final int bufferSize = getBlockSizeInBytes();
         workingBlock = new byte[bufferSize];
@@ -242,7 +262,11 @@ class JSONByteEventProcessor extends BaseEventProcessor{
 
 
     private void handleArrayStart(byte b) {
-        if (!inToken()) {
+        if (!documentStarted) {
+            notifyDocumentStart(b);
+            arrayLevel++;
+            incrementPosition(b);
+        } else if (!inToken()) {
             notifyArrayStart();
             incrementPosition(b);
         } else if (isStringToken()) {
@@ -270,7 +294,7 @@ class JSONByteEventProcessor extends BaseEventProcessor{
 
     private void handleMapStart(byte b) {
         if (!documentStarted) {
-            notifyDocumentStart(ByteBuffer.allocate(1).put(b));
+            notifyDocumentStart(b);
             incrementPosition(b);
         } else if (!inToken()) {
             notifyMapStart();
@@ -477,7 +501,7 @@ class JSONByteEventProcessor extends BaseEventProcessor{
         if (!documentStarted) {
             final byte startByte = toByteArray()[0];
             documentStarted = true;
-            notifyDocumentStart(ByteBuffer.allocate(1).put(startByte));
+            notifyDocumentStart(startByte);
             resetTokens();
             return;
         }
@@ -652,9 +676,11 @@ class JSONByteEventProcessor extends BaseEventProcessor{
         blockPosition = 0;
         numberOfBlocks++;
 
-        final int bytes = bis.read(buf);
+        final int bytes = read(bis, buf);
         if (bytes == -1) {
             eof = true;
+        } else {
+            countBytes(bytes);
         }
 
         return bytes;
@@ -668,7 +694,7 @@ class JSONByteEventProcessor extends BaseEventProcessor{
         }
     }
 
-    private void notifyDocumentStart(ByteBuffer c) {
+    private void notifyDocumentStart(byte c) {
         documentStarted = true;
         fireDocumentStartEvent(ByteBuffer.allocate(1).put(c));
 
@@ -0,0 +1,234 @@
+/*
+ *
+ * # Released under MIT License
+ *
+ * Copyright (c) 2016-2021 Jim Earley.
+ *
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS 
+ * IN THE SOFTWARE.
+ */
+package org.ghotibeaun.json.parser.jep.processor;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import org.ghotibeaun.json.JSONValueType;
+import org.ghotibeaun.json.exception.JSONEventParserException;
+import org.ghotibeaun.json.parser.jep.KeyCache;
+import org.ghotibeaun.json.parser.jep.NumberDecoder;
+import org.ghotibeaun.json.parser.jep.StringDecoder;
+import org.ghotibeaun.json.parser.jep.eventhandler.JSONEventHandler;
+import org.ghotibeaun.json.parser.jep.eventhandler.event.JSONEventType;
+
+/**
+ * Variant of the {@linkplain JSONTableEventProcessor} that bypasses the event provider and {@linkplain org.ghotibeaun.json.parser.jep.eventhandler.event.JSONEvent}
+ * objects entirely.  The object/array stack and the current key are tracked here, and each token is passed straight
+ * to the typed methods of the {@linkplain JSONEventHandler} (<code>jsonObjectStart</code>, <code>newKey</code>,
+ * <code>valueString</code>, <code>valueLong</code>, etc.).  The handler's <code>handleEvent</code> method is never called,
+ * so this processor is only suitable for handlers that do their work in the typed methods, such as the
+ * {@linkplain org.ghotibeaun.json.parser.jep.eventhandler.StackEventHandler} subclasses.  It can be enabled with:
+ *
+ * <pre>
+ * FactorySettings.applySetting(Setting.EVENT_PROCESSOR_CLASS, "org.ghotibeaun.json.parser.jep.processor.JSONDirectEventProcessor");
+ * </pre>
+ *
+ * The keys passed to the handler are the same as those passed by the {@linkplain org.ghotibeaun.json.parser.jep.eventhandler.StackEventHandler}.
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+class JSONDirectEventProcessor extends JSONTableEventProcessor {
+    private static final int INITIAL_DEPTH = 32;
+
+    private boolean[] objectStack = new boolean[INITIAL_DEPTH];
+    private String[] keyStack = new String[INITIAL_DEPTH];
+    private int depth;
+    private String currentKey;
+    private boolean awaitingKey;
+
+    private JSONEventHandler handler;
+    private Charset charset;
+    private final KeyCache keyCache = new KeyCache();
+
+    public JSONDirectEventProcessor() {
+
+    }
+
+    @Override
+    protected void reset() {
+        super.reset();
+        handler = getProcessorSettings().getParserConfiguration().getEventHandler();
+        charset = getProcessorSettings().getCharset();
+        depth = -1;
+        currentKey = null;
+        awaitingKey = false;
+    }
+
+    @Override
+    protected void fireDocumentStartEvent(ByteBuffer data, int lineNumber, int column) {
+        final boolean isObject = data.get(0) == '{';
+        if (getStatistics() != null) {
+            getStatistics().documentStart(isObject);
+        }
+        push(isObject, null);
+        handler.documentStart(isObject ? JSONValueType.OBJECT : JSONValueType.ARRAY);
+    }
+
+    @Override
+    protected void fireDocumentEndEvent(int lineNumber, int column) {
+        countEvent(JSONEventType.DOCUMENT_END);
+        handler.documentEnd();
+    }
+
+    @Override
+    protected void fireMapStartEvent(int lineNumber, int column) {
+        countEvent(JSONEventType.OBJECT_START);
+        final String key = getValueKey();
+        push(true, key);
+        handler.jsonObjectStart(key);
+    }
+
+    @Override
+    protected void fireMapEndEvent(int lineNumber, int column) {
+        countEvent(JSONEventType.OBJECT_END);
+        pop(true, lineNumber, column);
+        handler.jsonObjectEnd(depth < 0 ? "$" : getClosingKey());
+    }
+
+    @Override
+    protected void fireArrayStartEvent(int lineNumber, int column) {
+        countEvent(JSONEventType.ARRAY_START);
+        final String key = getValueKey();
+        push(false, key);
+        handler.jsonArrayStart(key);
+    }
+
+    @Override
+    protected void fireArrayEndEvent(int lineNumber, int column) {
+        countEvent(JSONEventType.ARRAY_END);
+        pop(false, lineNumber, column);
+        handler.jsonArrayEnd(depth < 0 ? null : getClosingKey());
+    }
+
+    @Override
+    protected void fireEntityEndEvent(int lineNumber, int column) {
+        awaitingKey = depth >= 0 && objectStack[depth];
+    }
+
+    @Override
+    protected void fireKeyEndEvent(int lineNumber, int column) {
+        countEvent(JSONEventType.KEY_END);
+        awaitingKey = false;
+    }
+
+    @Override
+    protected void fireStringStartEvent(int lineNumber, int column) {
+        // strings are resolved as keys or values when they end
+    }
+
+    @Override
+    protected void fireStringEndEvent(byte[] data, int offset, int length, int lineNumber, int column) {
+        countEvent(JSONEventType.STRING_END);
+        if (awaitingKey && objectStack[depth]) {
+            currentKey = decodeString(data, offset, length, lineNumber, column, true);
+            awaitingKey = false;
+            handler.newKey(currentKey);
+        } else {
+            handler.valueString(getValueKey(), decodeString(data, offset, length, lineNumber, column, false));
+        }
+    }
+
+    @Override
+    protected void fireNumberStartEvent(int lineNumber, int column) {
+        // numbers are dispatched when they end
+    }
+
+    @Override
+    protected void fireNumberEndEvent(byte[] data, int offset, int length, int lineNumber, int column) {
+        countEvent(JSONEventType.NUMBER_END);
+        try {
+            NumberDecoder.decode(handler, getValueKey(), data, offset, length, getProcessorSettings());
+        } catch (final NumberFormatException e) {
+            throw new JSONEventParserException(lineNumber, column, "Invalid number: " + new String(data, offset, length, charset));
+        }
+    }
+
+    @Override
+    protected void fireBooleanStartEvent(int lineNumber, int column) {
+        // booleans are dispatched when they end
+    }
+
+    @Override
+    protected void fireBooleanEndEvent(byte[] data, int offset, int length, int lineNumber, int column) {
+        countEvent(JSONEventType.BOOLEAN_END);
+        handler.valueBoolean(getValueKey(), data[offset] == 't');
+    }
+
+    @Override
+    protected void fireNullStartEvent(int lineNumber, int column) {
+        // nulls are dispatched when they end
+    }
+
+    @Override
+    protected void fireNullEndEvent(byte[] data, int offset, int length, int lineNumber, int column) {
+        countEvent(JSONEventType.NULL_END);
+        handler.valueNull(getValueKey());
+    }
+
+    private String decodeString(byte[] data, int offset, int length, int lineNumber, int column, boolean key) {
+        try {
+            return key ? keyCache.get(data, offset, length, charset) : StringDecoder.decode(data, offset, length, charset);
+        } catch (final IllegalArgumentException e) {
+            throw new JSONEventParserException(lineNumber, column, e.getMessage());
+        }
+    }
+
+    /**
+     * The key for a value (or a nested object or array) in the current context: the most recent key
+     * inside an object, or the key of the enclosing array
+     */
+    private String getValueKey() {
+        if (depth < 0) {
+            return null;
+        }
+        return objectStack[depth] ? currentKey : keyStack[depth];
+    }
+
+    /**
+     * The key reported when an object or array closes.  The stack has already been popped, so
+     * <code>keyStack[depth + 1]</code> is the key the closed container was assigned to.
+     */
+    private String getClosingKey() {
+        return objectStack[depth] ? keyStack[depth + 1] : keyStack[depth];
+    }
+
+    private void push(boolean isObject, String key) {
+        depth++;
+        if (depth == objectStack.length) {
+            objectStack = Arrays.copyOf(objectStack, depth << 1);
+            keyStack = Arrays.copyOf(keyStack, depth << 1);
+        }
+        objectStack[depth] = isObject;
+        keyStack[depth] = key;
+        awaitingKey = isObject;
+    }
+
+    private void pop(boolean isObject, int lineNumber, int column) {
+        if (depth < 0 || objectStack[depth] != isObject) {
+            final JSONValueType expected = isObject ? JSONValueType.OBJECT : JSONValueType.ARRAY;
+            final JSONValueType found = depth < 0 ? null : objectStack[depth] ? JSONValueType.OBJECT : JSONValueType.ARRAY;
+            throw new JSONEventParserException(lineNumber, column, "JSON Stack Error: Expected value type " + expected + ", but saw " + found);
+        }
+        depth--;
+        awaitingKey = false;
+    }
+}
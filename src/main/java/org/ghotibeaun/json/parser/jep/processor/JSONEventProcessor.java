@@ -19,11 +19,14 @@
 package org.ghotibeaun.json.parser.jep.processor;
 
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
 
 import org.ghotibeaun.json.exception.JSONEventParserException;
 import org.ghotibeaun.json.parser.jep.Configurable;
 import org.ghotibeaun.json.parser.jep.ParserSettings;
 import org.ghotibeaun.json.parser.jep.eventprovider.JSONEventProvider;
+import org.ghotibeaun.json.util.ByteBufferInputStream;
 
 public interface JSONEventProcessor extends Configurable {
 
@@ -33,4 +36,24 @@ public interface JSONEventProcessor extends Configurable {
     ParserSettings getProcessorSettings();
 
     void start(InputStream stream) throws JSONEventParserException;
+
+    /**
+     * Process a document that is held in a sequence of buffers, such as the mapped regions of a large file.  The
+     * buffers are processed in order as one continuous document, so tokens may span buffer boundaries.  Processors
+     * that don't handle buffers directly read them as a stream.
+     * @param buffers the buffers containing the document
+     * @throws JSONEventParserException if an error occurs processing the document
+     */
+    default void start(Iterator<ByteBuffer> buffers) throws JSONEventParserException {
+        start(new ByteBufferInputStream(buffers));
+    }
+
+    /**
+     * Returns whether the processor honors the {@linkplain ParserSettings#getPathFilter() path filter}, skipping the
+     * values it doesn't select
+     * @return <code>true</code> if the processor filters paths
+     */
+    default boolean supportsPathFilter() {
+        return false;
+    }
 }
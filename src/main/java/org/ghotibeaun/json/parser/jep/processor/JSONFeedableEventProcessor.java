@@ -0,0 +1,61 @@
+/*
+ *
+ * # Released under MIT License
+ *
+ * Copyright (c) 2016-2021 Jim Earley.
+ *
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS 
+ * IN THE SOFTWARE.
+ */
+package org.ghotibeaun.json.parser.jep.processor;
+
+import java.nio.ByteBuffer;
+
+import org.ghotibeaun.json.exception.JSONEventParserException;
+
+/**
+ * Processor that accepts a document incrementally rather than reading it from a stream.  Each call to
+ * {@link #feed(ByteBuffer)} processes every byte it is given and fires events for the tokens it completes;
+ * a token that is cut off at the end of a buffer is held until the next feed.  This lets a document be parsed
+ * as it arrives, for example on a NIO selector thread, without blocking a thread on <code>InputStream.read</code>.
+ *
+ * <pre>
+ * JSONFeedableEventProcessor processor = EventParser.newEventParser().newFeedableProcessor(settings);
+ * while (channel.read(buffer) != -1) {
+ *     buffer.flip();
+ *     processor.feed(buffer);
+ *     buffer.clear();
+ * }
+ * processor.endOfInput();
+ * </pre>
+ *
+ * The first feed after {@link #endOfInput()} starts a new document.
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+public interface JSONFeedableEventProcessor extends JSONEventProcessor {
+
+    /**
+     * Process the remaining bytes in the buffer.  The buffer's position is moved to its limit, and the
+     * buffer can be reused once this returns.
+     * @param buffer the next part of the document
+     * @throws JSONEventParserException if the document is malformed
+     */
+    void feed(ByteBuffer buffer) throws JSONEventParserException;
+
+    /**
+     * Signal that the document is complete.  Any pending token is completed and the document end
+     * event is fired.
+     * @throws JSONEventParserException if the document ends inside a string
+     */
+    void endOfInput() throws JSONEventParserException;
+}
@@ -0,0 +1,560 @@
+/*
+ *
+ * # Released under MIT License
+ *
+ * Copyright (c) 2016-2021 Jim Earley.
+ *
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS 
+ * IN THE SOFTWARE.
+ */
+package org.ghotibeaun.json.parser.jep.processor;
+
+import static org.ghotibeaun.json.util.ByteConstants.BACKSLASH;
+import static org.ghotibeaun.json.util.ByteConstants.COLON;
+import static org.ghotibeaun.json.util.ByteConstants.COMMA;
+import static org.ghotibeaun.json.util.ByteConstants.END_ARRAY;
+import static org.ghotibeaun.json.util.ByteConstants.END_MAP;
+import static org.ghotibeaun.json.util.ByteConstants.LF;
+import static org.ghotibeaun.json.util.ByteConstants.QUOTE;
+import static org.ghotibeaun.json.util.ByteConstants.SOLIDUS;
+import static org.ghotibeaun.json.util.ByteConstants.SPACE;
+import static org.ghotibeaun.json.util.ByteConstants.START_ARRAY;
+import static org.ghotibeaun.json.util.ByteConstants.START_MAP;
+import static org.ghotibeaun.json.util.ByteConstants.a;
+import static org.ghotibeaun.json.util.ByteConstants.e;
+import static org.ghotibeaun.json.util.ByteConstants.f;
+import static org.ghotibeaun.json.util.ByteConstants.l;
+import static org.ghotibeaun.json.util.ByteConstants.n;
+import static org.ghotibeaun.json.util.ByteConstants.r;
+import static org.ghotibeaun.json.util.ByteConstants.s;
+import static org.ghotibeaun.json.util.ByteConstants.t;
+import static org.ghotibeaun.json.util.ByteConstants.u;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.ghotibeaun.json.exception.JSONEventParserException;
+import org.ghotibeaun.json.util.ResizableByteBuffer;
+
+/**
+ * Two-stage processor for large documents.  The first stage scans each block in 64-byte chunks, and uses SWAR
+ * (SIMD within a register) operations on <code>long</code> words to build bitmasks of the quotes, backslashes, line feeds
+ * and structural characters in the chunk.  From those masks it builds a structural index: the positions of the
+ * unescaped quotes, the structural characters outside of strings and the line feeds.  The second stage walks the index
+ * and fires events, so string content and whitespace are never examined one byte at a time.  Numbers, booleans and
+ * nulls are the non-whitespace runs between two indexed positions.
+ *
+ * <p>It fires the same events as the {@linkplain JSONTableEventProcessor}, and can be enabled with:</p>
+ *
+ * <pre>
+ * FactorySettings.applySetting(Setting.EVENT_PROCESSOR_CLASS, "org.ghotibeaun.json.parser.jep.processor.JSONIndexedEventProcessor");
+ * </pre>
+ *
+ * or passed to {@linkplain org.ghotibeaun.json.parser.jep.ParserConfiguration#newConfiguration(org.ghotibeaun.json.parser.jep.eventhandler.JSONEventHandler, JSONEventProcessor, org.ghotibeaun.json.parser.jep.eventprovider.JSONEventProvider)}.
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+class JSONIndexedEventProcessor extends BaseEventProcessor {
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final int CHUNK_SIZE = 64;
+
+    private static final long ONES = 0x0101010101010101L;
+    private static final long LOW_BITS = 0x7f7f7f7f7f7f7f7fL;
+
+    /**
+     * Moves the high bit of each byte into the top byte of the product, in byte order
+     */
+    private static final long GATHER = 0x0002040810204081L;
+
+    /**
+     * '[' and ']' differ from '{' and '}' only by this bit, so setting it lets one comparison match both
+     */
+    private static final long BRACKET_BIT = ONES * 0x20;
+
+    private static final long QUOTES = ONES * QUOTE;
+    private static final long BACKSLASHES = ONES * BACKSLASH;
+    private static final long LINE_FEEDS = ONES * LF;
+    private static final long SOLIDI = ONES * SOLIDUS;
+    private static final long COMMAS = ONES * COMMA;
+    private static final long COLONS = ONES * COLON;
+    private static final long OPENING_BRACES = ONES * START_MAP;
+    private static final long CLOSING_BRACES = ONES * END_MAP;
+
+    private static final byte[] NULLVAL = {n, u, l, l};
+    private static final byte[] TRUE = {t, r, u, e};
+    private static final byte[] FALSE = {f, a, l, s, e};
+
+    private final ResizableByteBuffer token = new ResizableByteBuffer();
+    private final byte[] tail = new byte[CHUNK_SIZE];
+    private int[] index = new int[0];
+
+    // stage one masks for the current chunk
+    private long quoteMask;
+    private long backslashMask;
+    private long lineFeedMask;
+    private long structuralMask;
+    private long solidusMask;
+
+    // state carried between chunks
+    private boolean inStringCarry;
+    private boolean escapeCarry;
+
+    // stage two state
+    private boolean strict;
+    private boolean inString;
+    private boolean documentStarted;
+    private int valueStart;
+    private long blockBase;
+    private long positionBase;
+    private long lineStart;
+    private int lineNumber;
+    private int column;
+
+    public JSONIndexedEventProcessor() {
+
+    }
+
+    @Override
+    public void start(InputStream stream) throws JSONEventParserException {
+        reset();
+
+        final byte[] block = new byte[getProcessorSettings().getBlockSizeBytes()];
+
+        try {
+            int length = read(stream, block);
+
+            while (length != -1) {
+                processBlock(block, 0, length);
+                length = read(stream, block);
+            }
+        } catch (final IOException e) {
+            throw new JSONEventParserException(e);
+        }
+
+        finish();
+    }
+
+    @Override
+    public void start(Iterator<ByteBuffer> buffers) throws JSONEventParserException {
+        reset();
+
+        final int blockSize = getProcessorSettings().getBlockSizeBytes();
+        byte[] block = null;
+
+        while (buffers.hasNext()) {
+            final ByteBuffer buffer = buffers.next();
+
+            if (buffer.hasArray()) {
+                final int limit = buffer.arrayOffset() + buffer.limit();
+                for (int from = buffer.arrayOffset() + buffer.position(); from < limit; from += blockSize) {
+                    processBlock(buffer.array(), from, Math.min(limit, from + blockSize));
+                }
+                buffer.position(buffer.limit());
+            } else {
+                if (block == null) {
+                    block = new byte[blockSize];
+                }
+
+                while (buffer.hasRemaining()) {
+                    final int length = Math.min(block.length, buffer.remaining());
+                    buffer.get(block, 0, length);
+                    processBlock(block, 0, length);
+                }
+            }
+        }
+
+        finish();
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    public int getColumn() {
+        return column;
+    }
+
+    private void reset() {
+        startStatistics();
+        strict = getProcessorSettings().getUseStrict();
+        token.clear();
+        inStringCarry = false;
+        escapeCarry = false;
+        inString = false;
+        documentStarted = false;
+        blockBase = 0;
+        lineStart = 0;
+        lineNumber = 1;
+        column = 1;
+    }
+
+    private void finish() {
+        if (inString) {
+            throwError("Unexpected end of input in String value");
+        }
+
+        emitValue(token.getBackingArray(), 0, token.size());
+        token.clear();
+        fireDocumentEndEvent(lineNumber, column);
+    }
+
+    private void processBlock(byte[] data, int offset, int limit) {
+        countBytes(limit - offset);
+        if (index.length < limit - offset) {
+            index = new int[limit - offset];
+        }
+
+        positionBase = blockBase - offset;
+        valueStart = offset;
+
+        final int count = buildIndex(data, offset, limit);
+        walkIndex(data, count);
+
+        // a string or value that continues into the next block
+        if (valueStart < limit) {
+            token.add(data, valueStart, limit - valueStart);
+        }
+
+        blockBase += limit - offset;
+    }
+
+    /**
+     * Stage one: build the structural index for a block
+     * @return the number of indexed positions
+     */
+    private int buildIndex(byte[] data, int offset, int limit) {
+        int count = 0;
+
+        for (int position = offset; position < limit; position += CHUNK_SIZE) {
+            final int length = Math.min(CHUNK_SIZE, limit - position);
+
+            if (length == CHUNK_SIZE) {
+                classifyChunk(data, position);
+            } else {
+                // pad the final partial chunk with whitespace, which matches none of the masks
+                Arrays.fill(tail, SPACE);
+                System.arraycopy(data, position, tail, 0, length);
+                classifyChunk(tail, 0);
+            }
+
+            final long escaped = findEscaped(backslashMask, length);
+            final long quotes = quoteMask & ~escaped;
+            final long inString = prefixXor(quotes) ^ (inStringCarry ? -1L : 0L);
+            inStringCarry = inString < 0;
+
+            long entries = quotes | (structuralMask & ~inString) | lineFeedMask;
+            if (strict) {
+                entries |= solidusMask & inString & ~escaped;
+            }
+
+            while (entries != 0) {
+                index[count++] = position + Long.numberOfTrailingZeros(entries);
+                entries &= entries - 1;
+            }
+        }
+
+        return count;
+    }
+
+    private void classifyChunk(byte[] data, int offset) {
+        long quotes = 0;
+        long backslashes = 0;
+        long lineFeeds = 0;
+        long structurals = 0;
+        long solidi = 0;
+
+        for (int i = 0; i < CHUNK_SIZE / Long.BYTES; i++) {
+            final long word = (long) LONG_VIEW.get(data, offset + i * Long.BYTES);
+            final long bracketWord = word | BRACKET_BIT;
+            final int shift = i * Long.BYTES;
+
+            quotes |= gather(matches(word, QUOTES)) << shift;
+            backslashes |= gather(matches(word, BACKSLASHES)) << shift;
+            lineFeeds |= gather(matches(word, LINE_FEEDS)) << shift;
+            solidi |= gather(matches(word, SOLIDI)) << shift;
+            structurals |= gather(matches(bracketWord, OPENING_BRACES) | matches(bracketWord, CLOSING_BRACES)
+                    | matches(word, COMMAS) | matches(word, COLONS)) << shift;
+        }
+
+        quoteMask = quotes;
+        backslashMask = backslashes;
+        lineFeedMask = lineFeeds;
+        structuralMask = structurals;
+        solidusMask = solidi;
+    }
+
+    /**
+     * Sets the high bit of each byte in the word that equals the corresponding byte of the pattern.  Unlike the
+     * shorter <code>(x - 0x01..) &amp; ~x</code> form, this can't carry into the neighboring byte, so it has no false
+     * positives.
+     */
+    static long matches(long word, long pattern) {
+        final long x = word ^ pattern;
+        return ~((x & LOW_BITS) + LOW_BITS | x | LOW_BITS);
+    }
+
+    /**
+     * Collects the high bit of each byte into an 8-bit mask, with bit <em>i</em> for byte <em>i</em>
+     */
+    static long gather(long highBits) {
+        return highBits * GATHER >>> 56;
+    }
+
+    /**
+     * Each bit of the result is the XOR of all bits at and below it in the quote mask, so the bits from an
+     * opening quote up to (but not including) its closing quote are set
+     */
+    static long prefixXor(long bits) {
+        bits ^= bits << 1;
+        bits ^= bits << 2;
+        bits ^= bits << 4;
+        bits ^= bits << 8;
+        bits ^= bits << 16;
+        bits ^= bits << 32;
+        return bits;
+    }
+
+    /**
+     * Marks the bytes that follow an unescaped backslash.  Backslashes are rare enough that walking them one at a time
+     * is cheaper than a branch-free carry computation.
+     */
+    private long findEscaped(long backslashes, int length) {
+        long escaped = 0;
+
+        if (escapeCarry) {
+            escaped = 1L;
+            backslashes &= ~1L;
+            escapeCarry = false;
+        }
+
+        while (backslashes != 0) {
+            final int bit = Long.numberOfTrailingZeros(backslashes);
+            if (bit + 1 >= length) {
+                escapeCarry = true;
+                break;
+            }
+
+            escaped |= 1L << (bit + 1);
+            backslashes &= ~(3L << bit);
+        }
+
+        return escaped;
+    }
+
+    /**
+     * Stage two: fire events for each indexed position
+     */
+    private void walkIndex(byte[] data, int count) {
+        for (int i = 0; i < count; i++) {
+            final int position = index[i];
+            final byte byt = data[position];
+
+            if (byt == LF) {
+                lineNumber++;
+                lineStart = positionBase + position + 1;
+            } else if (inString) {
+                if (byt == QUOTE) {
+                    endString(data, position);
+                } else {
+                    column = getColumn(position);
+                    throwError("Per ECMA-404 specification, solidus ('/') must be escaped");
+                }
+            } else if (byt == QUOTE) {
+                startString(data, position);
+            } else {
+                endValue(data, position);
+                handleStructuralByte(byt, position);
+                valueStart = position + 1;
+            }
+        }
+    }
+
+    private void startString(byte[] data, int position) {
+        column = getColumn(position);
+        if (!isWhitespace(token.getBackingArray(), 0, token.size()) || !isWhitespace(data, valueStart, position)) {
+            throwError("Unexpected character (\") found outside of String value");
+        }
+
+        token.clear();
+        inString = true;
+        fireStringStartEvent(lineNumber, column);
+        valueStart = position + 1;
+    }
+
+    private void endString(byte[] data, int position) {
+        column = getColumn(position) + 1;
+        inString = false;
+
+        if (token.size() > 0) {
+            token.add(data, valueStart, position - valueStart);
+            fireStringEndEvent(token.getBackingArray(), 0, token.size(), lineNumber, column);
+            token.clear();
+        } else {
+            fireStringEndEvent(data, valueStart, position - valueStart, lineNumber, column);
+        }
+
+        valueStart = position + 1;
+    }
+
+    /**
+     * A number, boolean or null is terminated by the structural character at <code>position</code>
+     */
+    private void endValue(byte[] data, int position) {
+        column = getColumn(position);
+
+        if (token.size() > 0) {
+            token.add(data, valueStart, position - valueStart);
+            emitValue(token.getBackingArray(), 0, token.size());
+            token.clear();
+        } else {
+            emitValue(data, valueStart, position);
+        }
+    }
+
+    private void emitValue(byte[] data, int from, int to) {
+        while (from < to && isWhitespace(data[from])) {
+            from++;
+        }
+
+        while (to > from && isWhitespace(data[to - 1])) {
+            to--;
+        }
+
+        if (from == to) {
+            return;
+        }
+
+        switch (CharacterClass.of(data[from])) {
+            case CharacterClass.DIGIT:
+            case CharacterClass.NEGATIVE:
+                validateNumber(data, from, to);
+                fireNumberStartEvent(lineNumber, column);
+                fireNumberEndEvent(data, from, to - from, lineNumber, column);
+                break;
+            case CharacterClass.LITERAL_START:
+                if (data[from] == n) {
+                    validateLiteral(NULLVAL, "null", data, from, to);
+                    fireNullStartEvent(lineNumber, column);
+                    fireNullEndEvent(data, from, to - from, lineNumber, column);
+                } else {
+                    validateLiteral(data[from] == t ? TRUE : FALSE, "boolean", data, from, to);
+                    fireBooleanStartEvent(lineNumber, column);
+                    fireBooleanEndEvent(data, from, to - from, lineNumber, column);
+                }
+                break;
+            default:
+                throwError("Unexpected character found outside of String value " + (char)data[from]);
+        }
+    }
+
+    private void handleStructuralByte(byte byt, int position) {
+        column = getColumn(position);
+
+        switch (byt) {
+            case START_MAP:
+                if (!documentStarted) {
+                    startDocument(byt);
+                } else {
+                    fireMapStartEvent(lineNumber, column);
+                }
+                break;
+            case END_MAP:
+                fireMapEndEvent(lineNumber, column);
+                break;
+            case START_ARRAY:
+                if (!documentStarted) {
+                    startDocument(byt);
+                } else {
+                    fireArrayStartEvent(lineNumber, column);
+                }
+                break;
+            case END_ARRAY:
+                fireArrayEndEvent(lineNumber, column);
+                break;
+            case COMMA:
+                fireEntityEndEvent(lineNumber, column);
+                break;
+            default:
+                fireKeyEndEvent(lineNumber, column);
+        }
+    }
+
+    private void startDocument(byte byt) {
+        documentStarted = true;
+        fireDocumentStartEvent(ByteBuffer.wrap(new byte[] {byt}), lineNumber, column);
+    }
+
+    private void validateNumber(byte[] data, int from, int to) {
+        boolean hasDecimal = false;
+        boolean hasExponent = false;
+
+        for (int i = from; i < to; i++) {
+            switch (CharacterClass.of(data[i])) {
+                case CharacterClass.DIGIT:
+                case CharacterClass.NEGATIVE:
+                case CharacterClass.POSITIVE:
+                    break;
+                case CharacterClass.DECIMAL_POINT:
+                    if (hasDecimal || hasExponent) {
+                        throwError("Number exception: cannot have two decimal symbols in the same number");
+                    }
+                    hasDecimal = true;
+                    break;
+                case CharacterClass.EXPONENT:
+                    if (hasExponent) {
+                        throwError("Number exception, cannot have two exponent symbols in the same number");
+                    }
+                    hasExponent = true;
+                    break;
+                default:
+                    throwError("Unexpected character (" + (char)data[i] + ") found parsing Number");
+            }
+        }
+    }
+
+    private void validateLiteral(byte[] expected, String typeName, byte[] data, int from, int to) {
+        if (!Arrays.equals(expected, 0, expected.length, data, from, to)) {
+            throwError("Unexpected " + typeName + " value: expected " + new String(expected, StandardCharsets.US_ASCII)
+            + " but found " + new String(data, from, to - from, StandardCharsets.UTF_8));
+        }
+    }
+
+    private int getColumn(int position) {
+        return (int) (positionBase + position - lineStart) + 1;
+    }
+
+    private static boolean isWhitespace(byte byt) {
+        final int cls = CharacterClass.of(byt);
+        return cls == CharacterClass.WHITESPACE || cls == CharacterClass.LINE_FEED;
+    }
+
+    private static boolean isWhitespace(byte[] data, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!isWhitespace(data[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void throwError(String message) {
+        throw new JSONEventParserException(getLineNumber(), getColumn(), message);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ *
+ * # Released under MIT License
+ *
+ * Copyright (c) 2016-2021 Jim Earley.
+ *
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS 
+ * IN THE SOFTWARE.
+ */
+package org.ghotibeaun.json.parser.jep.processor;
+
+import java.io.Closeable;
+import java.io.InputStream;
+import java.math.BigDecimal;
+
+import org.ghotibeaun.json.exception.JSONEventParserException;
+
+/**
+ * Pull parser that reads a JSON document one token at a time.  Unlike the push-based event processors,
+ * the caller decides when to advance, so it can read only the fields it needs and stop, or pass over
+ * whole objects and arrays with {@link #skipChildren()} without building them.  Input is read from the
+ * stream one block at a time as tokens are requested.
+ *
+ * <pre>
+ * try (JSONStreamReader reader = JSONStreamReader.newReader(stream)) {
+ *     while (reader.next() != null) {
+ *         if (reader.currentToken() == JSONToken.KEY &amp;&amp; reader.getText().equals("id")) {
+ *             reader.next();
+ *             return reader.getLong();
+ *         }
+ *     }
+ * }
+ * </pre>
+ *
+ * Escape sequences in keys and strings are resolved by {@link #getText()}.
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+public interface JSONStreamReader extends Closeable {
+
+    /**
+     * Create a reader using the default character set
+     * @param stream the document
+     * @return a new reader
+     */
+    static JSONStreamReader newReader(InputStream stream) {
+        return new JSONStreamReaderImpl(stream);
+    }
+
+    /**
+     * Create a reader
+     * @param stream the document
+     * @param charSet the character set used to decode keys and values
+     * @return a new reader
+     */
+    static JSONStreamReader newReader(InputStream stream, String charSet) {
+        final JSONStreamReaderImpl reader = new JSONStreamReaderImpl(stream);
+        reader.getProcessorSettings().setCharSet(charSet);
+        return reader;
+    }
+
+    /**
+     * Returns whether there is another token, reading ahead if necessary
+     * @return <code>true</code> if {@link #next()} will return a token
+     * @throws JSONEventParserException if the document is malformed
+     */
+    boolean hasNext() throws JSONEventParserException;
+
+    /**
+     * Advance to the next token
+     * @return the next token, or <code>null</code> at the end of the document
+     * @throws JSONEventParserException if the document is malformed
+     */
+    JSONToken next() throws JSONEventParserException;
+
+    /**
+     * Returns the current token
+     * @return the current token, or <code>null</code> before the first call to {@link #next()} or at the end of the document
+     */
+    JSONToken currentToken();
+
+    /**
+     * If the current token is START_OBJECT or START_ARRAY, advance to the matching END_OBJECT or END_ARRAY.  Otherwise
+     * the reader is left where it is.
+     * @throws JSONEventParserException if the document is malformed
+     */
+    void skipChildren() throws JSONEventParserException;
+
+    /**
+     * Returns the text of the current token: the key or string value, the number as written, or the literal
+     * for booleans, nulls and structural tokens
+     * @return the text
+     */
+    String getText();
+
+    /**
+     * Returns the current NUMBER token as a long
+     * @return the value
+     * @throws JSONEventParserException if the current token isn't a NUMBER or doesn't fit in a long
+     */
+    long getLong() throws JSONEventParserException;
+
+    /**
+     * Returns the current NUMBER token as an int
+     * @return the value
+     * @throws JSONEventParserException if the current token isn't a NUMBER or doesn't fit in an int
+     */
+    int getInt() throws JSONEventParserException;
+
+    /**
+     * Returns the current NUMBER token as a double
+     * @return the value
+     * @throws JSONEventParserException if the current token isn't a NUMBER
+     */
+    double getDouble() throws JSONEventParserException;
+
+    /**
+     * Returns the current NUMBER token as a BigDecimal
+     * @return the value
+     * @throws JSONEventParserException if the current token isn't a NUMBER
+     */
+    BigDecimal getBigDecimal() throws JSONEventParserException;
+
+    /**
+     * Returns the current BOOLEAN token
+     * @return the value
+     * @throws JSONEventParserException if the current token isn't a BOOLEAN
+     */
+    boolean getBoolean() throws JSONEventParserException;
+
+    /**
+     * Returns the line number of the current token
+     * @return the line number
+     */
+    int getTokenLineNumber();
+
+    /**
+     * Returns the column of the current token
+     * @return the column
+     */
+    int getTokenColumn();
+}
@@ -0,0 +1,425 @@
+/*
+ *
+ * # Released under MIT License
+ *
+ * Copyright (c) 2016-2021 Jim Earley.
+ *
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS 
+ * IN THE SOFTWARE.
+ */
+package org.ghotibeaun.json.parser.jep.processor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import org.ghotibeaun.json.exception.JSONEventParserException;
+import org.ghotibeaun.json.parser.jep.KeyCache;
+import org.ghotibeaun.json.parser.jep.NumberDecoder;
+import org.ghotibeaun.json.parser.jep.ParserConfiguration;
+import org.ghotibeaun.json.parser.jep.ParserSettings;
+import org.ghotibeaun.json.parser.jep.StringDecoder;
+
+/**
+ * {@linkplain JSONStreamReader} built on the {@linkplain JSONTableEventProcessor}.  Each block read from the stream
+ * is scanned by a private table processor, and the tokens it fires are queued here (type, position and a copy of the
+ * data) until the caller pulls them.  The queue is only refilled once it has been drained, so at most one block's
+ * tokens are held at a time, plus the current token, which is kept so its value can still be read after
+ * {@link #hasNext()} reads ahead.
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+class JSONStreamReaderImpl implements JSONStreamReader {
+    private static final int INITIAL_QUEUE_SIZE = 256;
+    private static final int INITIAL_DEPTH = 32;
+
+    private final InputStream stream;
+    private final Tokenizer tokenizer = new Tokenizer();
+    private byte[] block;
+    private boolean endOfInput = false;
+
+    // queued tokens
+    private JSONToken[] types = new JSONToken[INITIAL_QUEUE_SIZE];
+    private int[] offsets = new int[INITIAL_QUEUE_SIZE];
+    private int[] lengths = new int[INITIAL_QUEUE_SIZE];
+    private int[] lines = new int[INITIAL_QUEUE_SIZE];
+    private int[] columns = new int[INITIAL_QUEUE_SIZE];
+    private byte[] data = new byte[INITIAL_QUEUE_SIZE * 8];
+    private int queued = 0;
+    private int dataLength = 0;
+    private int current = -1;
+
+    // key tracking
+    private boolean[] objectStack = new boolean[INITIAL_DEPTH];
+    private int depth = -1;
+    private boolean awaitingKey = false;
+    private final KeyCache keyCache = new KeyCache();
+
+    JSONStreamReaderImpl(InputStream stream) {
+        this.stream = stream;
+        new ParserSettings(ParserConfiguration.newConfiguration(tokenizer));
+        tokenizer.reset();
+    }
+
+    /**
+     * Returns the settings of the underlying processor, e.g., to set the character set or block size before
+     * the first token is read
+     * @return the settings
+     */
+    ParserSettings getProcessorSettings() {
+        return tokenizer.getProcessorSettings();
+    }
+
+    @Override
+    public boolean hasNext() throws JSONEventParserException {
+        if (current + 1 < queued) {
+            return true;
+        }
+        return fill();
+    }
+
+    @Override
+    public JSONToken next() throws JSONEventParserException {
+        if (!hasNext()) {
+            current = queued;
+            return null;
+        }
+        current++;
+        return types[current];
+    }
+
+    @Override
+    public JSONToken currentToken() {
+        return current >= 0 && current < queued ? types[current] : null;
+    }
+
+    @Override
+    public void skipChildren() throws JSONEventParserException {
+        final JSONToken token = currentToken();
+        if (token == null || !token.isStructStart()) {
+            return;
+        }
+
+        int open = 1;
+        while (open > 0) {
+            final JSONToken next = next();
+            if (next == null) {
+                throw new JSONEventParserException(tokenizer.getLineNumber(), tokenizer.getColumn(), "Unexpected end of input while skipping " + token);
+            }
+            if (next.isStructStart()) {
+                open++;
+            } else if (next.isStructEnd()) {
+                open--;
+            }
+        }
+    }
+
+    @Override
+    public String getText() {
+        final JSONToken token = currentToken();
+        if (token == null) {
+            return null;
+        }
+
+        switch (token) {
+            case START_OBJECT:
+                return "{";
+            case END_OBJECT:
+                return "}";
+            case START_ARRAY:
+                return "[";
+            case END_ARRAY:
+                return "]";
+            case KEY:
+            case STRING:
+                try {
+                    final Charset charset = getProcessorSettings().getCharset();
+                    return token == JSONToken.KEY ? keyCache.get(data, offsets[current], lengths[current], charset)
+                            : StringDecoder.decode(data, offsets[current], lengths[current], charset);
+                } catch (final IllegalArgumentException e) {
+                    throw tokenError(e.getMessage());
+                }
+            default:
+                return new String(data, offsets[current], lengths[current], getProcessorSettings().getCharset());
+        }
+    }
+
+    @Override
+    public long getLong() throws JSONEventParserException {
+        expect(JSONToken.NUMBER);
+        try {
+            return NumberDecoder.parseLong(data, offsets[current], lengths[current]);
+        } catch (final NumberFormatException e) {
+            throw tokenError("Number " + getText() + " cannot be read as a long");
+        }
+    }
+
+    @Override
+    public int getInt() throws JSONEventParserException {
+        final long value = getLong();
+        if (value != (int)value) {
+            throw tokenError("Number " + getText() + " cannot be read as an int");
+        }
+        return (int)value;
+    }
+
+    @Override
+    public double getDouble() throws JSONEventParserException {
+        expect(JSONToken.NUMBER);
+        try {
+            return NumberDecoder.parseDouble(data, offsets[current], lengths[current]);
+        } catch (final NumberFormatException e) {
+            throw tokenError("Invalid number: " + getText());
+        }
+    }
+
+    @Override
+    public BigDecimal getBigDecimal() throws JSONEventParserException {
+        expect(JSONToken.NUMBER);
+        try {
+            return NumberDecoder.parseBigDecimal(data, offsets[current], lengths[current]);
+        } catch (final NumberFormatException e) {
+            throw tokenError("Invalid number: " + getText());
+        }
+    }
+
+    @Override
+    public boolean getBoolean() throws JSONEventParserException {
+        expect(JSONToken.BOOLEAN);
+        return data[offsets[current]] == 't';
+    }
+
+    @Override
+    public int getTokenLineNumber() {
+        return current >= 0 && current < queued ? lines[current] : tokenizer.getLineNumber();
+    }
+
+    @Override
+    public int getTokenColumn() {
+        return current >= 0 && current < queued ? columns[current] : tokenizer.getColumn();
+    }
+
+    @Override
+    public void close() throws IOException {
+        stream.close();
+    }
+
+    /**
+     * Discard the drained queue, keeping the current token, and scan blocks until at least one more token is
+     * queued or the input ends
+     * @return <code>true</code> if tokens were queued
+     */
+    private boolean fill() {
+        final int kept = compact();
+
+        if (block == null) {
+            block = new byte[getProcessorSettings().getBlockSizeBytes()];
+        }
+
+        try {
+            while (queued == kept && !endOfInput) {
+                final int length = stream.read(block);
+                if (length == -1) {
+                    endOfInput = true;
+                    tokenizer.finish();
+                } else {
+                    tokenizer.processBlock(block, 0, length);
+                }
+            }
+        } catch (final IOException e) {
+            throw new JSONEventParserException(e);
+        }
+
+        return queued > kept;
+    }
+
+    /**
+     * Move the current token, if any, to the front of the queue and drop the rest
+     * @return the number of tokens kept
+     */
+    private int compact() {
+        if (current < 0 || current >= queued) {
+            queued = 0;
+            dataLength = 0;
+            current = -1;
+            return 0;
+        }
+
+        System.arraycopy(data, offsets[current], data, 0, lengths[current]);
+        types[0] = types[current];
+        offsets[0] = 0;
+        lengths[0] = lengths[current];
+        lines[0] = lines[current];
+        columns[0] = columns[current];
+        dataLength = lengths[0];
+        queued = 1;
+        current = 0;
+        return 1;
+    }
+
+    private void expect(JSONToken expected) {
+        final JSONToken token = currentToken();
+        if (token != expected) {
+            throw tokenError("Current token is " + token + ", not " + expected);
+        }
+    }
+
+    private JSONEventParserException tokenError(String message) {
+        return new JSONEventParserException(getTokenLineNumber(), getTokenColumn(), message);
+    }
+
+    private void enqueue(JSONToken type, byte[] bytes, int offset, int length, int lineNumber, int column) {
+        if (queued == types.length) {
+            final int size = queued << 1;
+            types = Arrays.copyOf(types, size);
+            offsets = Arrays.copyOf(offsets, size);
+            lengths = Arrays.copyOf(lengths, size);
+            lines = Arrays.copyOf(lines, size);
+            columns = Arrays.copyOf(columns, size);
+        }
+        if (dataLength + length > data.length) {
+            data = Arrays.copyOf(data, Math.max(dataLength + length, data.length << 1));
+        }
+
+        System.arraycopy(bytes, offset, data, dataLength, length);
+        types[queued] = type;
+        offsets[queued] = dataLength;
+        lengths[queued] = length;
+        lines[queued] = lineNumber;
+        columns[queued] = column;
+        dataLength += length;
+        queued++;
+    }
+
+    private void enqueue(JSONToken type, int lineNumber, int column) {
+        enqueue(type, data, 0, 0, lineNumber, column);
+    }
+
+    private void push(boolean isObject) {
+        depth++;
+        if (depth == objectStack.length) {
+            objectStack = Arrays.copyOf(objectStack, depth << 1);
+        }
+        objectStack[depth] = isObject;
+        awaitingKey = isObject;
+    }
+
+    private void pop(boolean isObject, int lineNumber, int column) {
+        if (depth < 0 || objectStack[depth] != isObject) {
+            throw new JSONEventParserException(lineNumber, column, "Unexpected " + (isObject ? "'}'" : "']'"));
+        }
+        depth--;
+        awaitingKey = false;
+    }
+
+    /**
+     * Scans blocks for the reader and queues the tokens it fires
+     */
+    private final class Tokenizer extends JSONTableEventProcessor {
+
+        @Override
+        protected void fireDocumentStartEvent(ByteBuffer data, int lineNumber, int column) {
+            final boolean isObject = data.get(0) == '{';
+            push(isObject);
+            enqueue(isObject ? JSONToken.START_OBJECT : JSONToken.START_ARRAY, lineNumber, column);
+        }
+    
+        @Override
+        protected void fireDocumentEndEvent(int lineNumber, int column) {
+            if (depth >= 0) {
+                throw new JSONEventParserException(lineNumber, column, "Unexpected end of input: document is not closed");
+            }
+        }
+    
+        @Override
+        protected void fireMapStartEvent(int lineNumber, int column) {
+            push(true);
+            enqueue(JSONToken.START_OBJECT, lineNumber, column);
+        }
+    
+        @Override
+        protected void fireMapEndEvent(int lineNumber, int column) {
+            pop(true, lineNumber, column);
+            enqueue(JSONToken.END_OBJECT, lineNumber, column);
+        }
+    
+        @Override
+        protected void fireArrayStartEvent(int lineNumber, int column) {
+            push(false);
+            enqueue(JSONToken.START_ARRAY, lineNumber, column);
+        }
+    
+        @Override
+        protected void fireArrayEndEvent(int lineNumber, int column) {
+            pop(false, lineNumber, column);
+            enqueue(JSONToken.END_ARRAY, lineNumber, column);
+        }
+    
+        @Override
+        protected void fireEntityEndEvent(int lineNumber, int column) {
+            awaitingKey = depth >= 0 && objectStack[depth];
+        }
+    
+        @Override
+        protected void fireKeyEndEvent(int lineNumber, int column) {
+            awaitingKey = false;
+        }
+    
+        @Override
+        protected void fireStringStartEvent(int lineNumber, int column) {
+            // strings are queued when they end
+        }
+    
+        @Override
+        protected void fireStringEndEvent(byte[] data, int offset, int length, int lineNumber, int column) {
+            if (awaitingKey && objectStack[depth]) {
+                awaitingKey = false;
+                enqueue(JSONToken.KEY, data, offset, length, lineNumber, column);
+            } else {
+                enqueue(JSONToken.STRING, data, offset, length, lineNumber, column);
+            }
+        }
+    
+        @Override
+        protected void fireNumberStartEvent(int lineNumber, int column) {
+            // numbers are queued when they end
+        }
+    
+        @Override
+        protected void fireNumberEndEvent(byte[] data, int offset, int length, int lineNumber, int column) {
+            enqueue(JSONToken.NUMBER, data, offset, length, lineNumber, column);
+        }
+    
+        @Override
+        protected void fireBooleanStartEvent(int lineNumber, int column) {
+            // booleans are queued when they end
+        }
+    
+        @Override
+        protected void fireBooleanEndEvent(byte[] data, int offset, int length, int lineNumber, int column) {
+            enqueue(JSONToken.BOOLEAN, data, offset, length, lineNumber, column);
+        }
+    
+        @Override
+        protected void fireNullStartEvent(int lineNumber, int column) {
+            // nulls are queued when they end
+        }
+    
+        @Override
+        protected void fireNullEndEvent(byte[] data, int offset, int length, int lineNumber, int column) {
+            enqueue(JSONToken.NULL, data, offset, length, lineNumber, column);
+        }
+    }
+}
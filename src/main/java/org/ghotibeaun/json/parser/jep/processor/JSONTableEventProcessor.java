@@ -0,0 +1,746 @@
+/*
+ *
+ * # Released under MIT License
+ *
+ * Copyright (c) 2016-2021 Jim Earley.
+ *
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS 
+ * IN THE SOFTWARE.
+ */
+package org.ghotibeaun.json.parser.jep.processor;
+
+import static org.ghotibeaun.json.parser.jep.processor.ActionConstants.TOKEN_STATE_BOOLEAN;
+import static org.ghotibeaun.json.parser.jep.processor.ActionConstants.TOKEN_STATE_EMPTY;
+import static org.ghotibeaun.json.parser.jep.processor.ActionConstants.TOKEN_STATE_NULL;
+import static org.ghotibeaun.json.parser.jep.processor.ActionConstants.TOKEN_STATE_NUMBER;
+import static org.ghotibeaun.json.parser.jep.processor.ActionConstants.TOKEN_STATE_STRING;
+import static org.ghotibeaun.json.util.ByteConstants.BACKSLASH;
+import static org.ghotibeaun.json.util.ByteConstants.LF;
+import static org.ghotibeaun.json.util.ByteConstants.QUOTE;
+import static org.ghotibeaun.json.util.ByteConstants.a;
+import static org.ghotibeaun.json.util.ByteConstants.e;
+import static org.ghotibeaun.json.util.ByteConstants.f;
+import static org.ghotibeaun.json.util.ByteConstants.l;
+import static org.ghotibeaun.json.util.ByteConstants.n;
+import static org.ghotibeaun.json.util.ByteConstants.r;
+import static org.ghotibeaun.json.util.ByteConstants.s;
+import static org.ghotibeaun.json.util.ByteConstants.t;
+import static org.ghotibeaun.json.util.ByteConstants.u;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.ghotibeaun.json.exception.JSONEventParserException;
+import org.ghotibeaun.json.parser.jep.KeyCache;
+import org.ghotibeaun.json.parser.jep.ParserSettings;
+import org.ghotibeaun.json.parser.jep.PathFilter;
+import org.ghotibeaun.json.util.ResizableByteBuffer;
+
+/**
+ * Table-driven variant of the {@linkplain JSONBufferedEventProcessor}.  Each byte is classified with a single
+ * lookup into the {@linkplain CharacterClass} table and dispatched through one switch on the current token state,
+ * and plain string content is copied into the token buffer in runs rather than one byte at a time.  It fires the
+ * same events as the buffered processor, and can be enabled with:
+ *
+ * <pre>
+ * FactorySettings.applySetting(Setting.EVENT_PROCESSOR_CLASS, "org.ghotibeaun.json.parser.jep.processor.JSONTableEventProcessor");
+ * </pre>
+ *
+ * As with the buffered processor, {@linkplain ParserSettings#setUseStrict(boolean)} controls whether an unescaped
+ * solidus is allowed in string values, and input can also be fed incrementally through {@linkplain JSONFeedableEventProcessor}.
+ *
+ * <p>When the settings have a {@linkplain PathFilter}, the processor tracks the path to each value.  Values the filter
+ * doesn't select are consumed by a scan that only counts brackets and watches for quotes and escapes, and no events
+ * are fired for them.  Object keys are held back until the filter has selected their value.</p>
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+class JSONTableEventProcessor extends BaseEventProcessor implements JSONFeedableEventProcessor {
+    private static final byte[] NULLVAL = {n, u, l, l};
+    private static final byte[] TRUE = {t, r, u, e};
+    private static final byte[] FALSE = {f, a, l, s, e};
+    private static final int INITIAL_PATH_DEPTH = 32;
+
+    private final ResizableByteBuffer token = new ResizableByteBuffer();
+
+    private int tokenState = TOKEN_STATE_EMPTY;
+    private int lineNumber;
+    private int column;
+    private boolean documentStarted = false;
+    private boolean escapeFlag = false;
+    private boolean numberHasDecimal = false;
+    private boolean numberHasExponent = false;
+    private boolean feeding = false;
+    private byte[] directBlock;
+
+    // path filtering: the state of each open container, and the key held back until its value is selected
+    private PathFilter pathFilter;
+    private int pathDepth;
+    private boolean[] pathIsObject = new boolean[INITIAL_PATH_DEPTH];
+    private int[] pathSelection = new int[INITIAL_PATH_DEPTH];
+    private boolean[] pathHasMembers = new boolean[INITIAL_PATH_DEPTH];
+    private int[] pathCounts = new int[INITIAL_PATH_DEPTH];
+    private String[] pathKeys = new String[INITIAL_PATH_DEPTH];
+    private int[] pathIndices = new int[INITIAL_PATH_DEPTH];
+    private int valueSelection;
+    private boolean awaitingKey;
+    private boolean readingKey;
+    private boolean keyPending;
+    private final ResizableByteBuffer keyToken = new ResizableByteBuffer();
+    private int keyLineNumber;
+    private int keyColumn;
+    private int keyEndColumn;
+    private KeyCache keyCache;
+
+    // skipping a value the filter didn't select
+    private boolean skipping;
+    private boolean skipScalar;
+    private boolean skipInString;
+    private boolean skipEscape;
+    private int skipDepth;
+
+    public JSONTableEventProcessor() {
+
+    }
+
+    @Override
+    public void start(InputStream stream) throws JSONEventParserException {
+        begin();
+
+        final byte[] block = new byte[getProcessorSettings().getBlockSizeBytes()];
+
+        try {
+            int length = read(stream, block);
+
+            while (length != -1) {
+                feed(ByteBuffer.wrap(block, 0, length));
+                length = read(stream, block);
+            }
+        } catch (final IOException e) {
+            throw new JSONEventParserException(e);
+        }
+
+        endOfInput();
+    }
+
+    @Override
+    public void start(Iterator<ByteBuffer> buffers) throws JSONEventParserException {
+        begin();
+
+        while (buffers.hasNext()) {
+            feed(buffers.next());
+        }
+
+        endOfInput();
+    }
+
+    /**
+     * Buffers backed by an array are scanned in place.  Direct buffers (e.g., memory-mapped file regions) are
+     * bulk-copied into a single reused block, which avoids the per-byte cost of <code>ByteBuffer.get()</code>.
+     */
+    @Override
+    public void feed(ByteBuffer buffer) throws JSONEventParserException {
+        if (!feeding) {
+            begin();
+        }
+
+        countBytes(buffer.remaining());
+        if (buffer.hasArray()) {
+            final int offset = buffer.arrayOffset();
+            processBlock(buffer.array(), offset + buffer.position(), offset + buffer.limit());
+            buffer.position(buffer.limit());
+        } else {
+            if (directBlock == null) {
+                directBlock = new byte[getProcessorSettings().getBlockSizeBytes()];
+            }
+
+            while (buffer.hasRemaining()) {
+                final int length = Math.min(directBlock.length, buffer.remaining());
+                buffer.get(directBlock, 0, length);
+                processBlock(directBlock, 0, length);
+            }
+        }
+    }
+
+    @Override
+    public void endOfInput() throws JSONEventParserException {
+        if (!feeding) {
+            begin();
+        }
+
+        feeding = false;
+        finish();
+    }
+
+    private void begin() {
+        reset();
+        feeding = true;
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    public int getColumn() {
+        return column;
+    }
+
+    /**
+     * Reset the processor state before a new document
+     */
+    protected void reset() {
+        startStatistics();
+        lineNumber = 1;
+        column = 1;
+        token.clear();
+        tokenState = TOKEN_STATE_EMPTY;
+        documentStarted = false;
+        escapeFlag = false;
+
+        pathFilter = getProcessorSettings().getPathFilter();
+        pathDepth = -1;
+        awaitingKey = false;
+        readingKey = false;
+        keyPending = false;
+        skipping = false;
+        skipScalar = false;
+        skipInString = false;
+        skipEscape = false;
+        if (pathFilter != null && keyCache == null) {
+            keyCache = new KeyCache();
+        }
+    }
+
+    @Override
+    public boolean supportsPathFilter() {
+        return true;
+    }
+
+    void finish() {
+        if (tokenState == TOKEN_STATE_STRING || skipping && !skipScalar) {
+            throwError("Unexpected end of input in " + (skipping ? "skipped value" : "String value"));
+        }
+
+        notifyEndToken();
+        fireDocumentEndEvent(lineNumber, column);
+    }
+
+    void processBlock(byte[] block, int offset, int limit) {
+        int i = offset;
+        while (i < limit) {
+            if (skipping) {
+                i = skip(block, i, limit);
+            } else if (tokenState == TOKEN_STATE_STRING) {
+                i = scanString(block, i, limit);
+            } else {
+                handleByte(block[i], CharacterClass.of(block[i]));
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Consume string content starting at <code>from</code>.  Runs of bytes that need no special handling are
+     * appended to the token in bulk.
+     * @return the index of the next unprocessed byte
+     */
+    private int scanString(byte[] block, int from, int limit) {
+        int i = from;
+
+        if (escapeFlag) {
+            appendToken(block[i]);
+            escapeFlag = false;
+            return i + 1;
+        }
+
+        while (i < limit && !CharacterClass.isStringBoundary(block[i])) {
+            i++;
+        }
+
+        if (i > from) {
+            token.add(block, from, i - from);
+            column += i - from;
+        }
+
+        if (i < limit) {
+            final byte byt = block[i];
+            switch (byt) {
+                case QUOTE:
+                    column++;
+                    notifyStringTokenEnd();
+                    break;
+                case BACKSLASH:
+                    appendToken(byt);
+                    escapeFlag = true;
+                    break;
+                case LF:
+                    token.add(byt);
+                    incrementLine();
+                    break;
+                default:
+                    //solidus
+                    if (getProcessorSettings().getUseStrict()) {
+                        throwError("Per ECMA-404 specification, solidus ('/') must be escaped");
+                    }
+                    appendToken(byt);
+            }
+            i++;
+        }
+
+        return i;
+    }
+
+    private void handleByte(byte byt, int cls) {
+        switch (tokenState) {
+            case TOKEN_STATE_NUMBER:
+                handleNumberByte(byt, cls);
+                break;
+            case TOKEN_STATE_BOOLEAN:
+            case TOKEN_STATE_NULL:
+                handleLiteralByte(byt, cls);
+                break;
+            default:
+                handleStructuralByte(byt, cls);
+        }
+    }
+
+    private void handleStructuralByte(byte byt, int cls) {
+        switch (cls) {
+            case CharacterClass.WHITESPACE:
+                column++;
+                break;
+            case CharacterClass.LINE_FEED:
+                incrementLine();
+                break;
+            case CharacterClass.QUOTE_MARK:
+                if (pathFilter != null) {
+                    if (awaitingKey) {
+                        startKey();
+                        break;
+                    }
+                    if (!selectValue(byt)) {
+                        break;
+                    }
+                }
+                tokenState = TOKEN_STATE_STRING;
+                fireStringStartEvent(lineNumber, column);
+                column++;
+                break;
+            case CharacterClass.DIGIT:
+            case CharacterClass.NEGATIVE:
+                if (pathFilter != null && !selectValue(byt)) {
+                    break;
+                }
+                tokenState = TOKEN_STATE_NUMBER;
+                numberHasDecimal = false;
+                numberHasExponent = false;
+                fireNumberStartEvent(lineNumber, column);
+                appendToken(byt);
+                break;
+            case CharacterClass.LITERAL_START:
+                if (pathFilter != null && !selectValue(byt)) {
+                    break;
+                }
+                if (byt == n) {
+                    tokenState = TOKEN_STATE_NULL;
+                    fireNullStartEvent(lineNumber, column);
+                } else {
+                    tokenState = TOKEN_STATE_BOOLEAN;
+                    fireBooleanStartEvent(lineNumber, column);
+                }
+                appendToken(byt);
+                break;
+            case CharacterClass.OBJECT_START:
+                if (!documentStarted) {
+                    startDocument(byt);
+                } else if (pathFilter == null) {
+                    fireMapStartEvent(lineNumber, column);
+                } else if (selectValue(byt)) {
+                    fireMapStartEvent(lineNumber, column);
+                    pushPath(true);
+                } else {
+                    break;
+                }
+                column++;
+                break;
+            case CharacterClass.OBJECT_END:
+                if (pathFilter != null) {
+                    popPath();
+                }
+                fireMapEndEvent(lineNumber, column);
+                column++;
+                break;
+            case CharacterClass.ARRAY_START:
+                if (!documentStarted) {
+                    startDocument(byt);
+                } else if (pathFilter == null) {
+                    fireArrayStartEvent(lineNumber, column);
+                } else if (selectValue(byt)) {
+                    fireArrayStartEvent(lineNumber, column);
+                    pushPath(false);
+                } else {
+                    break;
+                }
+                column++;
+                break;
+            case CharacterClass.ARRAY_END:
+                if (pathFilter != null) {
+                    popPath();
+                }
+                fireArrayEndEvent(lineNumber, column);
+                column++;
+                break;
+            case CharacterClass.ENTITY_DELIMITER:
+                // with a filter, the delimiter is fired before the next selected member
+                if (pathFilter == null) {
+                    fireEntityEndEvent(lineNumber, column);
+                } else {
+                    awaitingKey = pathDepth >= 0 && pathIsObject[pathDepth];
+                }
+                column++;
+                break;
+            case CharacterClass.KEY_DELIMITER:
+                // with a filter, the key delimiter is fired with its key
+                if (pathFilter == null) {
+                    fireKeyEndEvent(lineNumber, column);
+                }
+                column++;
+                break;
+            default:
+                throwError("Unexpected character found outside of String value " + (char)byt);
+        }
+    }
+
+    private void handleNumberByte(byte byt, int cls) {
+        switch (cls) {
+            case CharacterClass.DIGIT:
+            case CharacterClass.NEGATIVE:
+            case CharacterClass.POSITIVE:
+                appendToken(byt);
+                break;
+            case CharacterClass.DECIMAL_POINT:
+                if (numberHasDecimal || numberHasExponent) {
+                    throwError("Number exception: cannot have two decimal symbols in the same number");
+                }
+                numberHasDecimal = true;
+                appendToken(byt);
+                break;
+            case CharacterClass.EXPONENT:
+                if (numberHasExponent) {
+                    throwError("Number exception, cannot have two exponent symbols in the same number");
+                }
+                numberHasExponent = true;
+                appendToken(byt);
+                break;
+            default:
+                endValueToken(byt, cls);
+        }
+    }
+
+    private void handleLiteralByte(byte byt, int cls) {
+        switch (cls) {
+            case CharacterClass.LITERAL_START:
+            case CharacterClass.EXPONENT:
+            case CharacterClass.LETTER:
+                appendToken(byt);
+                break;
+            default:
+                endValueToken(byt, cls);
+        }
+    }
+
+    /**
+     * A number, boolean or null token can only be terminated by whitespace, a delimiter or the end of
+     * its container.  The terminating byte is then handled as a structural byte.
+     */
+    private void endValueToken(byte byt, int cls) {
+        switch (cls) {
+            case CharacterClass.WHITESPACE:
+            case CharacterClass.LINE_FEED:
+            case CharacterClass.ENTITY_DELIMITER:
+            case CharacterClass.KEY_DELIMITER:
+            case CharacterClass.OBJECT_END:
+            case CharacterClass.ARRAY_END:
+                notifyEndToken();
+                handleStructuralByte(byt, cls);
+                break;
+            default:
+                throwError("Unexpected character (" + (char)byt + ") found parsing " + getTokenStateName());
+        }
+    }
+
+    private void startDocument(byte byt) {
+        documentStarted = true;
+        fireDocumentStartEvent(ByteBuffer.wrap(new byte[] {byt}), lineNumber, column);
+
+        if (pathFilter != null) {
+            valueSelection = pathFilter.getRootSelection();
+            pushPath(byt == '{');
+        }
+    }
+
+    private void startKey() {
+        readingKey = true;
+        awaitingKey = false;
+        keyLineNumber = lineNumber;
+        keyColumn = column;
+        tokenState = TOKEN_STATE_STRING;
+        column++;
+    }
+
+    /**
+     * Select the value that starts with <code>byt</code>.  A selected value is preceded by the delimiter and key
+     * events that were held back for it.  Otherwise the first byte is consumed and the rest of the value is skipped.
+     * @return <code>true</code> if the value is selected
+     */
+    private boolean selectValue(byte byt) {
+        final int depth = pathDepth;
+        if (depth < 0) {
+            throwError("Unexpected value after the end of the document");
+        }
+
+        final int parent = pathSelection[depth];
+        final boolean needsPath = pathFilter.needsPath(parent, depth + 1);
+
+        if (pathIsObject[depth]) {
+            if (!keyPending) {
+                throwError("Expected a key, but found " + (char)byt);
+            }
+            if (needsPath) {
+                try {
+                    pathKeys[depth] = keyCache.get(keyToken.getBackingArray(), 0, keyToken.size(), getProcessorSettings().getCharset());
+                } catch (final IllegalArgumentException e) {
+                    throwError(e.getMessage());
+                }
+            }
+        } else {
+            pathKeys[depth] = null;
+            pathIndices[depth] = pathCounts[depth]++;
+        }
+
+        int selection = needsPath ? pathFilter.select(parent, pathKeys, pathIndices, depth + 1) : PathFilter.INCLUDE;
+        if (selection == PathFilter.PARTIAL && byt != '{' && byt != '[') {
+            selection = PathFilter.SKIP;
+        }
+
+        if (selection == PathFilter.SKIP) {
+            keyPending = false;
+            startSkip(byt);
+            return false;
+        }
+
+        valueSelection = selection;
+        if (pathHasMembers[depth]) {
+            fireEntityEndEvent(lineNumber, column);
+        }
+        pathHasMembers[depth] = true;
+
+        if (keyPending) {
+            keyPending = false;
+            fireStringStartEvent(keyLineNumber, keyColumn);
+            fireStringEndEvent(keyToken.getBackingArray(), 0, keyToken.size(), keyLineNumber, keyEndColumn);
+            fireKeyEndEvent(lineNumber, column);
+        }
+        return true;
+    }
+
+    private void pushPath(boolean isObject) {
+        final int depth = ++pathDepth;
+        if (depth == pathIsObject.length) {
+            final int length = depth << 1;
+            pathIsObject = Arrays.copyOf(pathIsObject, length);
+            pathSelection = Arrays.copyOf(pathSelection, length);
+            pathHasMembers = Arrays.copyOf(pathHasMembers, length);
+            pathCounts = Arrays.copyOf(pathCounts, length);
+            pathKeys = Arrays.copyOf(pathKeys, length);
+            pathIndices = Arrays.copyOf(pathIndices, length);
+        }
+
+        pathIsObject[depth] = isObject;
+        pathSelection[depth] = valueSelection;
+        pathHasMembers[depth] = false;
+        pathCounts[depth] = 0;
+        awaitingKey = isObject;
+    }
+
+    private void popPath() {
+        if (keyPending) {
+            throwError("Expected a value for the key " + keyToken.toString());
+        }
+        pathDepth--;
+        awaitingKey = false;
+    }
+
+    /**
+     * Begin skipping a value.  The first byte has been read: a string or container is skipped through its closing
+     * quote or bracket, and a number or literal up to (not including) the byte that ends it.
+     */
+    private void startSkip(byte byt) {
+        skipping = true;
+        skipScalar = byt != '{' && byt != '[' && byt != QUOTE;
+        skipInString = byt == QUOTE;
+        skipEscape = false;
+        skipDepth = skipInString || skipScalar ? 0 : 1;
+        column++;
+    }
+
+    /**
+     * Consume skipped bytes, counting brackets outside of strings.  Nothing is decoded or buffered.
+     * @return the index of the next unprocessed byte
+     */
+    private int skip(byte[] block, int from, int limit) {
+        int i = from;
+
+        if (skipScalar) {
+            while (i < limit) {
+                switch (CharacterClass.of(block[i])) {
+                    case CharacterClass.WHITESPACE:
+                    case CharacterClass.LINE_FEED:
+                    case CharacterClass.ENTITY_DELIMITER:
+                    case CharacterClass.KEY_DELIMITER:
+                    case CharacterClass.OBJECT_END:
+                    case CharacterClass.ARRAY_END:
+                        skipping = false;
+                        return i;
+                    default:
+                        i++;
+                        column++;
+                }
+            }
+            return i;
+        }
+
+        while (i < limit) {
+            final byte byt = block[i++];
+
+            if (byt == LF) {
+                incrementLine();
+                skipEscape = false;
+                continue;
+            }
+            column++;
+
+            if (skipInString) {
+                if (skipEscape) {
+                    skipEscape = false;
+                } else if (byt == BACKSLASH) {
+                    skipEscape = true;
+                } else if (byt == QUOTE) {
+                    skipInString = false;
+                    if (skipDepth == 0) {
+                        skipping = false;
+                        return i;
+                    }
+                }
+            } else if (byt == QUOTE) {
+                skipInString = true;
+            } else if (byt == '{' || byt == '[') {
+                skipDepth++;
+            } else if ((byt == '}' || byt == ']') && --skipDepth == 0) {
+                skipping = false;
+                return i;
+            }
+        }
+
+        return i;
+    }
+
+    private void notifyEndToken() {
+        switch (tokenState) {
+            case TOKEN_STATE_BOOLEAN:
+                validateBoolean();
+                notifyValueTokenEnd();
+                fireBooleanEndEvent(token.getBackingArray(), 0, token.size(), lineNumber, column);
+                break;
+            case TOKEN_STATE_NULL:
+                validateNull();
+                notifyValueTokenEnd();
+                fireNullEndEvent(token.getBackingArray(), 0, token.size(), lineNumber, column);
+                break;
+            case TOKEN_STATE_NUMBER:
+                notifyValueTokenEnd();
+                fireNumberEndEvent(token.getBackingArray(), 0, token.size(), lineNumber, column);
+                break;
+            default:
+                //no pending token
+        }
+
+        token.clear();
+    }
+
+    private void notifyValueTokenEnd() {
+        tokenState = TOKEN_STATE_EMPTY;
+    }
+
+    private void notifyStringTokenEnd() {
+        tokenState = TOKEN_STATE_EMPTY;
+        if (readingKey) {
+            readingKey = false;
+            keyPending = true;
+            keyEndColumn = column;
+            keyToken.clear();
+            keyToken.add(token.getBackingArray(), 0, token.size());
+        } else {
+            fireStringEndEvent(token.getBackingArray(), 0, token.size(), lineNumber, column);
+        }
+        token.clear();
+    }
+
+    private void appendToken(byte byt) {
+        token.add(byt);
+        column++;
+    }
+
+    private void incrementLine() {
+        lineNumber++;
+        column = 0;
+    }
+
+    private void validateBoolean() {
+        final byte[] expected = token.first() == t ? TRUE : FALSE;
+        if (!tokenEquals(expected)) {
+            throwError("Unexpected boolean value: expected " + new String(expected) + " but found " + token.toString());
+        }
+    }
+
+    private void validateNull() {
+        if (!tokenEquals(NULLVAL)) {
+            throwError("Unexpected null value: expected " + new String(NULLVAL) + " but found " + token.toString());
+        }
+    }
+
+    private boolean tokenEquals(byte[] expected) {
+        return Arrays.equals(expected, 0, expected.length, token.getBackingArray(), 0, token.size());
+    }
+
+    private String getTokenStateName() {
+        switch (tokenState) {
+            case TOKEN_STATE_BOOLEAN:
+                return "Boolean";
+            case TOKEN_STATE_NULL:
+                return "Null";
+            case TOKEN_STATE_NUMBER:
+                return "Number";
+            case TOKEN_STATE_STRING:
+                return "String";
+            default:
+                return "In between";
+        }
+    }
+
+    private void throwError(String message) {
+        throw new JSONEventParserException(getLineNumber(), getColumn(), message);
+    }
+}
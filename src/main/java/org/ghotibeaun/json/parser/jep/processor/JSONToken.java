@@ -0,0 +1,52 @@
+/*
+ *
+ * # Released under MIT License
+ *
+ * Copyright (c) 2016-2021 Jim Earley.
+ *
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS 
+ * IN THE SOFTWARE.
+ */
+package org.ghotibeaun.json.parser.jep.processor;
+
+/**
+ * Token types returned by a {@linkplain JSONStreamReader}
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+public enum JSONToken {
+    START_OBJECT,
+    END_OBJECT,
+    START_ARRAY,
+    END_ARRAY,
+    KEY,
+    STRING,
+    NUMBER,
+    BOOLEAN,
+    NULL;
+
+    /**
+     * Returns whether the token opens an object or array
+     * @return <code>true</code> for START_OBJECT and START_ARRAY
+     */
+    public boolean isStructStart() {
+        return this == START_OBJECT || this == START_ARRAY;
+    }
+
+    /**
+     * Returns whether the token closes an object or array
+     * @return <code>true</code> for END_OBJECT and END_ARRAY
+     */
+    public boolean isStructEnd() {
+        return this == END_OBJECT || this == END_ARRAY;
+    }
+}
@@ -30,6 +30,7 @@ import java.nio.file.StandardOpenOption;
 
 import org.ghotibeaun.json.JSONNode;
 import org.ghotibeaun.json.exception.JSONSerializationException;
+import org.ghotibeaun.json.jfr.SerializeEvent;
 
 class JSONSerializerImpl implements JSONSerializer {
 
@@ -59,6 +60,9 @@ class JSONSerializerImpl implements JSONSerializer {
 
     @Override
     public void write(Writer writer, JSONNode json, boolean prettyPrint) throws JSONSerializationException {
+        final SerializeEvent event = new SerializeEvent();
+        event.begin();
+
         final String jsonString = prettyPrint ? json.prettyPrint() : json.toJSONString();
 
         try {
@@ -68,6 +72,16 @@ class JSONSerializerImpl implements JSONSerializer {
             throw new JSONSerializationException(e);
         }
 
+        event.end();
+        if (event.shouldCommit()) {
+            event.setSerializer(getClass());
+            event.setFormat("JSON");
+            event.setPrettyPrint(prettyPrint);
+            event.setSize(jsonString);
+            event.setNodeCount(json);
+            event.commit();
+        }
+
     }
 
     @Override
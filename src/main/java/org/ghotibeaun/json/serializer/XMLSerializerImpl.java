@@ -28,6 +28,7 @@ import org.ghotibeaun.json.JSONNode;
 import org.ghotibeaun.json.JSONObject;
 import org.ghotibeaun.json.JSONValue;
 import org.ghotibeaun.json.exception.JSONSerializationException;
+import org.ghotibeaun.json.jfr.SerializeEvent;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
@@ -122,15 +123,27 @@ class XMLSerializerImpl implements XMLSerializer {
 
     @Override
     public String toXmlString(JSONNode jsonNode, String rootElementName) {
-        final Node xml = toXml(jsonNode, rootElementName);
+        final SerializeEvent event = new SerializeEvent();
+        event.begin();
 
-        return toXmlString(xml);
+        final Node xml = toXml(jsonNode, rootElementName);
+        final String xmlString = toXmlString(xml);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.setSerializer(getClass());
+            event.setFormat("XML");
+            event.setPrettyPrint(true);
+            event.setSize(xmlString);
+            event.setNodeCount(jsonNode);
+            event.commit();
+        }
+        return xmlString;
     }
 
     @Override
     public String toXmlString(JSONNode jsonNode) {
-        final Node xml = toXml(jsonNode);
-        return toXmlString(xml);
+        return toXmlString(jsonNode, "root");
     }
 
     private String toXmlString(Node xmlNode) {
@@ -0,0 +1,93 @@
+/*
+ *
+ * # Released under MIT License
+ *
+ * Copyright (c) 2016-2021 Jim Earley.
+ *
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS 
+ * IN THE SOFTWARE.
+ */
+package org.ghotibeaun.json.util;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+
+/**
+ * InputStream that reads through a sequence of {@link ByteBuffer}s in order, as though they were one
+ * continuous stream.  Bytes are read with bulk <code>get</code> calls, and each buffer is only requested from the
+ * iterator once the previous one is exhausted.  The stream drops its reference to a buffer as soon as the buffer has
+ * been read, so that a consumed buffer (e.g., a mapped file region) can be reclaimed.
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+public class ByteBufferInputStream extends InputStream {
+    private final Iterator<ByteBuffer> buffers;
+    private ByteBuffer current;
+
+    /**
+     * Constructor
+     * @param buffers the buffers to read
+     */
+    public ByteBufferInputStream(Iterator<ByteBuffer> buffers) {
+        this.buffers = buffers;
+    }
+
+    @Override
+    public int read() {
+        if (!nextBuffer()) {
+            return -1;
+        }
+
+        final int value = current.get() & 0xff;
+        release();
+        return value;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+
+        if (!nextBuffer()) {
+            return -1;
+        }
+
+        final int count = Math.min(length, current.remaining());
+        current.get(bytes, offset, count);
+        release();
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return current != null ? current.remaining() : 0;
+    }
+
+    private boolean nextBuffer() {
+        while (current == null || !current.hasRemaining()) {
+            if (!buffers.hasNext()) {
+                return false;
+            }
+            current = buffers.next();
+        }
+
+        return true;
+    }
+
+    private void release() {
+        if (!current.hasRemaining()) {
+            current = null;
+        }
+    }
+}
@@ -120,6 +120,20 @@ public class ResizableByteBuffer {
         size+= bytes.length;
     }
 
+    /**
+     * Append a range of bytes from an array to the existing buffer.
+     * @param bytes the source array
+     * @param offset the offset in the source array of the first byte to append
+     * @param length the number of bytes to append
+     */
+    public void add(byte[] bytes, int offset, int length) {
+        if (size + length > byteArray.length) {
+            grow(Math.max(size + length, byteArray.length + (byteArray.length >> 1)));
+        }
+        System.arraycopy(bytes, offset, byteArray, size, length);
+        size += length;
+    }
+
     /**
      * Sets the internal cursor back to the beginning of the buffer
      */
@@ -264,6 +278,15 @@ public class ResizableByteBuffer {
         size = 0;
     }
 
+    /**
+     * Retrieves the underlying array without copying it.  Only the first {@link #size()} bytes are valid, and
+     * the array may be replaced when the buffer grows.
+     * @return the underlying array
+     */
+    public byte[] getBackingArray() {
+        return byteArray;
+    }
+
     /**
      * Retrieves the array for this buffer
      * @return an array of bytes
@@ -1,8 +1,19 @@
 package org.ghotibeaun.json;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.ghotibeaun.json.exception.JSONFactoryException;
 import org.ghotibeaun.json.factory.FactorySettings;
 import org.ghotibeaun.json.factory.Setting;
 import org.ghotibeaun.json.parser.JSONParser;
@@ -34,4 +45,52 @@ public class JSONFactoryTest {
         assertTrue(FactorySettings.getSetting(Setting.SERIALIZER_CLASS).equals(serializer.getClass().getName()));
     }
 
+    @Test
+    public void testSettingFromPropertyName() {
+        for (final Setting setting : Setting.values()) {
+            assertSame(setting, Setting.fromPropertyName(setting.getPropertyName()));
+        }
+        assertNull(Setting.fromPropertyName("org.ghotibeaun.json.unknown"));
+        assertNull(Setting.fromPropertyName(null));
+    }
+
+    @Test
+    public void testFactoryClassCreatesNewInstances() {
+        final JSONFactory first = FactorySettings.createFactoryClass(Setting.FACTORY_CLASS);
+        final JSONFactory second = FactorySettings.createFactoryClass(Setting.FACTORY_CLASS);
+        assertNotSame(first, second);
+        assertSame(first.getClass(), second.getClass());
+    }
+
+    @Test(expected = JSONFactoryException.class)
+    public void testFactoryClassRequiresClassSetting() {
+        FactorySettings.createFactoryClass(Setting.INPUTSTREAM_CHARSET);
+    }
+
+    @Test
+    public void testConcurrentInstantiation() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            final List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                results.add(executor.submit(() -> {
+                    int created = 0;
+                    for (int i = 0; i < 1000; i++) {
+                        if (JSONFactory.newFactory().newParser() != null) {
+                            created++;
+                        }
+                    }
+                    return created;
+                }));
+            }
+
+            for (final Future<Integer> result : results) {
+                assertEquals(1000, result.get().intValue());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
 }
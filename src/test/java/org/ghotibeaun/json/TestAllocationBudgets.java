@@ -0,0 +1,78 @@
+package org.ghotibeaun.json;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import org.ghotibeaun.json.converter.classes.MarshallingTest2;
+import org.ghotibeaun.json.converters.Converters;
+import org.ghotibeaun.json.parser.JSONParser;
+import org.ghotibeaun.json.util.AllocationMeter;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Locks in the allocation rates of parsing (buffered processor and native handler), serialization and conversion.
+ * The budgets are in <code>allocation-budgets.properties</code>, and should be lowered when an optimization reduces
+ * allocation.
+ */
+public class TestAllocationBudgets {
+    private static final int CONVERSION_COPIES = 200;
+
+    private static byte[] document;
+    private static String conversionJSON;
+
+    @BeforeClass
+    public static void loadDocuments() throws IOException {
+        document = resource("/us-reps.json");
+
+        final String item = new String(resource("/marshallingTest2.json"), StandardCharsets.UTF_8);
+        final StringBuilder array = new StringBuilder("[");
+        for (int i = 0; i < CONVERSION_COPIES; i++) {
+            array.append(i == 0 ? "" : ",").append(item);
+        }
+        conversionJSON = array.append(']').toString();
+    }
+
+    @Test
+    public void testParse() {
+        final JSONParser parser = JSONFactory.newFactory().newParser();
+        AllocationMeter.assertWithinBudget("parse", document.length, () -> parser.parse(new ByteArrayInputStream(document)));
+    }
+
+    @Test
+    public void testSerialize() {
+        final JSONNode node = JSONFactory.newFactory().newParser().parse(new ByteArrayInputStream(document));
+        AllocationMeter.assertWithinBudget("serialize.compact", node.toJSONString().length(), node::toJSONString);
+        AllocationMeter.assertWithinBudget("serialize.pretty", node.prettyPrint().length(), node::prettyPrint);
+    }
+
+    @Test
+    public void testConvertToClass() {
+        final JSONArray array = JSONFactory.newFactory().newParser().parse(conversionJSON).asJSONArray();
+        AllocationMeter.assertWithinBudget("convert.toClass", conversionJSON.length(),
+                () -> Converters.convertToList(array, Optional.empty(), Optional.of(MarshallingTest2.class)));
+    }
+
+    @Test
+    public void testConvertToJSON() {
+        final JSONArray array = JSONFactory.newFactory().newParser().parse(conversionJSON).asJSONArray();
+        final List<MarshallingTest2> instances = Converters.convertToList(array, Optional.empty(), Optional.of(MarshallingTest2.class));
+
+        long size = 0;
+        for (final MarshallingTest2 instance : instances) {
+            size += Converters.convertToJSON(instance).toJSONString().length();
+        }
+
+        AllocationMeter.assertWithinBudget("convert.toJSON", size, () -> instances.forEach(Converters::convertToJSON));
+    }
+
+    private static byte[] resource(String name) throws IOException {
+        try (InputStream in = TestAllocationBudgets.class.getResourceAsStream(name)) {
+            return in.readAllBytes();
+        }
+    }
+}
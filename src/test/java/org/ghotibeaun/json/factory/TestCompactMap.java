@@ -0,0 +1,125 @@
+package org.ghotibeaun.json.factory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.ghotibeaun.json.JSONFactory;
+import org.ghotibeaun.json.JSONNode;
+import org.ghotibeaun.json.JSONObject;
+import org.junit.Test;
+
+public class TestCompactMap {
+
+    @Test
+    public void testMatchesLinkedHashMap() {
+        final CompactMap<String, Integer> compact = new CompactMap<>();
+        final Map<String, Integer> expected = new LinkedHashMap<>();
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(expected.put("k" + i % 12, i), compact.put("k" + i % 12, i));
+            assertEquals(expected, compact);
+            assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(compact.keySet()));
+            assertEquals(new ArrayList<>(expected.values()), new ArrayList<>(compact.values()));
+            assertEquals(expected.hashCode(), compact.hashCode());
+        }
+
+        for (final String key : new String[] {"k3", "missing", "k0", "k11"}) {
+            assertEquals(expected.remove(key), compact.remove(key));
+            assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(compact.entrySet()));
+        }
+        assertEquals(expected.containsKey("k5"), compact.containsKey("k5"));
+        assertEquals(expected.get("k6"), compact.get("k6"));
+    }
+
+    @Test
+    public void testPromotion() {
+        final CompactMap<String, Integer> map = new CompactMap<>();
+        for (int i = 0; i < CompactMap.THRESHOLD; i++) {
+            map.put("k" + i, i);
+        }
+        map.put("k0", -1);
+        assertFalse(map.isPromoted());
+
+        map.put("next", 99);
+        assertTrue(map.isPromoted());
+        assertEquals(CompactMap.THRESHOLD + 1, map.size());
+        assertEquals(Integer.valueOf(-1), map.get("k0"));
+        assertEquals("next", new ArrayList<>(map.keySet()).get(CompactMap.THRESHOLD));
+
+        map.clear();
+        assertFalse(map.isPromoted());
+        assertTrue(map.isEmpty());
+        assertNull(map.get("k1"));
+    }
+
+    @Test
+    public void testIteratorRemoveAndSetValue() {
+        final CompactMap<String, Integer> map = new CompactMap<>();
+        for (int i = 0; i < 6; i++) {
+            map.put("k" + i, i);
+        }
+
+        final Iterator<Entry<String, Integer>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Entry<String, Integer> entry = iterator.next();
+            if (entry.getValue() % 2 == 0) {
+                iterator.remove();
+            } else {
+                entry.setValue(entry.getValue() * 10);
+            }
+        }
+
+        final List<String> entries = new ArrayList<>();
+        map.forEach((key, value) -> entries.add(key + "=" + value));
+        assertEquals("[k1=10, k3=30, k5=50]", entries.toString());
+    }
+
+    @Test
+    public void testCompactObjects() throws IOException, ClassNotFoundException {
+        final String json = new String(Files.readAllBytes(Paths.get("src/test/resources/us-reps.json")), "UTF-8");
+        final String expected = JSONFactory.newFactory().newParser().parse(json).toJSONString();
+
+        FactorySettings.applySetting(Setting.OBJECT_CLASS, CompactJSONObjectImpl.class.getName());
+        try {
+            assertTrue(NodeFactory.newJSONObject() instanceof CompactJSONObjectImpl);
+
+            final JSONNode compact = JSONFactory.newFactory().newParser().parse(json);
+            assertEquals(expected, compact.toJSONString());
+
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(compact);
+            }
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                assertEquals(expected, ((JSONNode) in.readObject()).toJSONString());
+            }
+
+            final JSONObject object = NodeFactory.newJSONObject();
+            for (int i = 0; i < 10; i++) {
+                object.put("k" + i, i);
+            }
+            object.remove("k4");
+            assertEquals("{\"k0\":0,\"k1\":1,\"k2\":2,\"k3\":3,\"k5\":5,\"k6\":6,\"k7\":7,\"k8\":8,\"k9\":9}", object.toJSONString());
+        } finally {
+            FactorySettings.applySetting(Setting.OBJECT_CLASS, FactorySettings.getDefaultSetting(Setting.OBJECT_CLASS));
+        }
+        assertTrue(NodeFactory.newJSONObject() instanceof JSONObjectImpl);
+        assertFalse(NodeFactory.newJSONObject() instanceof CompactJSONObjectImpl);
+    }
+}
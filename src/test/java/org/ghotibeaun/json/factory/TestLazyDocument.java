@@ -0,0 +1,137 @@
+package org.ghotibeaun.json.factory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import org.ghotibeaun.json.JSONArray;
+import org.ghotibeaun.json.JSONFactory;
+import org.ghotibeaun.json.JSONNode;
+import org.ghotibeaun.json.JSONObject;
+import org.ghotibeaun.json.JSONValueType;
+import org.ghotibeaun.json.exception.JSONEventParserException;
+import org.ghotibeaun.json.parser.jep.EventParser;
+import org.ghotibeaun.json.parser.jep.ParserSettings;
+import org.ghotibeaun.json.parser.jep.TestHandler;
+import org.junit.Test;
+
+public class TestLazyDocument {
+
+    @Test
+    public void testMatchesEagerParse() throws IOException {
+        for (final String file : new String[] {"makes.json", "books.json", "observation-fhir.json", "us-reps.json"}) {
+            final byte[] data = Files.readAllBytes(Paths.get("src/test/resources", file));
+            final JSONNode lazy = JSONFactory.newFactory().newParser().parseLazy(data);
+
+            final TestHandler handler = new TestHandler();
+            EventParser.newEventParser().parse(new ByteArrayInputStream(data), ParserSettings.newSettings(handler));
+
+            assertEquals(file, handler.getResult().toJSONString(), lazy.toJSONString());
+        }
+    }
+
+    @Test
+    public void testValues() {
+        final JSONObject object = parse("{\"s\": \"a\\tb\", \"l\": -12, \"big\": 92233720368547758070, \"d\": 1.5e2,"
+                + " \"t\": true, \"f\": false, \"n\": null, \"o\": {}, \"a\": [ ], \"nested\": [[1, [2]], {\"x\": [3]}]}");
+
+        assertEquals("a\tb", object.getString("s"));
+        assertEquals(-12L, object.getLong("l"));
+        assertEquals("92233720368547758070", object.getNumber("big").toString());
+        assertEquals(150.0, object.getNumber("d").doubleValue(), 0);
+        assertTrue(object.getBoolean("t"));
+        assertEquals(false, object.getBoolean("f"));
+        assertEquals(JSONValueType.NULL, object.getValueType("n"));
+        assertEquals(0, object.getJSONObject("o").size());
+        assertEquals(0, object.getJSONArray("a").size());
+
+        final JSONArray nested = object.getJSONArray("nested");
+        assertEquals(2L, nested.getJSONArray(0).getJSONArray(1).getLong(0));
+        assertEquals(3L, nested.getJSONObject(1).getJSONArray("x").getLong(0));
+        assertEquals(10, object.size());
+    }
+
+    @Test
+    public void testDeferredErrors() {
+        final JSONObject object = parse("{\"a\": 1, \"b\": {\"c\": tru}, \"d\": [1 2]}");
+        assertEquals(1L, object.getLong("a"));
+
+        try {
+            object.getJSONObject("b").get("c");
+            fail("Expected an invalid value to be rejected when accessed");
+        } catch (final JSONEventParserException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("Invalid value: tru"));
+        }
+
+        try {
+            object.getJSONArray("d").size();
+            fail("Expected a missing comma to be rejected when accessed");
+        } catch (final JSONEventParserException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testFailedLoadAddsNothing() {
+        final JSONObject object = parse("{\"a\": [1, 2, tru], \"b\": {\"c\": 1, \"d\": x}}");
+        final JSONArray array = object.getJSONArray("a");
+        final JSONObject nested = object.getJSONObject("b");
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try {
+                array.size();
+                fail("Expected an invalid element to be rejected on every access");
+            } catch (final JSONEventParserException e) {
+                assertTrue(e.getMessage(), e.getMessage().startsWith("Invalid value: tru"));
+            }
+
+            try {
+                nested.containsKey("c");
+                fail("Expected an invalid member to be rejected on every access");
+            } catch (final JSONEventParserException e) {
+                assertTrue(e.getMessage(), e.getMessage().startsWith("Invalid value: x"));
+            }
+        }
+    }
+
+    @Test
+    public void testIndexErrors() {
+        for (final String data : new String[] {"", "  ", "\"a\"", "{\"a\": 1", "{\"a\": [1}", "[1]]", "[\"a]", "[1] x"}) {
+            try {
+                parse(data);
+                fail("Expected " + data + " to be rejected");
+            } catch (final JSONEventParserException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void testModifyAndSerialize() throws IOException, ClassNotFoundException {
+        final JSONObject object = parse("{\"a\": {\"b\": [1, 2]}, \"c\": \"d\"}");
+        object.getJSONObject("a").getJSONArray("b").add(3);
+        object.put("e", true);
+        assertEquals("{\"a\":{\"b\":[1,2,3]},\"c\":\"d\",\"e\":true}", object.toJSONString());
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(parse("{\"a\": {\"b\": [1, 2]}}"));
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertEquals("{\"a\":{\"b\":[1,2]}}", ((JSONObject)in.readObject()).toJSONString());
+        }
+    }
+
+    private static JSONObject parse(String data) {
+        return NodeFactory.parseLazy(data.getBytes(StandardCharsets.UTF_8)).asJSONObject();
+    }
+}
@@ -0,0 +1,162 @@
+package org.ghotibeaun.json.factory;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.ghotibeaun.json.JSONArray;
+import org.ghotibeaun.json.JSONFactory;
+import org.ghotibeaun.json.JSONNode;
+import org.ghotibeaun.json.JSONValue;
+import org.ghotibeaun.json.JSONValueType;
+import org.ghotibeaun.json.exception.JSONInvalidValueTypeException;
+import org.ghotibeaun.json.factory.PrimitiveValueList.Storage;
+import org.junit.Test;
+
+public class TestPrimitiveJSONArray {
+
+    @Test
+    public void testHomogeneousStorage() {
+        final PrimitiveJSONArrayImpl longs = new PrimitiveJSONArrayImpl();
+        final PrimitiveJSONArrayImpl doubles = new PrimitiveJSONArrayImpl();
+        final PrimitiveJSONArrayImpl booleans = new PrimitiveJSONArrayImpl();
+        for (int i = 0; i < 100; i++) {
+            longs.add(Long.valueOf(i * 1000000007L));
+            doubles.add(Double.valueOf(i + 0.25));
+            booleans.add(i % 3 == 0);
+        }
+
+        assertEquals(Storage.LONG, storage(longs));
+        assertEquals(Storage.DOUBLE, storage(doubles));
+        assertEquals(Storage.BOOLEAN, storage(booleans));
+
+        assertEquals(99 * 1000000007L, longs.getLong(99));
+        assertEquals(JSONValueType.LONG, longs.getValueType(5));
+        assertEquals(Long.valueOf(5000000035L), longs.get(5).getValue());
+        assertEquals(3.25, doubles.getDouble(3), 0);
+        assertEquals(JSONValueType.DOUBLE, doubles.get(3).getType());
+        assertTrue(booleans.getBoolean(99));
+        assertFalse(booleans.getBoolean(98));
+        assertEquals(100, booleans.size());
+
+        assertArrayEquals(new double[] {0.25, 1.25, 2.25}, Arrays.copyOf(doubles.toDoubleArray(), 3), 0);
+        assertEquals(1000000007.0, longs.toDoubleArray()[1], 0);
+    }
+
+    @Test
+    public void testWidening() {
+        final PrimitiveJSONArrayImpl array = new PrimitiveJSONArrayImpl();
+        array.add(Long.valueOf(1));
+        array.add(Long.valueOf(2));
+        array.insert(1, NodeFactory.newNumberValue(Long.valueOf(5)));
+        array.remove(0);
+        assertEquals(Storage.LONG, storage(array));
+        assertEquals("[5,2]", array.toJSONString());
+
+        array.add(Double.valueOf(2.5));
+        assertEquals(Storage.GENERIC, storage(array));
+        array.add("three");
+        assertEquals("[5,2,2.5,\"three\"]", array.toJSONString());
+        assertEquals(JSONValueType.LONG, array.getValueType(0));
+        assertEquals(2.5, array.getDouble(2), 0);
+
+        try {
+            array.toDoubleArray();
+            fail("Expected a string element to be rejected");
+        } catch (final JSONInvalidValueTypeException e) {
+            // expected
+        }
+
+        array.clear();
+        array.add(true);
+        assertEquals(Storage.BOOLEAN, storage(array));
+
+        final Iterator<JSONValue<?>> iterator = array.iterator();
+        iterator.next();
+        iterator.remove();
+        assertEquals(0, array.size());
+    }
+
+    @Test
+    public void testAddNullBoolean() {
+        final PrimitiveJSONArrayImpl array = new PrimitiveJSONArrayImpl();
+        array.add(true);
+        array.add((Boolean) null);
+        assertEquals(Storage.GENERIC, storage(array));
+        assertEquals("[true,null]", array.toJSONString());
+
+        final JSONArray generic = new JSONArrayImpl();
+        generic.add((Boolean) null);
+        assertEquals("[null]", generic.toJSONString());
+    }
+
+    @Test
+    public void testSetValue() {
+        final PrimitiveJSONArrayImpl array = new PrimitiveJSONArrayImpl();
+        array.add(Double.valueOf(1.5));
+        array.add(Double.valueOf(2.5));
+        array.getValues().set(1, NodeFactory.newNumberValue(Double.valueOf(-1)));
+        assertEquals(Storage.DOUBLE, storage(array));
+        assertArrayEquals(new double[] {1.5, -1}, array.toDoubleArray(), 0);
+
+        array.getValues().set(0, NodeFactory.newJSONNullValue());
+        assertEquals(Storage.GENERIC, storage(array));
+        assertEquals("[null,-1.0]", array.toJSONString());
+    }
+
+    @Test
+    public void testParseWithPrimitiveArrays() throws IOException, ClassNotFoundException {
+        final StringBuilder series = new StringBuilder("{\"times\": [");
+        for (int i = 0; i < 1000; i++) {
+            series.append(i == 0 ? "" : ",").append(1600000000000L + i);
+        }
+        series.append("], \"values\": [1.5, -2.25, 3e2, 0.125], \"flags\": [true, false, true], \"mixed\": [1, 2.5, \"x\", null]}");
+
+        final String usReps = new String(Files.readAllBytes(Paths.get("src/test/resources/us-reps.json")), "UTF-8");
+        final String expectedSeries = JSONFactory.newFactory().newParser().parse(series.toString()).toJSONString();
+        final String expectedUsReps = JSONFactory.newFactory().newParser().parse(usReps).toJSONString();
+
+        FactorySettings.applySetting(Setting.ARRAY_CLASS, PrimitiveJSONArrayImpl.class.getName());
+        try {
+            assertEquals(expectedUsReps, JSONFactory.newFactory().newParser().parse(usReps).toJSONString());
+
+            final JSONNode node = JSONFactory.newFactory().newParser().parse(new ByteArrayInputStream(series.toString().getBytes("UTF-8")));
+            assertEquals(expectedSeries, node.toJSONString());
+
+            final JSONArray times = node.asJSONObject().getJSONArray("times");
+            assertEquals(Storage.LONG, storage((PrimitiveJSONArrayImpl) times));
+            assertEquals(1600000000999L, times.getLong(999));
+            assertEquals(Storage.DOUBLE, storage((PrimitiveJSONArrayImpl) node.asJSONObject().getJSONArray("values")));
+            assertArrayEquals(new double[] {1.5, -2.25, 300, 0.125}, node.asJSONObject().getJSONArray("values").toDoubleArray(), 0);
+            assertEquals(Storage.BOOLEAN, storage((PrimitiveJSONArrayImpl) node.asJSONObject().getJSONArray("flags")));
+            assertEquals(Storage.GENERIC, storage((PrimitiveJSONArrayImpl) node.asJSONObject().getJSONArray("mixed")));
+
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(node);
+            }
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                assertEquals(expectedSeries, ((JSONNode) in.readObject()).toJSONString());
+            }
+        } finally {
+            FactorySettings.applySetting(Setting.ARRAY_CLASS, FactorySettings.getDefaultSetting(Setting.ARRAY_CLASS));
+        }
+        assertFalse(NodeFactory.newJSONArray() instanceof PrimitiveJSONArrayImpl);
+    }
+
+    private static Storage storage(PrimitiveJSONArrayImpl array) {
+        return ((PrimitiveValueList) array.getValues()).getStorage();
+    }
+}
@@ -0,0 +1,153 @@
+package org.ghotibeaun.json.jfr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.ghotibeaun.json.JSONFactory;
+import org.ghotibeaun.json.JSONNode;
+import org.ghotibeaun.json.JSONObject;
+import org.ghotibeaun.json.converter.classes.BasicTestClass;
+import org.ghotibeaun.json.converters.Converters;
+import org.ghotibeaun.json.factory.NodeFactory;
+import org.ghotibeaun.json.merge.MergeProcessor;
+import org.ghotibeaun.json.serializer.SerializationFactory;
+import org.junit.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class TestFlightRecorderEvents {
+    private static final String DOCUMENT = "{\"message\": \"Hello\", \"read\": true, \"valueSet\": [\"a\", \"b\"]}";
+
+    @Test
+    public void testParseAndSerializeEvents() throws Exception {
+        final List<RecordedEvent> events = record(() -> {
+            final JSONNode node = JSONFactory.newFactory().newParser().parse(new ByteArrayInputStream(DOCUMENT.getBytes(StandardCharsets.UTF_8)));
+            node.write(new StringWriter());
+            SerializationFactory.getXmlSerializer().toXmlString(node);
+        });
+
+        final RecordedEvent parse = only(events, "org.ghotibeaun.json.Parse");
+        assertEquals(DOCUMENT.length(), parse.getLong("size"));
+        assertEquals(6, parse.getLong("nodeCount"));
+        assertEquals(2, parse.getInt("maxDepth"));
+        assertEquals("org.ghotibeaun.json.parser.jep.processor.JSONBufferedEventProcessor", className(parse, "processor"));
+        assertEquals("org.ghotibeaun.json.parser.NativeEventHandler", className(parse, "handler"));
+
+        final List<RecordedEvent> serialize = named(events, "org.ghotibeaun.json.Serialize");
+        assertEquals(2, serialize.size());
+        assertEquals("JSON", serialize.get(0).getString("format"));
+        assertEquals(DOCUMENT.replace(" ", "").length(), serialize.get(0).getLong("size"));
+        assertEquals(6, serialize.get(0).getLong("nodeCount"));
+        assertFalse(serialize.get(0).getBoolean("prettyPrint"));
+        assertEquals("XML", serialize.get(1).getString("format"));
+        assertTrue(serialize.get(1).getLong("size") > 0);
+    }
+
+    @Test
+    public void testConversionPathAndMergeEvents() throws Exception {
+        final List<RecordedEvent> events = record(() -> {
+            final JSONObject json = NodeFactory.newJSONObject();
+            json.put("message", "Hello");
+            json.put("read", true);
+            json.put("valueSet", Arrays.asList("a", "b"));
+            json.put("length", 60L);
+
+            final JSONObject subclass = NodeFactory.newJSONObject();
+            subclass.put("name", "Test 1");
+            subclass.put("status", false);
+            json.put("subclass", subclass);
+
+            final BasicTestClass converted = Converters.convertToClass(BasicTestClass.class, json);
+            Converters.convertToJSON(converted);
+            json.select("$.valueSet[*]");
+
+            final JSONObject secondary = NodeFactory.newJSONObject();
+            secondary.put("extra", 1);
+            MergeProcessor.merge(json, secondary);
+        });
+
+        // nested values are converted through the same entry points, so the outermost conversion starts first
+        final List<RecordedEvent> conversions = named(events, "org.ghotibeaun.json.Conversion");
+        assertEquals("convertToClass", conversions.get(0).getString("operation"));
+        assertEquals(BasicTestClass.class.getName(), className(conversions.get(0), "targetClass"));
+        assertEquals(10, conversions.get(0).getLong("nodeCount"));
+
+        final List<RecordedEvent> toJSON = conversions.stream()
+                .filter(event -> event.getString("operation").equals("convertToJSON"))
+                .collect(Collectors.toList());
+        assertEquals(BasicTestClass.class.getName(), className(toJSON.get(0), "targetClass"));
+        assertTrue(toJSON.get(0).getLong("nodeCount") > 1);
+
+        final RecordedEvent path = only(events, "org.ghotibeaun.json.JSONPath");
+        assertEquals("$.valueSet[*]", path.getString("path"));
+        assertEquals(2, path.getLong("nodeCount"));
+
+        final RecordedEvent merge = only(events, "org.ghotibeaun.json.Merge");
+        assertEquals("APPEND", merge.getString("arrayStrategy"));
+        assertEquals(11, merge.getLong("nodeCount"));
+    }
+
+    @Test
+    public void testCountNodes() {
+        assertEquals(1, JSONOperationEvent.countNodes(NodeFactory.newJSONObject()));
+        assertEquals(6, JSONOperationEvent.countNodes(NodeFactory.parse(DOCUMENT)));
+    }
+
+    @Test
+    public void testTextSizeInBytes() {
+        final SerializeEvent event = new SerializeEvent();
+        for (final String text : new String[] {"", DOCUMENT, "{\"k\": \"caf\u00e9 \u20ac \ud83d\ude00\"}"}) {
+            event.setSize(text);
+            assertEquals(text, text.getBytes(StandardCharsets.UTF_8).length, event.getSize());
+        }
+    }
+
+    private static List<RecordedEvent> record(Runnable operations) throws Exception {
+        final Path file = Files.createTempFile("json-jep", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ParseEvent.class);
+            recording.enable(SerializeEvent.class);
+            recording.enable(ConversionEvent.class);
+            recording.enable(JSONPathEvent.class);
+            recording.enable(MergeEvent.class);
+            recording.start();
+            operations.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getThread() != null && event.getThread().getJavaThreadId() == Thread.currentThread().getId())
+                    .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).collect(Collectors.toList());
+    }
+
+    private static RecordedEvent only(List<RecordedEvent> events, String name) {
+        final List<RecordedEvent> matches = named(events, name);
+        assertEquals(name, 1, matches.size());
+        return matches.get(0);
+    }
+
+    private static String className(RecordedEvent event, String field) {
+        final RecordedClass recordedClass = event.getValue(field);
+        return recordedClass.getName();
+    }
+}
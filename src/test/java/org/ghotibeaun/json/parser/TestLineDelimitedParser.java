@@ -0,0 +1,127 @@
+package org.ghotibeaun.json.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.ghotibeaun.json.JSONFactory;
+import org.ghotibeaun.json.JSONNode;
+import org.ghotibeaun.json.exception.JSONParserException;
+import org.junit.Test;
+
+public class TestLineDelimitedParser {
+
+    @Test
+    public void testMatchesPerLineParse() {
+        final StringBuilder data = new StringBuilder();
+        final List<String> expected = new ArrayList<>();
+        final JSONParser parser = JSONFactory.newFactory().newParser();
+
+        for (int i = 0; i < 1000; i++) {
+            final String line = i % 7 == 0
+                    ? "[" + i + ", \"a b\", {\"n\": null}]"
+                    : "{\"id\": " + i + ", \"text\": \"line " + i + "\", \"tags\": [\"x\", \"y\"], \"ok\": " + (i % 2 == 0) + "}";
+            data.append(line).append(i % 5 == 0 ? "\r\n" : "\n");
+            if (i % 11 == 0) {
+                data.append("   \n");
+            }
+            expected.add(parser.parse(line).toJSONString());
+        }
+
+        final ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (final int batchSize : new int[] {1, 100, 4096, 1 << 20}) {
+                final List<String> actual = new ArrayList<>();
+                new LineDelimitedParser(stream(data.toString()), pool, batchSize)
+                .forEachRemaining(node -> actual.add(node.toJSONString()));
+                assertEquals("batch size " + batchSize, expected, actual);
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        try (Stream<JSONNode> records = parser.parseLines(stream(data.toString()))) {
+            assertEquals(expected, records.map(JSONNode::toJSONString).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testConsumer() {
+        final List<Long> ids = new ArrayList<>();
+        JSONFactory.newFactory().newParser().parseLines(stream("{\"id\": 1}\n\n{\"id\": 2}"), ForkJoinPool.commonPool(),
+                node -> ids.add(node.asJSONObject().getLong("id")));
+        assertEquals(Arrays.asList(1L, 2L), ids);
+    }
+
+    @Test
+    public void testEmptyInput() {
+        assertEquals(0, JSONFactory.newFactory().newParser().parseLines(stream(" \n\n")).count());
+    }
+
+    @Test
+    public void testErrorReportsLine() {
+        try {
+            JSONFactory.newFactory().newParser().parseLines(stream("{\"a\": 1}\n{\"b\": 2}\n{\"c\": @}\n")).count();
+            fail("Expected an invalid record to be rejected");
+        } catch (final JSONParserException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("Error parsing line 3:"));
+        }
+    }
+
+    @Test
+    public void testScalarRecord() {
+        try {
+            JSONFactory.newFactory().newParser().parseLines(stream("{\"a\": 1}\n42\n")).count();
+            fail("Expected a scalar record to be rejected");
+        } catch (final JSONParserException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("Line 2"));
+        }
+    }
+
+    @Test
+    public void testTwoValuesOnOneLine() {
+        assertRejected("{\"a\": 1} {\"b\": 2}\n{\"c\": 3}\n", "Error parsing line 1: More than one value");
+    }
+
+    @Test
+    public void testRecordSplitAcrossLines() {
+        assertRejected("{\"a\": 1}\n{\"b\":\n 2}\n", "Error parsing line 2: The record is not closed");
+    }
+
+    @Test
+    public void testUnclosedRecord() {
+        assertRejected("{\"a\": [1, \"]}\"\n{\"b\": 2}\n{\"c\": 3}\n", "Error parsing line 1: The record is not closed");
+    }
+
+    @Test
+    public void testStrayClosingBracket() {
+        assertRejected("{\"a\": 1}\n{\"b\": 2}\n}\n", "Error parsing line 3: Unexpected '}'");
+        assertRejected("{\"a\": {\"b\": 2}}}\n", "Error parsing line 1: Unexpected '}'");
+        assertRejected("{\"a\": [1, 2}}\n", "Error parsing line 1: Unexpected '}'");
+    }
+
+    private static void assertRejected(String data, String message) {
+        for (final int batchSize : new int[] {1, 1 << 20}) {
+            try {
+                new LineDelimitedParser(stream(data), ForkJoinPool.commonPool(), batchSize).forEachRemaining(node -> { });
+                fail("Expected the input to be rejected: " + data);
+            } catch (final JSONParserException e) {
+                assertTrue(e.getMessage(), e.getMessage().startsWith(message));
+            }
+        }
+    }
+
+    private static InputStream stream(String data) {
+        return new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8));
+    }
+}
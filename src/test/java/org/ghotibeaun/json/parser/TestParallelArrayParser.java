@@ -0,0 +1,157 @@
+package org.ghotibeaun.json.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.ghotibeaun.json.JSONArray;
+import org.ghotibeaun.json.JSONFactory;
+import org.ghotibeaun.json.JSONValue;
+import org.ghotibeaun.json.exception.JSONEventParserException;
+import org.ghotibeaun.json.exception.JSONParserException;
+import org.junit.Test;
+
+public class TestParallelArrayParser {
+
+    @Test
+    public void testMatchesSequentialParse() throws IOException {
+        final StringBuilder data = new StringBuilder("[\n");
+        for (int i = 0; i < 500; i++) {
+            if (i > 0) {
+                data.append(",\n");
+            }
+            data.append("{\"id\": ").append(i).append(", \"text\": \"a, [b] {c} \\\"d,\\\" \\\\\", \"tags\": [\"x\", \"y,z\"], \"ok\": true}");
+            data.append(", ").append(i % 3 == 0 ? "null" : "\"s" + i + "\"");
+        }
+        data.append("\n]\n");
+
+        final Path path = writeTempFile(data.toString());
+        try {
+            final JSONParser parser = JSONFactory.newFactory().newParser();
+            final String expected = parser.parse(path).toJSONString();
+
+            for (final long chunkSize : new long[] {1, 64, 1000, 1L << 20}) {
+                final List<JSONValue<?>> values = new ArrayList<>();
+                new ParallelArrayParser(new ForkJoinPool(4), values::add, chunkSize).parse(path);
+                final JSONArray result = parser.newJSONArray();
+                values.forEach(result::add);
+                assertEquals("chunk size " + chunkSize, expected, result.toJSONString());
+            }
+
+            assertEquals(expected, parser.parseParallel(path).toJSONString());
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testParseResource() {
+        final JSONParser parser = JSONFactory.newFactory().newParser();
+        final Path path = Paths.get("src/test/resources/valueConverterTest1.json");
+        assertEquals(parser.parse(path).toJSONString(), parser.parseParallel(path, ForkJoinPool.commonPool()).toJSONString());
+    }
+
+    @Test
+    public void testEmptyArray() throws IOException {
+        final Path path = writeTempFile("  [ ]  ");
+        try {
+            assertEquals(0, JSONFactory.newFactory().newParser().parseParallel(path).size());
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testObjectRootRejected() throws IOException {
+        final Path path = writeTempFile("{\"a\": [1, 2]}");
+        try {
+            JSONFactory.newFactory().newParser().parseParallel(path);
+            fail("Expected an object root to be rejected");
+        } catch (final JSONParserException e) {
+            assertEquals("Parallel parsing requires a document whose root is an array", e.getMessage());
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testTrailingContentRejected() throws IOException {
+        final Path path = writeTempFile("[1, 2] garbage");
+        try {
+            JSONFactory.newFactory().newParser().parseParallel(path);
+            fail("Expected content after the root array to be rejected");
+        } catch (final JSONParserException e) {
+            assertEquals("Unexpected character after the root array: g", e.getMessage());
+        } finally {
+            Files.delete(path);
+        }
+
+        final Path whitespace = writeTempFile("[1, 2] \r\n\t ");
+        try {
+            assertEquals(2, JSONFactory.newFactory().newParser().parseParallel(whitespace).size());
+        } finally {
+            Files.delete(whitespace);
+        }
+    }
+
+    @Test
+    public void testErrorReportsFileLocation() throws IOException {
+        assertErrorLocation(",\n", 152);
+        // the error is on the first line of its chunk
+        assertErrorLocation(", ", 2);
+    }
+
+    private void assertErrorLocation(String separator, long line) throws IOException {
+        final StringBuilder data = new StringBuilder("[\n");
+        for (int i = 0; i < 200; i++) {
+            data.append(i == 0 ? "" : separator).append("  {\"id\": ").append(i).append(i == 150 ? ", \"x\": @}" : "}");
+        }
+        data.append("\n]");
+
+        final JSONEventParserException expected = sequentialError(data.toString());
+        assertEquals(line, expected.getLineNumber());
+
+        final Path path = writeTempFile(data.toString());
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (final long chunkSize : new long[] {1, 64, 1000, 1L << 20}) {
+                try {
+                    new ParallelArrayParser(pool, value -> { }, chunkSize).parse(path);
+                    fail("Expected the invalid element to be rejected");
+                } catch (final JSONEventParserException e) {
+                    assertEquals("chunk size " + chunkSize, expected.getMessage(), e.getMessage());
+                    assertEquals(expected.getLineNumber(), e.getLineNumber());
+                    assertEquals(expected.getLinePosition(), e.getLinePosition());
+                }
+            }
+        } finally {
+            pool.shutdown();
+            Files.delete(path);
+        }
+    }
+
+    private static JSONEventParserException sequentialError(String data) {
+        try {
+            ParserPipeline.get().parse(Collections.singletonList(ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8))).iterator(), "UTF-8");
+        } catch (final JSONEventParserException e) {
+            return e;
+        }
+        throw new AssertionError("Expected the document to be rejected");
+    }
+
+    private Path writeTempFile(String data) throws IOException {
+        final Path path = Files.createTempFile("parallel", ".json");
+        Files.write(path, data.getBytes(StandardCharsets.UTF_8));
+        return path;
+    }
+}
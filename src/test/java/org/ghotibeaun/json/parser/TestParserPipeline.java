@@ -0,0 +1,167 @@
+package org.ghotibeaun.json.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.ghotibeaun.json.JSONFactory;
+import org.ghotibeaun.json.JSONNode;
+import org.ghotibeaun.json.exception.JSONParserException;
+import org.ghotibeaun.json.factory.FactorySettings;
+import org.ghotibeaun.json.factory.Setting;
+import org.ghotibeaun.json.parser.jep.ParseStatistics;
+import org.junit.Test;
+
+public class TestParserPipeline {
+
+    @Test
+    public void testReusedBetweenDocuments() {
+        final ParserPipeline pipeline = ParserPipeline.get();
+        assertSame(pipeline, ParserPipeline.get());
+
+        final JSONNode first = pipeline.parse(stream("{\"a\": [1, {\"b\": \"x\"}]}"), "UTF-8");
+        final JSONNode second = pipeline.parse(stream("[true, null, {\"c\": 2.5}]"), "UTF-8");
+
+        assertNotSame(first, second);
+        assertEquals("{\"a\":[1,{\"b\":\"x\"}]}", first.toJSONString());
+        assertEquals("[true,null,{\"c\":2.5}]", second.toJSONString());
+        assertSame(pipeline, ParserPipeline.get());
+    }
+
+    @Test
+    public void testRebuiltWhenClassesChange() {
+        final ParserPipeline pipeline = ParserPipeline.get();
+
+        FactorySettings.applySetting(Setting.DATE_FORMAT, FactorySettings.getSetting(Setting.DATE_FORMAT));
+        assertSame(pipeline, ParserPipeline.get());
+
+        FactorySettings.applySetting(Setting.EVENT_PROCESSOR_CLASS, "org.ghotibeaun.json.parser.jep.processor.JSONTableEventProcessor");
+        try {
+            final ParserPipeline table = ParserPipeline.get();
+            assertNotSame(pipeline, table);
+            assertSame(table, ParserPipeline.get());
+        } finally {
+            FactorySettings.applySetting(Setting.EVENT_PROCESSOR_CLASS, FactorySettings.getDefaultSetting(Setting.EVENT_PROCESSOR_CLASS));
+        }
+
+        assertNotSame(pipeline, ParserPipeline.get());
+    }
+
+    @Test
+    public void testResetAfterError() {
+        final JSONParser parser = JSONFactory.newFactory().newParser();
+        try {
+            parser.parse(stream("{\"a\": {\"b\": [1, @]}}"));
+            fail("Expected an invalid document to be rejected");
+        } catch (final JSONParserException e) {
+            // expected
+        }
+
+        assertEquals("{\"c\":3}", parser.parse(stream("{\"c\": 3}")).toJSONString());
+    }
+
+    @Test
+    public void testCharacterSetPerDocument() {
+        final JSONParser parser = JSONFactory.newFactory().newParser();
+        final String text = "{\"k\":\"caf\u00e9\"}";
+
+        assertEquals(text, parser.parse(new ByteArrayInputStream(text.getBytes(StandardCharsets.ISO_8859_1)), "ISO-8859-1").toJSONString());
+        assertEquals(text, parser.parse(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), "UTF-8").toJSONString());
+    }
+
+    @Test
+    public void testStatistics() {
+        final JSONParser parser = JSONFactory.newFactory().newParser();
+        assertNull(parser.getStatistics());
+
+        parser.setEnableStatistics(true);
+        parser.parse(stream("{\"a\": [1, {\"b\": \"x\"}], \"c\": null}"));
+
+        final ParseStatistics statistics = parser.getStatistics();
+        assertEquals(33, statistics.getBytesRead());
+        assertEquals(3, statistics.getKeyCount());
+        assertEquals(3, statistics.getMaxDepth());
+        assertEquals(6, statistics.getNodesCreated());
+
+        parser.parse(stream("[]"));
+        assertEquals(33, statistics.getBytesRead());
+        assertEquals(2, parser.getStatistics().getBytesRead());
+
+        parser.setEnableStatistics(false);
+        assertNull(parser.getStatistics());
+    }
+
+    @Test
+    public void testParseFile() throws Exception {
+        final String json = "{\"a\": [1, {\"b\": \"caf\u00e9\"}], \"c\": null}";
+        final Path path = Files.createTempFile("pipeline", ".json");
+        try {
+            Files.write(path, json.getBytes(StandardCharsets.UTF_8));
+            final JSONParser parser = JSONFactory.newFactory().newParser();
+            parser.setEnableStatistics(true);
+
+            final String expected = parser.parse(stream(json)).toJSONString();
+            assertEquals(expected, parser.parse(path).toJSONString());
+            assertEquals(Files.size(path), parser.getStatistics().getBytesRead());
+            assertEquals(expected, parser.parse(path.toFile()).toJSONString());
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testSharedBetweenThreads() throws Exception {
+        final JSONParser parser = JSONFactory.newFactory().newParser();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            final List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                final int thread = t;
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        final String json = "{\"thread\":" + thread + ",\"i\":" + i + ",\"items\":[" + i + ",\"" + thread + "\"]}";
+                        assertEquals(json, parser.parse(stream(json)).toJSONString());
+                    }
+                    return null;
+                }));
+            }
+
+            for (final Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testByteProcessorReusedBetweenDocuments() {
+        FactorySettings.applySetting(Setting.EVENT_PROCESSOR_CLASS, "org.ghotibeaun.json.parser.jep.processor.JSONByteEventProcessor");
+        try {
+            final JSONParser parser = JSONFactory.newFactory().newParser();
+            assertEquals("{\"a\":[1,{\"b\":\"x\"}]}", parser.parse(stream("{\"a\": [1, {\"b\": \"x\"}]}")).toJSONString());
+            assertEquals("{\"c\":true}", parser.parse(stream("{\"c\": true}")).toJSONString());
+            assertEquals("[1,{\"d\":[null]},2.5]", parser.parse(stream("[1, {\"d\": [null]}, 2.5]")).toJSONString());
+        } finally {
+            FactorySettings.applySetting(Setting.EVENT_PROCESSOR_CLASS, FactorySettings.getDefaultSetting(Setting.EVENT_PROCESSOR_CLASS));
+        }
+    }
+
+    private static InputStream stream(String data) {
+        return new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8));
+    }
+}
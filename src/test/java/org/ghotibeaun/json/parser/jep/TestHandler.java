@@ -1,6 +1,7 @@
 package org.ghotibeaun.json.parser.jep;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.ArrayDeque;
 
 import org.ghotibeaun.json.JSONArray;
@@ -160,6 +161,14 @@ public class TestHandler extends StackEventHandler {
         final long e = System.nanoTime();
         totalAssemblyTime += (e-s);
     }
+
+    @Override
+    public void valueBigInteger(String key, BigInteger value) {
+        final long s = System.nanoTime();
+        appendToCurrent(key, NodeFactory.newNumberValue(value));
+        final long e = System.nanoTime();
+        totalAssemblyTime += (e-s);
+    }
     
     @Override
     public void valueDouble(String key, Double value) {
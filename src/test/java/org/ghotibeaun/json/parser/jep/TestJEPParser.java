@@ -1,5 +1,7 @@
 package org.ghotibeaun.json.parser.jep;
 
+import static org.junit.Assert.assertEquals;
+
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -103,6 +105,20 @@ public class TestJEPParser {
         System.out.println("----------------------");
     }
 
+    @Test
+    public void testParseMappedPathMatchesStream() throws IOException {
+        final Path p = Paths.get("src/test/resources/us-reps.json");
+        final JSONEventParserImpl impl = new JSONEventParserImpl();
+
+        final TestHandler streamHandler = new TestHandler();
+        impl.parse(p, ParserSettings.newSettings(streamHandler).setUseMemoryMappedFiles(false));
+
+        final TestHandler mappedHandler = new TestHandler();
+        impl.parse(p.toFile(), ParserSettings.newSettings(mappedHandler).setUseMemoryMappedFiles(true));
+
+        assertEquals(streamHandler.getResult().toJSONString(), mappedHandler.getResult().toJSONString());
+    }
+
 
 
 }
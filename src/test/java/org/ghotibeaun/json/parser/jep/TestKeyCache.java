@@ -0,0 +1,61 @@
+package org.ghotibeaun.json.parser.jep;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.nio.charset.StandardCharsets;
+
+import org.ghotibeaun.json.JSONArray;
+import org.ghotibeaun.json.JSONObject;
+import org.junit.Test;
+
+public class TestKeyCache {
+
+    @Test
+    public void testCanonicalKeys() {
+        final KeyCache cache = new KeyCache();
+        final byte[] data = bytes("\"name\":1,\"name\":2,\"na\\u006de\":3");
+
+        final String first = cache.get(data, 1, 4, StandardCharsets.UTF_8);
+        assertEquals("name", first);
+        assertSame(first, cache.get(data, 10, 4, StandardCharsets.UTF_8));
+        assertEquals("name", cache.get(data, 19, 9, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testBounded() {
+        final KeyCache cache = new KeyCache(4);
+        final String first = cache.get(bytes("k0"), 0, 2, StandardCharsets.UTF_8);
+
+        for (int i = 0; i < 100; i++) {
+            final String key = "k" + i;
+            assertEquals(key, cache.get(bytes(key), 0, key.length(), StandardCharsets.UTF_8));
+        }
+
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i <= KeyCache.MAX_KEY_LENGTH; i++) {
+            builder.append('x');
+        }
+        final byte[] longKey = bytes(builder.toString());
+        assertEquals(builder.toString(), cache.get(longKey, 0, longKey.length, StandardCharsets.UTF_8));
+        assertNotSame(cache.get(longKey, 0, longKey.length, StandardCharsets.UTF_8), cache.get(longKey, 0, longKey.length, StandardCharsets.UTF_8));
+        assertEquals(first, cache.get(bytes("k0"), 0, 2, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testParsedKeysAreShared() {
+        final TestHandler handler = new TestHandler();
+        EventParser.newEventParser().parse("[{\"id\": 1, \"name\": \"a\"}, {\"id\": 2, \"name\": \"b\"}]", ParserSettings.newSettings(handler));
+        final JSONArray array = handler.getResult().asJSONArray();
+
+        final JSONObject first = array.getJSONObject(0);
+        final JSONObject second = array.getJSONObject(1);
+        assertSame(first.keySet().next(), second.keySet().next());
+        assertEquals("b", second.getString("name"));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
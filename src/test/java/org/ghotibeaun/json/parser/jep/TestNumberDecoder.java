@@ -0,0 +1,147 @@
+package org.ghotibeaun.json.parser.jep;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.ghotibeaun.json.JSONArray;
+import org.ghotibeaun.json.exception.JSONEventParserException;
+import org.junit.Test;
+
+public class TestNumberDecoder {
+
+    @Test
+    public void testParseLong() {
+        for (final String value : new String[] {"0", "-0", "7", "-42", "123456789012345678", "-999999999999999999",
+                "9223372036854775807", "-9223372036854775808", "0009223372036854775807"}) {
+            assertEquals(value, Long.parseLong(value), NumberDecoder.parseLong(bytes(value), 0, value.length()));
+        }
+
+        for (final String value : new String[] {"9223372036854775808", "-9223372036854775809", "-", "", "1x", "1.5"}) {
+            try {
+                NumberDecoder.parseLong(bytes(value), 0, value.length());
+                fail("Expected " + value + " to be rejected");
+            } catch (final NumberFormatException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void testParseDouble() {
+        for (final String value : new String[] {"0", "-0", "0.0", "1e5", "1E+5", "2.5e-3", "-12.75", "0.1", "0.3",
+                "123456789012345", "1234567890123456789", "1.7976931348623157e308", "4.9e-324", "1e-400", "1e400",
+                "0.000000000000000000000000001", "3.141592653589793", "100000000000000000000000", "1."}) {
+            assertEquals(value, Double.doubleToLongBits(Double.parseDouble(value)),
+                    Double.doubleToLongBits(NumberDecoder.parseDouble(bytes(value), 0, value.length())));
+        }
+
+        final Random random = new Random(42);
+        for (int i = 0; i < 100000; i++) {
+            final String value = random.nextInt(1000000) + "." + random.nextInt(1000000) + "e" + (random.nextInt(60) - 30);
+            assertEquals(value, Double.parseDouble(value), NumberDecoder.parseDouble(bytes(value), 0, value.length()), 0);
+        }
+    }
+
+    @Test
+    public void testParseDoubleFullPrecision() {
+        for (final String value : new String[] {"2.4703282292062328e-324", "2.4703282292062327e-324", "1.7976931348623158e308",
+                "1.7976931348623159e308", "2.2250738585072011e-308", "1e23", "9007199254740993",
+                "9007199254740993.0000000000000000001", "123456789012345678901234567890", "1e99999999999", "0e99999"}) {
+            assertDouble(value);
+        }
+
+        final Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            final double value = Double.longBitsToDouble(random.nextLong());
+            if (!Double.isNaN(value) && !Double.isInfinite(value)) {
+                assertDouble(Double.toString(value));
+                if (!Double.isInfinite(Math.nextUp(value))) {
+                    // halfway between two doubles, which needs every digit
+                    assertDouble(new BigDecimal(value).add(new BigDecimal(Math.nextUp(value))).divide(BigDecimal.valueOf(2)).toString());
+                }
+            }
+
+            final StringBuilder digits = new StringBuilder(random.nextBoolean() ? "-" : "");
+            for (int d = random.nextInt(25); d >= 0; d--) {
+                digits.append(random.nextInt(10));
+            }
+            assertDouble(digits.append('.').append(random.nextInt(1000)).append('e').append(random.nextInt(700) - 360).toString());
+        }
+    }
+
+    @Test
+    public void testParseFloat() {
+        for (final String value : new String[] {"0", "-0", "0.1", "1e-46", "1.4e-45", "7.0e-46", "3.4028235e38", "3.4028236e38",
+                "1e39", "16777217", "1.00000005960464477550", "8.589973e9"}) {
+            assertFloat(value);
+        }
+
+        final Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            final float value = Float.intBitsToFloat(random.nextInt());
+            if (!Float.isNaN(value) && !Float.isInfinite(value)) {
+                assertFloat(Float.toString(value));
+                if (!Float.isInfinite(Math.nextUp(value))) {
+                    assertFloat(new BigDecimal(value).add(new BigDecimal(Math.nextUp(value))).divide(BigDecimal.valueOf(2)).toString());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testParseOffset() {
+        final byte[] data = bytes("[12.5, -7]");
+        assertEquals(12.5, NumberDecoder.parseDouble(data, 1, 4), 0);
+        assertEquals(-7L, NumberDecoder.parseLong(data, 7, 2));
+        assertEquals(new BigDecimal("12.5"), NumberDecoder.parseBigDecimal(data, 1, 4));
+    }
+
+    @Test
+    public void testWidening() {
+        final String data = "[1e5, 2147483648, 9223372036854775808, 12, 1.5]";
+
+        final JSONArray asInteger = parse(data, NonFloatingPointNumber.INTEGER);
+        assertEquals(Double.class, asInteger.get(0).getValue().getClass());
+        assertEquals(Long.class, asInteger.get(1).getValue().getClass());
+        assertEquals("9223372036854775808", asInteger.get(2).getValue().toString());
+        assertEquals(Integer.class, asInteger.get(3).getValue().getClass());
+
+        final JSONArray asBigInteger = parse(data, NonFloatingPointNumber.BIG_INTEGER);
+        assertEquals("[100000.0,2147483648,9223372036854775808,12,1.5]", asBigInteger.toJSONString());
+    }
+
+    @Test
+    public void testInvalidNumber() {
+        try {
+            parse("[1-2]", NonFloatingPointNumber.LONG);
+            fail("Expected an invalid number to be rejected");
+        } catch (final JSONEventParserException e) {
+            // expected
+        }
+    }
+
+    private static void assertDouble(String value) {
+        assertEquals(value, Double.doubleToRawLongBits(Double.parseDouble(value)),
+                Double.doubleToRawLongBits(NumberDecoder.parseDouble(bytes(value), 0, value.length())));
+    }
+
+    private static void assertFloat(String value) {
+        assertEquals(value, Float.floatToRawIntBits(Float.parseFloat(value)),
+                Float.floatToRawIntBits(NumberDecoder.parseFloat(bytes(value), 0, value.length())));
+    }
+
+    private static JSONArray parse(String data, NonFloatingPointNumber type) {
+        final TestHandler handler = new TestHandler();
+        final ParserSettings settings = ParserSettings.newSettings(handler).setUseNonFloatingPointType(type);
+        EventParser.newEventParser().parse(data, settings);
+        return handler.getResult().asJSONArray();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
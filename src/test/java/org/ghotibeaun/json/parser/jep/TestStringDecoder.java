@@ -0,0 +1,102 @@
+package org.ghotibeaun.json.parser.jep;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.ghotibeaun.json.JSONObject;
+import org.ghotibeaun.json.exception.JSONEventParserException;
+import org.junit.Test;
+
+public class TestStringDecoder {
+
+    @Test
+    public void testPlain() {
+        for (final String value : new String[] {"", "a", "abcdefg", "abcdefgh", "the quick brown fox jumps over the lazy dog"}) {
+            assertEquals(value, decode(value));
+        }
+
+        final byte[] data = "[\"abc\", \"defghijkl\"]".getBytes(StandardCharsets.UTF_8);
+        assertEquals("defghijkl", StringDecoder.decode(data, 9, 9, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testPlainLength() {
+        final byte[] data = "abcdefghijklmnop\\qrs".getBytes(StandardCharsets.UTF_8);
+        assertEquals(16, StringDecoder.plainLength(data, 0, data.length));
+        assertEquals(13, StringDecoder.plainLength(data, 3, data.length - 3));
+        assertEquals(8, StringDecoder.plainLength(data, 0, 8));
+    }
+
+    @Test
+    public void testEscapes() {
+        assertEquals("a\"b\\c/d\be\ff\ng\rh\ti", decode("a\\\"b\\\\c\\/d\\be\\ff\\ng\\rh\\ti"));
+        assertEquals("http://example.com", decode("http:\\/\\/example.com"));
+        assertEquals("\u00e9\u4e2d", decode("\\u00e9\\u4E2D"));
+        assertEquals("\ud83d\ude00", decode("\\ud83d\\ude00"));
+    }
+
+    @Test
+    public void testUTF8() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 10000; i++) {
+            final StringBuilder builder = new StringBuilder();
+            for (int j = random.nextInt(40); j > 0; j--) {
+                final int codePoint = random.nextInt(4) == 0 ? random.nextInt(0x1F000) : 0x20 + random.nextInt(0x5F);
+                if (codePoint != '\\' && (codePoint < 0xD800 || codePoint > 0xDFFF)) {
+                    builder.appendCodePoint(codePoint);
+                }
+            }
+            final String value = builder.toString();
+            assertEquals(value, decode(value));
+        }
+    }
+
+    @Test
+    public void testOtherCharset() {
+        final byte[] data = "caf\u00e9 \\n".getBytes(StandardCharsets.ISO_8859_1);
+        assertEquals("caf\u00e9 \n", StringDecoder.decode(data, 0, data.length, StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    public void testInvalidEscape() {
+        for (final String value : new String[] {"a\\x", "\\u12", "\\u12g4", "abc\\"}) {
+            try {
+                decode(value);
+                fail("Expected " + value + " to be rejected");
+            } catch (final IllegalArgumentException e) {
+                // expected
+            }
+        }
+
+        try {
+            parse("{\"a\": \"b\\qc\"}");
+            fail("Expected an invalid escape to be rejected");
+        } catch (final JSONEventParserException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testRoundTrip() {
+        final JSONObject object = parse("{\"k\\\"ey\": \"line\\nbreak \\\\ \\\"quoted\\\" \\u0001 caf\\u00e9\"}");
+        assertEquals("line\nbreak \\ \"quoted\" \u0001 caf\u00e9", object.getString("k\"ey"));
+
+        final String json = object.toJSONString();
+        assertEquals("{\"k\\\"ey\":\"line\\nbreak \\\\ \\\"quoted\\\" \\u0001 caf\u00e9\"}", json);
+        assertEquals(object.getString("k\"ey"), parse(json).getString("k\"ey"));
+    }
+
+    private static JSONObject parse(String data) {
+        final TestHandler handler = new TestHandler();
+        EventParser.newEventParser().parse(data, ParserSettings.newSettings(handler));
+        return handler.getResult().asJSONObject();
+    }
+
+    private static String decode(String value) {
+        final byte[] data = value.getBytes(StandardCharsets.UTF_8);
+        return StringDecoder.decode(data, 0, data.length, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,81 @@
+package org.ghotibeaun.json.parser.jep.processor;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+import org.ghotibeaun.json.JSONNode;
+import org.ghotibeaun.json.parser.jep.ParserConfiguration;
+import org.ghotibeaun.json.parser.jep.ParserSettings;
+import org.ghotibeaun.json.parser.jep.TestHandler;
+import org.ghotibeaun.json.parser.jep.eventprovider.EventProvider;
+
+/**
+ * Helpers shared by the processor tests: a corpus of test resources, binding a processor to a {@link TestHandler}
+ * with the default provider, and parsing a resource or string with it.  Documents are read in 1KB blocks so that
+ * tokens cross block boundaries.
+ */
+final class ProcessorTests {
+
+    /**
+     * Documents every processor must parse to the same result
+     */
+    static final String[] RESOURCES = {"/observation-fhir.json", "/us-reps.json", "/books.json",
+            "/makes.json", "/classes.json", "/marshallingTest2.json", "/valueConverterTest1.json"};
+
+    private ProcessorTests() {
+        //private to prevent instantiation
+    }
+
+    /**
+     * Bind a processor and handler to new settings
+     * @param processor the processor
+     * @param handler the handler
+     * @return the settings
+     */
+    static ParserSettings bind(JSONEventProcessor processor, TestHandler handler) {
+        return new ParserSettings(ParserConfiguration.newConfiguration(handler, processor, EventProvider.newDefaultEventProvider()));
+    }
+
+    /**
+     * Parse each of the {@link #RESOURCES} with a new processor of each kind and check that the documents match
+     * @param expected creates the processor whose result is expected
+     * @param actual creates the processor under test
+     * @throws IOException if a resource can't be read
+     */
+    static void assertSameDocuments(Supplier<EventProcessor> expected, Supplier<EventProcessor> actual) throws IOException {
+        for (final String resource : RESOURCES) {
+            assertEquals(resource, parseResource(expected.get(), resource).toJSONString(),
+                    parseResource(actual.get(), resource).toJSONString());
+        }
+    }
+
+    static JSONNode parseResource(EventProcessor processor, String resource) throws IOException {
+        try (InputStream stream = ProcessorTests.class.getResourceAsStream(resource)) {
+            return parse(processor, stream, false);
+        }
+    }
+
+    static JSONNode parseString(EventProcessor processor, String data, boolean strict) {
+        return parse(processor, stream(data), strict);
+    }
+
+    static JSONNode parse(EventProcessor processor, InputStream stream, boolean strict) {
+        return parse(processor, stream, strict, false);
+    }
+
+    static JSONNode parse(EventProcessor processor, InputStream stream, boolean strict, boolean reuseEvents) {
+        final TestHandler handler = new TestHandler();
+        bind(processor, handler).setUseStrict(strict).setBlockSize(1).setReuseEvents(reuseEvents);
+        processor.start(stream);
+        return handler.getResult();
+    }
+
+    static InputStream stream(String data) {
+        return new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8));
+    }
+}
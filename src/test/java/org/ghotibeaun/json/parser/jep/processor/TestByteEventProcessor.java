@@ -0,0 +1,30 @@
+package org.ghotibeaun.json.parser.jep.processor;
+
+import static org.ghotibeaun.json.parser.jep.processor.ProcessorTests.assertSameDocuments;
+import static org.ghotibeaun.json.parser.jep.processor.ProcessorTests.parseString;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+public class TestByteEventProcessor {
+
+    @Test
+    public void testMatchesBufferedProcessor() throws IOException {
+        assertSameDocuments(JSONBufferedEventProcessor::new, JSONByteEventProcessor::new);
+    }
+
+    @Test
+    public void testRootArray() {
+        assertEquals("[1,{\"d\":[null]},2.5]", parseString(new JSONByteEventProcessor(), "[1, {\"d\": [null]}, 2.5]", false).toJSONString());
+    }
+
+    @Test
+    public void testReusedBetweenDocuments() {
+        final JSONByteEventProcessor processor = new JSONByteEventProcessor();
+        assertEquals("{\"a\":[1,{\"b\":\"x\"}]}", parseString(processor, "{\"a\": [1, {\"b\": \"x\"}]}", false).toJSONString());
+        assertEquals("{\"c\":true}", parseString(processor, "{\"c\": true}", false).toJSONString());
+        assertEquals("[2,[]]", parseString(processor, "[2, []]", false).toJSONString());
+    }
+}
@@ -0,0 +1,63 @@
+package org.ghotibeaun.json.parser.jep.processor;
+
+import static org.ghotibeaun.json.parser.jep.processor.ProcessorTests.assertSameDocuments;
+import static org.ghotibeaun.json.parser.jep.processor.ProcessorTests.bind;
+import static org.ghotibeaun.json.parser.jep.processor.ProcessorTests.stream;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+
+import org.ghotibeaun.json.JSONNode;
+import org.ghotibeaun.json.exception.JSONEventParserException;
+import org.ghotibeaun.json.parser.jep.TestHandler;
+import org.ghotibeaun.json.parser.jep.eventhandler.event.JSONEvent;
+import org.junit.Test;
+
+public class TestDirectEventProcessor {
+
+    @Test
+    public void testMatchesTableProcessor() throws IOException {
+        assertSameDocuments(JSONTableEventProcessor::new, JSONDirectEventProcessor::new);
+    }
+
+    @Test
+    public void testNestedContainers() {
+        final String data = "[[1, [\"a\"]], {\"x\": {\"y\": [{\"z\": null}, false]}, \"w\": 2.5}, []]";
+        assertEquals(parseString(new JSONTableEventProcessor(), data).toJSONString(),
+                parseString(new JSONDirectEventProcessor(), data).toJSONString());
+    }
+
+    @Test
+    public void testBypassesEvents() {
+        final TestHandler handler = new TestHandler() {
+            @Override
+            public void handleEvent(JSONEvent event) {
+                fail("Direct processor should not dispatch events");
+            }
+        };
+        final JSONNode node = parse(new JSONDirectEventProcessor(), handler, "{\"a\": [1, \"two\", true, null]}");
+        assertEquals("{\"a\":[1,\"two\",true,null]}", node.toJSONString());
+    }
+
+    @Test
+    public void testMismatchedClose() {
+        try {
+            parseString(new JSONDirectEventProcessor(), "{\"a\": [1, 2}");
+            fail("Expected mismatched brackets to be rejected");
+        } catch (final JSONEventParserException e) {
+            assertTrue(e.getMessage().contains("JSON Stack Error"));
+        }
+    }
+
+    private JSONNode parseString(EventProcessor processor, String data) {
+        return parse(processor, new TestHandler(), data);
+    }
+
+    private JSONNode parse(EventProcessor processor, TestHandler handler, String data) {
+        bind(processor, handler);
+        processor.start(stream(data));
+        return handler.getResult();
+    }
+}
@@ -0,0 +1,141 @@
+package org.ghotibeaun.json.parser.jep.processor;
+
+import static org.ghotibeaun.json.parser.jep.processor.ProcessorTests.RESOURCES;
+import static org.ghotibeaun.json.parser.jep.processor.ProcessorTests.bind;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.ghotibeaun.json.exception.JSONEventParserException;
+import org.ghotibeaun.json.parser.jep.EventParser;
+import org.ghotibeaun.json.parser.jep.ParserSettings;
+import org.ghotibeaun.json.parser.jep.TestHandler;
+import org.junit.Test;
+
+public class TestFeedableEventProcessor {
+
+    @Test
+    public void testFeedMatchesStream() throws IOException {
+        for (final String resource : RESOURCES) {
+            final byte[] data = read(resource);
+            assertFeedMatchesStream(resource, new JSONTableEventProcessor(), new JSONTableEventProcessor(), data);
+            assertFeedMatchesStream(resource, new JSONBufferedEventProcessor(), new JSONBufferedEventProcessor(), data);
+        }
+    }
+
+    @Test
+    public void testTokensSplitAcrossFeeds() {
+        final byte[] data = "{\"key\": \"a longer string value\", \"n\": -12.5e3, \"t\": true, \"f\": false, \"z\": null}"
+                .getBytes(StandardCharsets.UTF_8);
+        final String expected = parse(new JSONTableEventProcessor(), data, data.length, false);
+
+        for (int size = 1; size < data.length; size++) {
+            assertEquals(expected, parse(new JSONTableEventProcessor(), data, size, false));
+            assertEquals(expected, parse(new JSONBufferedEventProcessor(), data, size, true));
+        }
+    }
+
+    @Test
+    public void testStartWithBuffers() throws IOException {
+        for (final String resource : RESOURCES) {
+            final byte[] data = read(resource);
+            final String expected = parse(new JSONBufferedEventProcessor(), data, data.length, false);
+            assertEquals(resource, expected, start(new JSONBufferedEventProcessor(), data, 1000));
+            assertEquals(resource, expected, start(new JSONTableEventProcessor(), data, 1000));
+        }
+    }
+
+    @Test
+    public void testNextDocumentAfterEndOfInput() {
+        final JSONTableEventProcessor processor = new JSONTableEventProcessor();
+        assertEquals("[1,2]", parse(processor, "[1, 2]".getBytes(StandardCharsets.UTF_8), 2, false));
+        assertEquals("{\"a\":[true]}", parse(processor, "{\"a\": [true]}".getBytes(StandardCharsets.UTF_8), 3, false));
+    }
+
+    @Test
+    public void testEndOfInputInString() {
+        final JSONTableEventProcessor processor = new JSONTableEventProcessor();
+        bind(processor, new TestHandler());
+        processor.feed(ByteBuffer.wrap("{\"a\": \"unterminated".getBytes(StandardCharsets.UTF_8)));
+        try {
+            processor.endOfInput();
+            fail("Expected the unterminated string to be rejected");
+        } catch (final JSONEventParserException e) {
+            assertTrue(e.getMessage().contains("Unexpected end of input"));
+        }
+    }
+
+    @Test
+    public void testNewFeedableProcessor() {
+        final TestHandler handler = new TestHandler();
+        final JSONFeedableEventProcessor processor = EventParser.newEventParser()
+                .newFeedableProcessor(ParserSettings.newSettings(handler));
+        processor.feed(ByteBuffer.wrap("{\"a\": ".getBytes(StandardCharsets.UTF_8)));
+        processor.feed(ByteBuffer.wrap("[1, \"b\"]}".getBytes(StandardCharsets.UTF_8)));
+        processor.endOfInput();
+        assertEquals("{\"a\":[1,\"b\"]}", handler.getResult().toJSONString());
+    }
+
+    private void assertFeedMatchesStream(String resource, EventProcessor streamed, JSONFeedableEventProcessor fed, byte[] data) throws IOException {
+        final TestHandler expected = new TestHandler();
+        bind(streamed, expected);
+        try (InputStream stream = getClass().getResourceAsStream(resource)) {
+            streamed.start(stream);
+        }
+
+        final TestHandler actual = new TestHandler();
+        bind(fed, actual);
+        final ByteBuffer direct = ByteBuffer.allocateDirect(7);
+        for (int offset = 0; offset < data.length; offset += direct.capacity()) {
+            direct.clear();
+            direct.put(data, offset, Math.min(direct.capacity(), data.length - offset));
+            direct.flip();
+            fed.feed(direct);
+            assertEquals(0, direct.remaining());
+        }
+        fed.endOfInput();
+
+        assertEquals(resource, expected.getResult().toJSONString(), actual.getResult().toJSONString());
+    }
+
+    private static String parse(JSONFeedableEventProcessor processor, byte[] data, int size, boolean copy) {
+        final TestHandler handler = new TestHandler();
+        bind(processor, handler);
+        for (int offset = 0; offset < data.length; offset += size) {
+            final int length = Math.min(size, data.length - offset);
+            processor.feed(copy ? ByteBuffer.wrap(Arrays.copyOfRange(data, offset, offset + length))
+                    : ByteBuffer.wrap(data, offset, length));
+        }
+        processor.endOfInput();
+        return handler.getResult().toJSONString();
+    }
+
+    private static String start(EventProcessor processor, byte[] data, int size) {
+        final List<ByteBuffer> buffers = new ArrayList<>();
+        for (int offset = 0; offset < data.length; offset += size) {
+            buffers.add(ByteBuffer.wrap(data, offset, Math.min(size, data.length - offset)).slice());
+        }
+
+        final TestHandler handler = new TestHandler();
+        bind(processor, handler);
+        processor.start(buffers.iterator());
+        for (final ByteBuffer buffer : buffers) {
+            assertEquals(0, buffer.remaining());
+        }
+        return handler.getResult().toJSONString();
+    }
+
+    private byte[] read(String resource) throws IOException {
+        try (InputStream stream = getClass().getResourceAsStream(resource)) {
+            return stream.readAllBytes();
+        }
+    }
+}
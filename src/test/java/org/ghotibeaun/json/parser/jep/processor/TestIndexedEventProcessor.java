@@ -0,0 +1,103 @@
+package org.ghotibeaun.json.parser.jep.processor;
+
+import static org.ghotibeaun.json.parser.jep.processor.ProcessorTests.assertSameDocuments;
+import static org.ghotibeaun.json.parser.jep.processor.ProcessorTests.bind;
+import static org.ghotibeaun.json.parser.jep.processor.ProcessorTests.parseString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.ghotibeaun.json.exception.JSONEventParserException;
+import org.ghotibeaun.json.parser.jep.TestHandler;
+import org.junit.Test;
+
+public class TestIndexedEventProcessor {
+
+    private static final String ESCAPED = "{\"quote\": \"say \\\"hi\\\"\", \"path\": \"a\\\\\", \"brackets\": \"[{,:}]\",\n"
+            + "\"n\": -12.5e3, \"list\": [true, false, null, 42, {\"k\": \"\\\\\\\"\"}], \"empty\": \"\"}";
+
+    @Test
+    public void testMatchesTableProcessor() throws IOException {
+        assertSameDocuments(JSONTableEventProcessor::new, JSONIndexedEventProcessor::new);
+    }
+
+    @Test
+    public void testBufferBoundaries() {
+        final String expected = parseString(new JSONTableEventProcessor(), ESCAPED, false).toJSONString();
+        final byte[] bytes = ESCAPED.getBytes(StandardCharsets.UTF_8);
+
+        for (int size = 1; size <= bytes.length; size++) {
+            final List<ByteBuffer> buffers = new ArrayList<>();
+            for (int i = 0; i < bytes.length; i += size) {
+                buffers.add(ByteBuffer.wrap(bytes, i, Math.min(size, bytes.length - i)).slice());
+            }
+
+            final TestHandler handler = new TestHandler();
+            final EventProcessor processor = new JSONIndexedEventProcessor();
+            bind(processor, handler);
+            processor.start(buffers.iterator());
+            assertEquals("buffer size " + size, expected, handler.getResult().toJSONString());
+        }
+    }
+
+    @Test
+    public void testMatches() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 10000; i++) {
+            final long word = i % 2 == 0 ? random.nextLong() : random.nextLong() & 0x0101010101010101L * (random.nextInt(3) + 0x5b);
+            final int target = random.nextInt(256);
+            long expected = 0;
+            for (int b = 0; b < 8; b++) {
+                if ((word >>> b * 8 & 0xff) == target) {
+                    expected |= 1L << b;
+                }
+            }
+            assertEquals(expected, JSONIndexedEventProcessor.gather(JSONIndexedEventProcessor.matches(word, 0x0101010101010101L * target)));
+        }
+    }
+
+    @Test
+    public void testPrefixXor() {
+        assertEquals(0b1100_0011_1100L, JSONIndexedEventProcessor.prefixXor(0b1000_0100_0100_0100L) & 0xfff);
+        assertEquals(-1L, JSONIndexedEventProcessor.prefixXor(1L));
+    }
+
+    @Test
+    public void testInvalidLiteral() {
+        try {
+            parseString(new JSONIndexedEventProcessor(), "{\"a\": tru}", false);
+            fail("Expected invalid boolean to be rejected");
+        } catch (final JSONEventParserException e) {
+            assertTrue(e.getMessage().startsWith("Unexpected boolean value"));
+        }
+    }
+
+    @Test
+    public void testStrictSolidus() {
+        assertEquals("{\"a\":\"http://example.com\"}",
+                parseString(new JSONIndexedEventProcessor(), "{\"a\": \"http:\\/\\/example.com\"}", true).toJSONString());
+        try {
+            parseString(new JSONIndexedEventProcessor(), "{\"a\": \"http://example.com\"}", true);
+            fail("Expected unescaped solidus to be rejected in strict mode");
+        } catch (final JSONEventParserException e) {
+            assertTrue(e.getMessage().contains("solidus"));
+        }
+    }
+
+    @Test
+    public void testUnterminatedString() {
+        try {
+            parseString(new JSONIndexedEventProcessor(), "{\"a\": \"abc}", false);
+            fail("Expected unterminated string to be rejected");
+        } catch (final JSONEventParserException e) {
+            assertTrue(e.getMessage().contains("end of input"));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.ghotibeaun.json.parser.jep.processor;
+
+import static org.ghotibeaun.json.parser.jep.processor.ProcessorTests.bind;
+import static org.ghotibeaun.json.parser.jep.processor.ProcessorTests.stream;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.ghotibeaun.json.parser.jep.ParseStatistics;
+import org.ghotibeaun.json.parser.jep.ParserSettings;
+import org.ghotibeaun.json.parser.jep.TestHandler;
+import org.junit.Test;
+
+public class TestParseStatistics {
+    private static final String DATA = "{\"a\": [1, 2.5, \"x\", true, null, {\"b\": {}}],\n \"c\": \"d\"}";
+
+    @Test
+    public void testCounts() {
+        final JSONEventProcessor[] processors = {
+                new JSONBufferedEventProcessor(), new JSONTableEventProcessor(), new JSONDirectEventProcessor(), new JSONIndexedEventProcessor()
+        };
+
+        for (final JSONEventProcessor processor : processors) {
+            final String name = processor.getClass().getSimpleName();
+            final ParserSettings settings = parse(processor, DATA, true);
+            final ParseStatistics statistics = settings.getStatistics();
+
+            assertEquals(name, DATA.length(), statistics.getBytesRead());
+            assertEquals(name, 3, statistics.getObjectCount());
+            assertEquals(name, 1, statistics.getArrayCount());
+            assertEquals(name, 3, statistics.getKeyCount());
+            assertEquals(name, 2, statistics.getStringCount());
+            assertEquals(name, 2, statistics.getNumberCount());
+            assertEquals(name, 1, statistics.getBooleanCount());
+            assertEquals(name, 1, statistics.getNullCount());
+            assertEquals(name, 13, statistics.getTokenCount());
+            assertEquals(name, 4, statistics.getMaxDepth());
+            assertTrue(name, statistics.getTotalNanos() > 0);
+            assertTrue(name, statistics.getReadNanos() > 0);
+            assertTrue(name, statistics.getProcessNanos() >= 0);
+
+            // counters start again with each document
+            processor.start(stream("[1]"));
+            assertEquals(name, 3, statistics.getBytesRead());
+            assertEquals(name, 2, statistics.getTokenCount());
+            assertEquals(name, 1, statistics.getMaxDepth());
+        }
+    }
+
+    @Test
+    public void testDisabled() {
+        final ParserSettings settings = parse(new JSONTableEventProcessor(), DATA, false);
+        assertNull(settings.getStatistics());
+    }
+
+    private static ParserSettings parse(JSONEventProcessor processor, String data, boolean statistics) {
+        final ParserSettings settings = bind(processor, new TestHandler()).setBlockSize(1).setEnableStatistics(statistics);
+
+        processor.start(stream(data));
+        return settings;
+    }
+}
@@ -0,0 +1,112 @@
+package org.ghotibeaun.json.parser.jep.processor;
+
+import static org.ghotibeaun.json.parser.jep.processor.ProcessorTests.bind;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.ghotibeaun.json.JSONArray;
+import org.ghotibeaun.json.JSONNode;
+import org.ghotibeaun.json.JSONObject;
+import org.ghotibeaun.json.parser.jep.EventParser;
+import org.ghotibeaun.json.parser.jep.ParserSettings;
+import org.ghotibeaun.json.parser.jep.TestHandler;
+import org.junit.Test;
+
+public class TestPathFilter {
+    private static final String DATA = "{\"id\": 7, \"skip\": {\"s\": \"}]\\\"{[\", \"n\": [1, [2, {}]]}, \"items\": ["
+            + "{\"id\": 1, \"name\": \"a\", \"tags\": [\"x\", \"y\"]}, {\"id\": 2, \"name\": \"b\", \"tags\": []}], \"flag\": true}";
+
+    @Test
+    public void testIncludePaths() {
+        assertEquals("{\"items\":[{\"id\":1},{\"id\":2}]}", parse(DATA, new String[] {"$.items[*].id"}, new String[0]));
+        assertEquals("{\"id\":7,\"flag\":true}", parse(DATA, new String[] {"$.id", "$.flag"}, new String[0]));
+        assertEquals("{\"items\":[{\"id\":2,\"name\":\"b\",\"tags\":[]}]}", parse(DATA, new String[] {"$.items[1]"}, new String[0]));
+        assertEquals("{\"skip\":{\"s\":\"}]\\\"{[\"}}", parse(DATA, new String[] {"$['skip'].s"}, new String[0]));
+        assertEquals("{\"items\":[{\"tags\":[\"y\"]},{\"tags\":[]}]}", parse(DATA, new String[] {"$.items.*.tags[1]"}, new String[0]));
+        assertEquals("{}", parse(DATA, new String[] {"$.missing"}, new String[0]));
+    }
+
+    @Test
+    public void testExcludePaths() {
+        assertEquals("{\"id\":7,\"items\":[{\"id\":1,\"name\":\"a\"},{\"id\":2,\"name\":\"b\"}],\"flag\":true}",
+                parse(DATA, new String[0], new String[] {"$.skip", "$.items[*].tags"}));
+        assertEquals("{\"items\":[{\"name\":\"a\",\"tags\":[\"x\",\"y\"]}]}",
+                parse(DATA, new String[] {"$.items"}, new String[] {"$.items[1]", "$.items[*].id"}));
+    }
+
+    @Test
+    public void testRootArray() {
+        final String data = "[{\"a\": 1, \"b\": [true, null]}, 2, \"three\", {\"a\": -4.5e1}]";
+        assertEquals("[{\"a\":1},{\"a\":-45.0}]", parse(data, new String[] {"$[*].a"}, new String[0]));
+        assertEquals("[2,\"three\"]", parse(data, new String[] {"$[1]", "$[2]"}, new String[0]));
+    }
+
+    @Test
+    public void testAcrossBlocks() throws IOException {
+        for (final JSONEventProcessor processor : new JSONEventProcessor[] {new JSONTableEventProcessor(), new JSONDirectEventProcessor()}) {
+            final TestHandler handler = new TestHandler();
+            bind(processor, handler).setBlockSize(1).setIncludePaths("$.Makes[*].make_id");
+
+            try (InputStream stream = getClass().getResourceAsStream("/makes.json")) {
+                processor.start(stream);
+            }
+
+            final JSONArray makes = handler.getResult().asJSONObject().getJSONArray("Makes");
+            assertTrue(makes.size() > 100);
+            final JSONObject first = makes.getJSONObject(0);
+            assertEquals("{\"make_id\":\"abarth\"}", first.toJSONString());
+            assertEquals(1, makes.getJSONObject(makes.size() - 1).size());
+        }
+    }
+
+    @Test
+    public void testProcessorReplaced() {
+        final TestHandler handler = new TestHandler();
+        final ParserSettings settings = bind(new JSONIndexedEventProcessor(), handler);
+        assertEquals(JSONIndexedEventProcessor.class, settings.getParserConfiguration().getEventProcessor().getClass());
+
+        settings.setIncludePaths("$.id");
+        assertTrue(settings.getParserConfiguration().getEventProcessor().supportsPathFilter());
+        EventParser.newEventParser().parse(DATA, settings);
+        assertEquals("{\"id\":7}", handler.getResult().toJSONString());
+    }
+
+    @Test
+    public void testInvalidPaths() {
+        for (final String path : new String[] {"items", "$.", "$[x]", "$[-1]", "$[0", "$.a..b", "$a"}) {
+            try {
+                ParserSettings.newSettings(new TestHandler()).setIncludePaths(path);
+                fail("Expected " + path + " to be rejected");
+            } catch (final IllegalArgumentException e) {
+                // expected
+            }
+        }
+
+        try {
+            ParserSettings.newSettings(new TestHandler()).setExcludePaths("$");
+            fail("Expected the root to be rejected as an exclude path");
+        } catch (final IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    private static String parse(String data, String[] includes, String[] excludes) {
+        String result = null;
+        for (final JSONEventProcessor processor : new JSONEventProcessor[] {new JSONTableEventProcessor(), new JSONDirectEventProcessor()}) {
+            final TestHandler handler = new TestHandler();
+            final ParserSettings settings = bind(processor, handler).setIncludePaths(includes).setExcludePaths(excludes);
+            EventParser.newEventParser().parse(data, settings);
+
+            final JSONNode node = handler.getResult();
+            if (result != null) {
+                assertEquals(result, node.toJSONString());
+            }
+            result = node.toJSONString();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,168 @@
+package org.ghotibeaun.json.parser.jep.processor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.ghotibeaun.json.exception.JSONEventParserException;
+import org.junit.Test;
+
+public class TestStreamReader {
+
+    private static final String DOCUMENT = "{\"id\": 42, \"name\": \"widget\", \"tags\": [\"a\", {\"b\": [1, 2]}], "
+            + "\"price\": 1.25, \"active\": true, \"parent\": null, \"count\": 7}";
+
+    @Test
+    public void testTokenSequence() throws IOException {
+        final List<String> tokens = new ArrayList<>();
+        try (JSONStreamReader reader = JSONStreamReader.newReader(stream("[1, {\"k\": \"v\"}, [], false, null]"))) {
+            JSONToken token;
+            while ((token = reader.next()) != null) {
+                tokens.add(token + ":" + reader.getText());
+            }
+            assertNull(reader.currentToken());
+            assertFalse(reader.hasNext());
+        }
+
+        assertEquals("[START_ARRAY:[, NUMBER:1, START_OBJECT:{, KEY:k, STRING:v, END_OBJECT:}, START_ARRAY:[, "
+                + "END_ARRAY:], BOOLEAN:false, NULL:null, END_ARRAY:]]", tokens.toString());
+    }
+
+    @Test
+    public void testReadHeaderAndStop() throws IOException {
+        try (JSONStreamReader reader = JSONStreamReader.newReader(stream(DOCUMENT))) {
+            assertEquals(JSONToken.START_OBJECT, reader.next());
+            assertEquals(JSONToken.KEY, reader.next());
+            assertEquals("id", reader.getText());
+            assertEquals(JSONToken.NUMBER, reader.next());
+            assertEquals(42L, reader.getLong());
+            assertEquals(42, reader.getInt());
+            assertEquals(JSONToken.KEY, reader.next());
+            assertEquals(JSONToken.STRING, reader.next());
+            assertEquals("widget", reader.getText());
+        }
+    }
+
+    @Test
+    public void testSkipChildren() throws IOException {
+        try (JSONStreamReader reader = JSONStreamReader.newReader(stream(DOCUMENT))) {
+            reader.next();
+            while (reader.next() == JSONToken.KEY) {
+                final String key = reader.getText();
+                final JSONToken value = reader.next();
+                if (key.equals("tags")) {
+                    assertEquals(JSONToken.START_ARRAY, value);
+                    reader.skipChildren();
+                    assertEquals(JSONToken.END_ARRAY, reader.currentToken());
+                } else if (key.equals("price")) {
+                    assertEquals(new BigDecimal("1.25"), reader.getBigDecimal());
+                    assertEquals(1.25, reader.getDouble(), 0);
+                } else if (key.equals("active")) {
+                    assertTrue(reader.getBoolean());
+                } else if (key.equals("count")) {
+                    reader.skipChildren();
+                    assertEquals(7L, reader.getLong());
+                }
+            }
+            assertEquals(JSONToken.END_OBJECT, reader.currentToken());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    public void testTokensSpanBlocks() throws IOException {
+        final List<String> expected = readAll(JSONStreamReader.newReader(resource("/makes.json")));
+
+        final JSONStreamReaderImpl reader = new JSONStreamReaderImpl(resource("/makes.json"));
+        reader.getProcessorSettings().setBlockSize(1);
+        assertEquals(expected, readAll(reader));
+        assertTrue(expected.size() > 100);
+    }
+
+    @Test
+    public void testHasNextKeepsCurrentToken() throws IOException {
+        final List<String> expected = readAll(JSONStreamReader.newReader(stream(DOCUMENT)));
+        final byte[] bytes = DOCUMENT.getBytes(StandardCharsets.UTF_8);
+
+        for (int readSize = 1; readSize <= bytes.length; readSize++) {
+            final List<String> tokens = new ArrayList<>();
+            try (JSONStreamReader reader = JSONStreamReader.newReader(chunked(bytes, readSize))) {
+                while (reader.next() != null) {
+                    final boolean more = reader.hasNext();
+                    final JSONToken token = reader.currentToken();
+                    if (token == JSONToken.NUMBER) {
+                        assertEquals(new BigDecimal(reader.getText()), reader.getBigDecimal());
+                    } else if (token == JSONToken.BOOLEAN) {
+                        assertTrue(reader.getBoolean());
+                    }
+                    tokens.add(token + ":" + reader.getText());
+                    assertEquals(token != JSONToken.END_OBJECT || tokens.size() < expected.size(), more);
+                }
+            }
+            assertEquals("read size " + readSize, expected, tokens);
+        }
+    }
+
+    @Test
+    public void testWrongTokenType() throws IOException {
+        try (JSONStreamReader reader = JSONStreamReader.newReader(stream(DOCUMENT))) {
+            reader.next();
+            reader.next();
+            reader.getLong();
+            fail("Expected a KEY token to be rejected as a number");
+        } catch (final JSONEventParserException e) {
+            assertTrue(e.getMessage().contains("Current token is KEY, not NUMBER"));
+        }
+    }
+
+    @Test
+    public void testUnclosedDocument() throws IOException {
+        try (JSONStreamReader reader = JSONStreamReader.newReader(stream("{\"a\": [1, 2]"))) {
+            while (reader.next() != null) {
+                // read to the end
+            }
+            fail("Expected an unclosed document to be rejected");
+        } catch (final JSONEventParserException e) {
+            assertTrue(e.getMessage().contains("not closed"));
+        }
+    }
+
+    private static List<String> readAll(JSONStreamReader reader) throws IOException {
+        final List<String> tokens = new ArrayList<>();
+        try {
+            while (reader.next() != null) {
+                tokens.add(reader.currentToken() + ":" + reader.getText());
+            }
+        } finally {
+            reader.close();
+        }
+        return tokens;
+    }
+
+    private static InputStream resource(String name) {
+        return TestStreamReader.class.getResourceAsStream(name);
+    }
+
+    private static InputStream chunked(byte[] data, int readSize) {
+        return new ByteArrayInputStream(data) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, readSize));
+            }
+        };
+    }
+
+    private static InputStream stream(String data) {
+        return new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8));
+    }
+}
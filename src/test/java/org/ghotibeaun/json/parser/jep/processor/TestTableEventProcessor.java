@@ -0,0 +1,115 @@
+package org.ghotibeaun.json.parser.jep.processor;
+
+import static org.ghotibeaun.json.parser.jep.processor.ProcessorTests.RESOURCES;
+import static org.ghotibeaun.json.parser.jep.processor.ProcessorTests.assertSameDocuments;
+import static org.ghotibeaun.json.parser.jep.processor.ProcessorTests.bind;
+import static org.ghotibeaun.json.parser.jep.processor.ProcessorTests.parse;
+import static org.ghotibeaun.json.parser.jep.processor.ProcessorTests.parseResource;
+import static org.ghotibeaun.json.parser.jep.processor.ProcessorTests.parseString;
+import static org.ghotibeaun.json.parser.jep.processor.ProcessorTests.stream;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.ghotibeaun.json.JSONNode;
+import org.ghotibeaun.json.exception.JSONEventParserException;
+import org.ghotibeaun.json.parser.jep.TestHandler;
+import org.ghotibeaun.json.parser.jep.eventhandler.event.JSONEvent;
+import org.junit.Test;
+
+public class TestTableEventProcessor {
+
+    @Test
+    public void testMatchesBufferedProcessor() throws IOException {
+        assertSameDocuments(JSONBufferedEventProcessor::new, JSONTableEventProcessor::new);
+    }
+
+    @Test
+    public void testEscapedValues() {
+        final String data = "{\"quote\": \"say \\\"hi\\\"\", \"path\": \"a\\\\b\", \"n\": -12.5e3, \"list\": [true, false, null, 42]}";
+        final JSONNode node = parseString(new JSONTableEventProcessor(), data, false);
+        assertEquals(parseString(new JSONBufferedEventProcessor(), data, false).toJSONString(), node.toJSONString());
+        assertEquals(42L, node.asJSONObject().getJSONArray("list").getLong(3));
+    }
+
+    @Test
+    public void testInvalidLiteral() {
+        try {
+            parseString(new JSONTableEventProcessor(), "{\"a\": tru}", false);
+            fail("Expected invalid boolean to be rejected");
+        } catch (final JSONEventParserException e) {
+            assertTrue(e.getMessage().startsWith("Unexpected boolean value"));
+        }
+    }
+
+    @Test
+    public void testStrictSolidus() {
+        try {
+            parseString(new JSONTableEventProcessor(), "{\"a\": \"http://example.com\"}", true);
+            fail("Expected unescaped solidus to be rejected in strict mode");
+        } catch (final JSONEventParserException e) {
+            assertTrue(e.getMessage().contains("solidus"));
+        }
+    }
+
+    @Test
+    public void testReuseEvents() throws IOException {
+        for (final String resource : RESOURCES) {
+            final String expected = parseResource(new JSONTableEventProcessor(), resource).toJSONString();
+            try (InputStream stream = getClass().getResourceAsStream(resource)) {
+                final String actual = parse(new JSONTableEventProcessor(), stream, false, true).toJSONString();
+                assertEquals(resource, expected, actual);
+            }
+        }
+    }
+
+    @Test
+    public void testReusedEventInstance() {
+        final Set<JSONEvent> events = Collections.newSetFromMap(new IdentityHashMap<>());
+        final TestHandler handler = new TestHandler() {
+            @Override
+            public void handleEvent(JSONEvent event) {
+                events.add(event);
+                super.handleEvent(event);
+            }
+        };
+        final EventProcessor processor = new JSONTableEventProcessor();
+        bind(processor, handler).setReuseEvents(true);
+        processor.start(stream("{\"a\": [1, \"two\", true, null]}"));
+        assertEquals(1, events.size());
+        assertEquals("{\"a\":[1,\"two\",true,null]}", handler.getResult().toJSONString());
+    }
+
+    @Test
+    public void testBufferSequence() {
+        final String data = "{\"quote\": \"say \\\"hi\\\"\", \"n\": -12.5e3, \"list\": [true, false, null, 42]}";
+        final String expected = parseString(new JSONTableEventProcessor(), data, false).toJSONString();
+        final byte[] bytes = data.getBytes(StandardCharsets.UTF_8);
+
+        for (final boolean direct : new boolean[] {false, true}) {
+            final List<ByteBuffer> buffers = new ArrayList<>();
+            for (int i = 0; i < bytes.length; i += 7) {
+                final int length = Math.min(7, bytes.length - i);
+                final ByteBuffer buffer = direct ? ByteBuffer.allocateDirect(length) : ByteBuffer.allocate(length + 2).position(1);
+                buffer.put(bytes, i, length).flip();
+                buffers.add(direct ? buffer : buffer.position(1).slice());
+            }
+
+            final TestHandler handler = new TestHandler();
+            final EventProcessor processor = new JSONTableEventProcessor();
+            bind(processor, handler);
+            processor.start(buffers.iterator());
+            assertEquals(expected, handler.getResult().toJSONString());
+        }
+    }
+}
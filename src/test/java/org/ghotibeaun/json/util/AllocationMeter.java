@@ -0,0 +1,140 @@
+package org.ghotibeaun.json.util;
+
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.Properties;
+
+/**
+ * Measures the bytes allocated by an operation on the current thread with
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}, and checks them against allocation budgets.
+ *
+ * <p>A budget is the number of bytes an operation may allocate for each byte it processes (equivalently, MB allocated
+ * per MB parsed, serialized or converted).  Budgets are read from <code>allocation-budgets.properties</code> on the
+ * test classpath, and a single budget can be overridden with the system property
+ * <code>allocation.budget.&lt;name&gt;</code>.</p>
+ *
+ * <p>An operation is run a few times first so that one-time allocations (class loading, caches, per-thread pipelines)
+ * aren't counted, and the smallest of several measured runs is used.  Budget checks are skipped on JVMs that can't
+ * measure thread allocation.</p>
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+public final class AllocationMeter {
+    private static final String BUDGETS = "/allocation-budgets.properties";
+    private static final String BUDGET_PROPERTY = "allocation.budget.";
+    private static final int WARMUPS = 5;
+    private static final int RUNS = 5;
+
+    private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+    private static final Properties budgets = loadBudgets();
+
+    private AllocationMeter() {
+        //private to prevent instantiation
+    }
+
+    /**
+     * Return whether thread allocation can be measured on this JVM
+     * @return <code>true</code> if allocation can be measured
+     */
+    public static boolean isSupported() {
+        return THREADS != null && THREADS.isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * Return the number of bytes allocated by the current thread since it started
+     * @return the number of bytes
+     */
+    public static long allocatedBytes() {
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Measure the bytes allocated by a single run of an operation
+     * @param operation the operation
+     * @return the number of bytes allocated on the current thread
+     */
+    public static long measure(Runnable operation) {
+        final long start = allocatedBytes();
+        operation.run();
+        return allocatedBytes() - start;
+    }
+
+    /**
+     * Measure the bytes allocated by an operation once it has been warmed up
+     * @param operation the operation
+     * @return the fewest bytes allocated by any of the measured runs
+     */
+    public static long measureSteadyState(Runnable operation) {
+        for (int i = 0; i < WARMUPS; i++) {
+            operation.run();
+        }
+
+        long allocated = Long.MAX_VALUE;
+        for (int i = 0; i < RUNS; i++) {
+            allocated = Math.min(allocated, measure(operation));
+        }
+        return allocated;
+    }
+
+    /**
+     * Return a budget
+     * @param name the budget name
+     * @return the bytes that may be allocated per byte processed
+     * @throws IllegalArgumentException if the budget isn't configured
+     */
+    public static double getBudget(String name) {
+        final String value = System.getProperty(BUDGET_PROPERTY + name, budgets.getProperty(name));
+        if (value == null) {
+            throw new IllegalArgumentException("No allocation budget configured for " + name);
+        }
+        return Double.parseDouble(value);
+    }
+
+    /**
+     * Fail if an operation allocates more than its budget
+     * @param name the budget name
+     * @param size the number of bytes the operation processes (the input parsed or converted, or the output written)
+     * @param operation the operation
+     * @return the bytes allocated per byte processed
+     */
+    public static double assertWithinBudget(String name, long size, Runnable operation) {
+        assumeTrue("Thread allocation can't be measured on this JVM", isSupported());
+
+        final double budget = getBudget(name);
+        final double perByte = (double)measureSteadyState(operation) / size;
+        if (perByte > budget) {
+            fail(String.format("%s allocated %.2f MB per MB processed, which exceeds its budget of %.2f MB per MB", name, perByte, budget));
+        }
+        return perByte;
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean)bean;
+        if (threads.isThreadAllocatedMemorySupported() && !threads.isThreadAllocatedMemoryEnabled()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+        }
+        return threads;
+    }
+
+    private static Properties loadBudgets() {
+        final Properties properties = new Properties();
+        try (InputStream in = AllocationMeter.class.getResourceAsStream(BUDGETS)) {
+            if (in != null) {
+                properties.load(in);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return properties;
+    }
+}
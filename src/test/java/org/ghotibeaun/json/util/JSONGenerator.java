@@ -0,0 +1,625 @@
+package org.ghotibeaun.json.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/**
+ * Generates synthetic JSON documents of any size for performance tests.  Output is written straight to a stream as it
+ * is generated, so no DOM is built and multi-GB files can be produced at the speed of the disk.  The same seed and
+ * settings always produce the same bytes.
+ *
+ * <p>The shape of the output is configurable:</p>
+ * <ul>
+ *  <li><b>depth</b>: the maximum number of nested objects and arrays in a record, counting the record itself</li>
+ *  <li><b>fan-out</b>: the range of the number of members in each object</li>
+ *  <li><b>array length</b>: the range of the number of elements in each array.  Each array holds a single kind of value
+ *      (objects, arrays, strings, one kind of number, booleans), or occasionally a mix</li>
+ *  <li><b>key cardinality</b>: the number of distinct keys used across the document.  Keys within an object are unique
+ *      as long as the fan-out doesn't exceed the cardinality</li>
+ *  <li><b>container ratio</b>: the probability that a value below the maximum depth is an object or an array</li>
+ *  <li><b>string length</b>: the range of string lengths in characters, where an escape sequence counts as one character</li>
+ *  <li><b>number mix</b>: relative weights of ints, longs, doubles and big values (integers too large for a long, and
+ *      decimals with more digits than a double can hold)</li>
+ *  <li><b>escape and unicode ratios</b>: the probability that a string character is an escape sequence, or a non-ASCII
+ *      character (2, 3 and 4 byte UTF-8 sequences)</li>
+ * </ul>
+ *
+ * <p>{@link #write(OutputStream, long)} writes a root array of records until a target size is reached,
+ * {@link #writeLines(OutputStream, long)} writes one record per line, and {@link #writeDocument(OutputStream)} writes a
+ * single record.  For example, a 2 GB file of deep, string-heavy records:</p>
+ *
+ * <pre>
+ * new JSONGenerator().setDepth(12).setStringLength(16, 512).setEscapeRatio(0.05).write(path, 2L &lt;&lt; 30);
+ * </pre>
+ * @author Jim Earley (xml.jim@gmail.com)
+ *
+ */
+public final class JSONGenerator {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MIN_POOL_CHARS = 1 << 16;
+    private static final byte[] ALPHABET = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789     ".getBytes(StandardCharsets.US_ASCII);
+    private static final String[] ESCAPES = {"\\\"", "\\\\", "\\/", "\\b", "\\f", "\\n", "\\r", "\\t", "\\u00e9", "\\u2603", "\\ud83d\\ude00"};
+    private static final byte[] TRUE_BYTES = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE_BYTES = "false".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL_BYTES = "null".getBytes(StandardCharsets.US_ASCII);
+
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    // kinds of value
+    private static final int OBJECT = 0;
+    private static final int ARRAY = 1;
+    private static final int STRING = 2;
+    private static final int NUMBER = 3;
+    private static final int BOOLEAN = 4;
+    private static final int NULL = 5;
+
+    // kinds of number
+    private static final int INT = 0;
+    private static final int LONG = 1;
+    private static final int DOUBLE = 2;
+    private static final int BIG = 3;
+
+    private long seed = 42;
+    private int depth = 4;
+    private int minFanOut = 2;
+    private int maxFanOut = 8;
+    private int minArrayLength = 0;
+    private int maxArrayLength = 8;
+    private int keyCardinality = 128;
+    private double containerRatio = 0.2;
+    private int minStringLength = 4;
+    private int maxStringLength = 32;
+    private final int[] numberWeights = {4, 2, 3, 1};
+    private double escapeRatio = 0.01;
+    private double unicodeRatio = 0.02;
+
+    public JSONGenerator() {
+
+    }
+
+    /**
+     * Set the seed for the random generator
+     * @param seed the seed
+     * @return this generator
+     */
+    public JSONGenerator setSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Set the maximum nesting depth of each record
+     * @param depth the depth, where 1 is a record without nested objects or arrays
+     * @return this generator
+     */
+    public JSONGenerator setDepth(int depth) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Depth must be at least 1");
+        }
+        this.depth = depth;
+        return this;
+    }
+
+    /**
+     * Set the range of the number of members in each object
+     * @param min the minimum number of members
+     * @param max the maximum number of members
+     * @return this generator
+     */
+    public JSONGenerator setFanOut(int min, int max) {
+        checkRange(min, max);
+        minFanOut = min;
+        maxFanOut = max;
+        return this;
+    }
+
+    /**
+     * Set the range of the number of elements in each array
+     * @param min the minimum number of elements
+     * @param max the maximum number of elements
+     * @return this generator
+     */
+    public JSONGenerator setArrayLength(int min, int max) {
+        checkRange(min, max);
+        minArrayLength = min;
+        maxArrayLength = max;
+        return this;
+    }
+
+    /**
+     * Set the number of distinct keys
+     * @param keyCardinality the number of keys
+     * @return this generator
+     */
+    public JSONGenerator setKeyCardinality(int keyCardinality) {
+        if (keyCardinality < 1) {
+            throw new IllegalArgumentException("Key cardinality must be at least 1");
+        }
+        this.keyCardinality = keyCardinality;
+        return this;
+    }
+
+    /**
+     * Set the probability that a value below the maximum depth is an object or an array
+     * @param containerRatio the probability, from 0 to 1
+     * @return this generator
+     */
+    public JSONGenerator setContainerRatio(double containerRatio) {
+        this.containerRatio = checkRatio(containerRatio);
+        return this;
+    }
+
+    /**
+     * Set the range of string lengths in characters
+     * @param min the minimum length
+     * @param max the maximum length
+     * @return this generator
+     */
+    public JSONGenerator setStringLength(int min, int max) {
+        checkRange(min, max);
+        minStringLength = min;
+        maxStringLength = max;
+        return this;
+    }
+
+    /**
+     * Set the relative weights of each kind of number.  A weight of 0 excludes that kind.
+     * @param ints the weight of int values
+     * @param longs the weight of long values outside the range of an int
+     * @param doubles the weight of double values
+     * @param bigs the weight of integers too large for a long, and decimals with more digits than a double can hold
+     * @return this generator
+     */
+    public JSONGenerator setNumberMix(int ints, int longs, int doubles, int bigs) {
+        if (ints < 0 || longs < 0 || doubles < 0 || bigs < 0 || ints + longs + doubles + bigs == 0) {
+            throw new IllegalArgumentException("Number weights must not be negative, and at least one must be positive");
+        }
+        numberWeights[INT] = ints;
+        numberWeights[LONG] = longs;
+        numberWeights[DOUBLE] = doubles;
+        numberWeights[BIG] = bigs;
+        return this;
+    }
+
+    /**
+     * Set the probability that a string character is an escape sequence
+     * @param escapeRatio the probability, from 0 to 1
+     * @return this generator
+     */
+    public JSONGenerator setEscapeRatio(double escapeRatio) {
+        this.escapeRatio = checkRatio(escapeRatio);
+        return this;
+    }
+
+    /**
+     * Set the probability that a string character is a non-ASCII character
+     * @param unicodeRatio the probability, from 0 to 1
+     * @return this generator
+     */
+    public JSONGenerator setUnicodeRatio(double unicodeRatio) {
+        this.unicodeRatio = checkRatio(unicodeRatio);
+        return this;
+    }
+
+    /**
+     * Write a root array of records.  Records are added until at least <code>size</code> bytes have been written, so
+     * the output is slightly larger than the target.
+     * @param out the stream.  It is flushed, but not closed.
+     * @param size the target size in bytes
+     * @return the number of bytes written
+     */
+    public long write(OutputStream out, long size) {
+        final Emitter emitter = new Emitter(out);
+        emitter.write('[');
+        for (boolean first = true; first || emitter.count() < size - 1; first = false) {
+            if (!first) {
+                emitter.write(',');
+            }
+            emitter.object(1);
+        }
+        emitter.write(']');
+        return emitter.finish();
+    }
+
+    /**
+     * Write a root array of records to a file
+     * @param path the file, which is created or replaced
+     * @param size the target size in bytes
+     * @return the number of bytes written
+     */
+    public long write(Path path, long size) {
+        try (OutputStream out = Files.newOutputStream(path)) {
+            return write(out, size);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write a root array of records to an array
+     * @param size the target size in bytes
+     * @return the document's UTF-8 bytes
+     */
+    public byte[] toBytes(int size) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(size + BUFFER_SIZE);
+        write(out, size);
+        return out.toByteArray();
+    }
+
+    /**
+     * Write line-delimited records, one per line, until at least <code>size</code> bytes have been written
+     * @param out the stream.  It is flushed, but not closed.
+     * @param size the target size in bytes
+     * @return the number of bytes written
+     */
+    public long writeLines(OutputStream out, long size) {
+        final Emitter emitter = new Emitter(out);
+        do {
+            emitter.object(1);
+            emitter.write('\n');
+        } while (emitter.count() < size);
+        return emitter.finish();
+    }
+
+    /**
+     * Write a single record
+     * @param out the stream.  It is flushed, but not closed.
+     * @return the number of bytes written
+     */
+    public long writeDocument(OutputStream out) {
+        final Emitter emitter = new Emitter(out);
+        emitter.object(1);
+        return emitter.finish();
+    }
+
+    private static void checkRange(int min, int max) {
+        if (min < 0 || max < min) {
+            throw new IllegalArgumentException("Invalid range: " + min + " to " + max);
+        }
+    }
+
+    private static double checkRatio(double ratio) {
+        if (ratio < 0 || ratio > 1) {
+            throw new IllegalArgumentException("Ratio must be between 0 and 1: " + ratio);
+        }
+        return ratio;
+    }
+
+    /**
+     * The state of a single write: the random generator, the encoded keys and string pool, and an output buffer
+     */
+    private final class Emitter {
+        private final OutputStream out;
+        private final SplittableRandom random = new SplittableRandom(seed);
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int position;
+        private long flushed;
+
+        private final byte[][] keys;
+        private final int numberTotal;
+
+        // string pool: the UTF-8 bytes of random characters, and the offset of each character
+        private byte[] pool;
+        private int[] poolOffsets;
+
+        Emitter(OutputStream out) {
+            this.out = out;
+            keys = new byte[keyCardinality][];
+            for (int i = 0; i < keyCardinality; i++) {
+                keys[i] = encodeKey(i);
+            }
+            numberTotal = numberWeights[INT] + numberWeights[LONG] + numberWeights[DOUBLE] + numberWeights[BIG];
+            buildPool();
+        }
+
+        long count() {
+            return flushed + position;
+        }
+
+        long finish() {
+            flush();
+            try {
+                out.flush();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return flushed;
+        }
+
+        void object(int level) {
+            write('{');
+            final int members = range(minFanOut, maxFanOut);
+            final int start = random.nextInt(keyCardinality);
+            for (int i = 0; i < members; i++) {
+                if (i > 0) {
+                    write(',');
+                }
+                write(keys[(start + i) % keyCardinality]);
+                value(nextKind(level), level);
+            }
+            write('}');
+        }
+
+        private void array(int level) {
+            write('[');
+            final int length = range(minArrayLength, maxArrayLength);
+            // most arrays hold a single kind of value; the rest are mixed
+            final boolean mixed = random.nextInt(8) == 0;
+            int kind = nextKind(level);
+            final int numberKind = nextNumberKind();
+            for (int i = 0; i < length; i++) {
+                if (i > 0) {
+                    write(',');
+                }
+                if (mixed) {
+                    kind = nextKind(level);
+                }
+                if (kind == NUMBER && !mixed) {
+                    number(numberKind);
+                } else {
+                    value(kind, level);
+                }
+            }
+            write(']');
+        }
+
+        private void value(int kind, int level) {
+            switch (kind) {
+                case OBJECT:
+                    object(level + 1);
+                    break;
+                case ARRAY:
+                    array(level + 1);
+                    break;
+                case STRING:
+                    string();
+                    break;
+                case NUMBER:
+                    number(nextNumberKind());
+                    break;
+                case BOOLEAN:
+                    write(random.nextBoolean() ? TRUE_BYTES : FALSE_BYTES);
+                    break;
+                default:
+                    write(NULL_BYTES);
+            }
+        }
+
+        /**
+         * The kind of a value inside a container at the given level: a nested container while there is depth left,
+         * otherwise strings and numbers, with fewer booleans and nulls
+         */
+        private int nextKind(int level) {
+            if (level < depth && random.nextDouble() < containerRatio) {
+                return random.nextBoolean() ? OBJECT : ARRAY;
+            }
+            final int pick = random.nextInt(10);
+            return pick < 4 ? STRING : pick < 8 ? NUMBER : pick < 9 ? BOOLEAN : NULL;
+        }
+
+        private int nextNumberKind() {
+            int pick = random.nextInt(numberTotal);
+            int kind = INT;
+            while (pick >= numberWeights[kind]) {
+                pick -= numberWeights[kind];
+                kind++;
+            }
+            return kind;
+        }
+
+        private void string() {
+            final int length = range(minStringLength, maxStringLength);
+            final int start = random.nextInt(poolOffsets.length - length);
+            write('"');
+            write(pool, poolOffsets[start], poolOffsets[start + length] - poolOffsets[start]);
+            write('"');
+        }
+
+        private void number(int kind) {
+            switch (kind) {
+                case INT:
+                    writeLong(random.nextInt() >> random.nextInt(32));
+                    break;
+                case LONG:
+                    final long value = random.nextLong() >> random.nextInt(32);
+                    writeLong(value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE ? value + (1L << 40) : value);
+                    break;
+                case DOUBLE:
+                    decimal();
+                    break;
+                default:
+                    bigNumber();
+            }
+        }
+
+        /**
+         * A decimal of 2 to 17 significant digits, some with an exponent.  The digits are written directly, since
+         * formatting a random double with {@link Double#toString(double)} would be the slowest part of generation.
+         */
+        private void decimal() {
+            final int digits = range(2, 17);
+            final int point = random.nextInt(digits);
+            // room for the sign, digits, point and exponent, so writeLong doesn't flush part way through
+            ensure(48);
+            if (random.nextBoolean()) {
+                buffer[position++] = '-';
+            }
+            if (point == 0) {
+                buffer[position++] = '0';
+                buffer[position++] = '.';
+                writeLong(random.nextLong(POWERS_OF_TEN[digits - 1], POWERS_OF_TEN[digits]));
+            } else {
+                // write the digits, then shift the fraction along to make room for the point
+                final int start = position;
+                writeLong(random.nextLong(POWERS_OF_TEN[digits - 1], POWERS_OF_TEN[digits]));
+                System.arraycopy(buffer, start + point, buffer, start + point + 1, digits - point);
+                buffer[start + point] = '.';
+                position++;
+            }
+            if (random.nextInt(8) == 0) {
+                buffer[position++] = 'e';
+                writeLong(random.nextInt(-30, 31));
+            }
+        }
+
+        /**
+         * An integer of 20 to 40 digits, or a decimal with 17 to 30 significant digits and an exponent
+         */
+        private void bigNumber() {
+            if (random.nextBoolean()) {
+                write('-');
+            }
+            final boolean decimal = random.nextBoolean();
+            final int digits = decimal ? range(17, 30) : range(20, 40);
+            ensure(digits + 7);
+            buffer[position++] = (byte) ('1' + random.nextInt(9));
+            if (decimal) {
+                buffer[position++] = '.';
+            }
+            for (int i = 1; i < digits; i++) {
+                buffer[position++] = (byte) ('0' + random.nextInt(10));
+            }
+            if (decimal) {
+                buffer[position++] = 'e';
+                writeLong(random.nextInt(-300, 301));
+            }
+        }
+
+        private void writeLong(long value) {
+            ensure(20);
+            if (value == Long.MIN_VALUE) {
+                writeAscii(Long.toString(value));
+                return;
+            }
+            if (value < 0) {
+                buffer[position++] = '-';
+                value = -value;
+            }
+            int digits = 1;
+            for (long bound = 10; digits < 19 && value >= bound; bound *= 10) {
+                digits++;
+            }
+            for (int i = position + digits - 1; i >= position; i--) {
+                buffer[i] = (byte) ('0' + value % 10);
+                value /= 10;
+            }
+            position += digits;
+        }
+
+        private void writeAscii(String text) {
+            ensure(text.length());
+            for (int i = 0; i < text.length(); i++) {
+                buffer[position++] = (byte) text.charAt(i);
+            }
+        }
+
+        void write(int byt) {
+            ensure(1);
+            buffer[position++] = (byte) byt;
+        }
+
+        private void write(byte[] bytes) {
+            write(bytes, 0, bytes.length);
+        }
+
+        private void write(byte[] bytes, int offset, int length) {
+            if (length > BUFFER_SIZE) {
+                flush();
+                writeOut(bytes, offset, length);
+                flushed += length;
+            } else {
+                ensure(length);
+                System.arraycopy(bytes, offset, buffer, position, length);
+                position += length;
+            }
+        }
+
+        private void ensure(int length) {
+            if (position + length > BUFFER_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            writeOut(buffer, 0, position);
+            flushed += position;
+            position = 0;
+        }
+
+        private void writeOut(byte[] bytes, int offset, int length) {
+            try {
+                out.write(bytes, offset, length);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private int range(int min, int max) {
+            return min == max ? min : random.nextInt(min, max + 1);
+        }
+
+        /**
+         * A key of 3 to 12 letters, made unique by a suffix
+         */
+        private byte[] encodeKey(int index) {
+            final StringBuilder key = new StringBuilder("\"");
+            for (int i = range(3, 12); i > 0; i--) {
+                key.append((char) ('a' + random.nextInt(26)));
+            }
+            return key.append('_').append(index).append("\":").toString().getBytes(StandardCharsets.US_ASCII);
+        }
+
+        /**
+         * Generate the characters that strings are copied from.  Each string is a run of characters starting at a random
+         * offset, so the escape and unicode ratios hold across the document without generating every character.
+         */
+        private void buildPool() {
+            final int chars = Math.max(MIN_POOL_CHARS, maxStringLength * 2);
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream(chars * 2);
+            poolOffsets = new int[chars + 1];
+            for (int i = 0; i < chars; i++) {
+                poolOffsets[i] = bytes.size();
+                final double pick = random.nextDouble();
+                if (pick < escapeRatio) {
+                    final byte[] escape = ESCAPES[random.nextInt(ESCAPES.length)].getBytes(StandardCharsets.US_ASCII);
+                    bytes.write(escape, 0, escape.length);
+                } else if (pick < escapeRatio + unicodeRatio) {
+                    final byte[] encoded = new String(Character.toChars(nextCodePoint())).getBytes(StandardCharsets.UTF_8);
+                    bytes.write(encoded, 0, encoded.length);
+                } else {
+                    bytes.write(ALPHABET[random.nextInt(ALPHABET.length)]);
+                }
+            }
+            poolOffsets[chars] = bytes.size();
+            pool = bytes.toByteArray();
+        }
+
+        /**
+         * A non-ASCII code point that encodes to 2, 3 or 4 bytes of UTF-8
+         */
+        private int nextCodePoint() {
+            switch (random.nextInt(3)) {
+                case 0:
+                    return random.nextInt(0xa0, 0x800);
+                case 1:
+                    final int codePoint = random.nextInt(0x800, 0xfffe);
+                    return Character.isSurrogate((char) codePoint) ? 0x4e00 + (codePoint & 0xfff) : codePoint;
+                default:
+                    return random.nextInt(0x10000, 0x110000);
+            }
+        }
+    }
+}
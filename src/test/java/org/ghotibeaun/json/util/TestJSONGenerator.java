@@ -0,0 +1,111 @@
+package org.ghotibeaun.json.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.ghotibeaun.json.JSONArray;
+import org.ghotibeaun.json.JSONFactory;
+import org.ghotibeaun.json.JSONNode;
+import org.ghotibeaun.json.JSONObject;
+import org.ghotibeaun.json.JSONValue;
+import org.ghotibeaun.json.parser.JSONParser;
+import org.junit.Test;
+
+public class TestJSONGenerator {
+
+    @Test
+    public void testDeterministic() {
+        final byte[] first = new JSONGenerator().setSeed(7).toBytes(100000);
+        assertArrayEquals(first, new JSONGenerator().setSeed(7).toBytes(100000));
+        assertFalse(Arrays.equals(first, new JSONGenerator().setSeed(8).toBytes(100000)));
+    }
+
+    @Test
+    public void testParsesAtTargetSize() {
+        final JSONGenerator generator = new JSONGenerator()
+                .setDepth(6)
+                .setStringLength(0, 200)
+                .setEscapeRatio(0.1)
+                .setUnicodeRatio(0.1)
+                .setNumberMix(1, 1, 1, 0);
+        final byte[] data = generator.toBytes(1 << 20);
+        assertTrue(data.length >= 1 << 20);
+        assertTrue(data.length < (1 << 20) + 100000);
+
+        final JSONParser parser = JSONFactory.newFactory().newParser();
+        final JSONNode fromBytes = parser.parse(new ByteArrayInputStream(data));
+        final JSONNode fromString = parser.parse(new String(data, StandardCharsets.UTF_8));
+        assertTrue(fromBytes.isArray());
+        assertEquals(fromString.toJSONString(), fromBytes.toJSONString());
+
+        // the string parser reads big integers as strings, so big values are only checked with the byte parser
+        assertTrue(parser.parse(new ByteArrayInputStream(generator.setNumberMix(0, 0, 0, 1).toBytes(1 << 16))).isArray());
+    }
+
+    @Test
+    public void testShape() {
+        final JSONArray records = JSONFactory.newFactory().newParser().parse(new ByteArrayInputStream(new JSONGenerator()
+                .setDepth(3)
+                .setFanOut(4, 4)
+                .setKeyCardinality(10)
+                .setContainerRatio(1)
+                .setArrayLength(2, 2)
+                .toBytes(50000))).asJSONArray();
+
+        final Set<String> keys = new HashSet<>();
+        for (final JSONValue<?> record : records) {
+            final JSONObject object = ((JSONNode) record.getValue()).asJSONObject();
+            assertEquals(4, object.size());
+            assertEquals(3, depth(object));
+            object.keySet().forEachRemaining(keys::add);
+        }
+        assertEquals(10, keys.size());
+    }
+
+    @Test
+    public void testWriteLines() {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final long size = new JSONGenerator().writeLines(out, 100000);
+        assertEquals(size, out.size());
+
+        final String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        final JSONParser parser = JSONFactory.newFactory().newParser();
+        assertEquals(lines.length, parser.parseLines(new ByteArrayInputStream(out.toByteArray())).count());
+        assertTrue(parser.parse(lines[0]).isObject());
+    }
+
+    @Test
+    public void testWriteFile() throws IOException {
+        final Path path = Files.createTempFile("generated", ".json");
+        try {
+            final long size = new JSONGenerator().setStringLength(100000, 200000).write(path, 1 << 20);
+            assertEquals(size, Files.size(path));
+            assertTrue(JSONFactory.newFactory().newParser().parse(path).isArray());
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    private static int depth(JSONNode node) {
+        int max = 0;
+        final Iterable<JSONValue<?>> values = node.isArray() ? node.asJSONArray() : node.asJSONObject().values();
+        for (final JSONValue<?> value : values) {
+            if (value.getValue() instanceof JSONNode) {
+                max = Math.max(max, depth((JSONNode) value.getValue()));
+            }
+        }
+        return max + 1;
+    }
+}